@@ -0,0 +1,242 @@
+package org.example.reactive.loadtest;
+
+import org.example.PlayerServiceApplication;
+import org.example.dtos.PlayerDTO;
+import org.example.reactive.ReactiveReadApplication;
+import org.example.services.PlayerService;
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.Positions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Requests per second, peak heap and peak platform threads of the player list endpoint with
+ * {@code loadtest.connections} concurrent connections (5,000 by default), on the servlet stack
+ * with platform and virtual threads and on the reactive stack.
+ * <p>
+ * All stacks read the same data from one in-memory H2 database, seeded through the servlet
+ * service. For MySQL pass {@code -Dloadtest.datasource.url=jdbc:mysql://...} together with
+ * {@code -Dloadtest.r2dbc.url=r2dbc:mysql://...} (and {@code loadtest.datasource.username} /
+ * {@code loadtest.datasource.password}). The client runs in the same JVM, so heap and thread
+ * figures are comparable between stacks rather than absolute. Raise the open file limit
+ * ({@code ulimit -n}) above twice the connection count first.
+ */
+class ReadStackBenchmark {
+
+    private static final int CONNECTIONS = Integer.getInteger("loadtest.connections", 5_000);
+    private static final int PLAYERS = Integer.getInteger("loadtest.players", 2_000);
+    private static final int PAGE_SIZE = Integer.getInteger("loadtest.page-size", 20);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Long.getLong("loadtest.seconds", 20));
+
+    private static final String JDBC_URL = System.getProperty("loadtest.datasource.url",
+            "jdbc:h2:mem:readstack;DB_CLOSE_DELAY=-1");
+    private static final boolean H2 = JDBC_URL.startsWith("jdbc:h2");
+    private static final String R2DBC_URL = System.getProperty("loadtest.r2dbc.url",
+            "r2dbc:h2:mem:///readstack;DB_CLOSE_DELAY=-1");
+    private static final String USERNAME = System.getProperty("loadtest.datasource.username", H2 ? "sa" : "root");
+    private static final String PASSWORD = System.getProperty("loadtest.datasource.password", H2 ? "" : "root");
+
+    private record Result(String stack, double requestsPerSecond, long errors, long peakHeapMb, int peakThreads) {
+    }
+
+    /**
+     * Makes the reactive application run on Netty even though Tomcat is on the benchmark classpath
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class NettyServer {
+        @Bean
+        NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+            return new NettyReactiveWebServerFactory();
+        }
+    }
+
+    @Test
+    void compareServletAndReactiveReads() throws Exception {
+        List<Result> results = new ArrayList<>();
+        // The first servlet instance owns the schema and the data for the whole run
+        try (ConfigurableApplicationContext owner = startServlet(false, "create-drop")) {
+            seed(owner.getBean(PlayerService.class));
+            results.add(measure("servlet, platform threads", port(owner)));
+            try (ConfigurableApplicationContext servlet = startServlet(true, "none")) {
+                results.add(measure("servlet, virtual threads", port(servlet)));
+            }
+            try (ConfigurableApplicationContext reactive = startReactive()) {
+                results.add(measure("webflux + r2dbc", port(reactive)));
+            }
+        }
+
+        System.out.printf("%,d connections, pages of %d players%n", CONNECTIONS, PAGE_SIZE);
+        System.out.printf("%-28s %12s %8s %14s %14s%n", "stack", "requests/s", "errors", "peak heap MB", "peak threads");
+        for (Result result : results) {
+            System.out.printf("%-28s %,12.0f %8d %14d %14d%n", result.stack(), result.requestsPerSecond(),
+                    result.errors(), result.peakHeapMb(), result.peakThreads());
+        }
+    }
+
+    private Result measure(String stack, int port) throws Exception {
+        URI base = URI.create("http://localhost:" + port + "/api/players");
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        int pages = Math.max(1, PLAYERS / PAGE_SIZE);
+
+        // Warm up the connection pools and the JIT before sampling
+        for (int i = 0; i < 200; i++) {
+            get(client, page(base, i % pages));
+        }
+        System.gc();
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        AtomicLong peakHeap = new AtomicLong();
+        AtomicLong peakThreads = new AtomicLong();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+            peakThreads.accumulateAndGet(threads.getThreadCount(), Math::max);
+        }, 0, 100, TimeUnit.MILLISECONDS);
+
+        AtomicLong ok = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        long start = System.nanoTime();
+        long deadline = start + MEASUREMENT.toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONNECTIONS; i++) {
+                clients.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        if (get(client, page(base, ThreadLocalRandom.current().nextInt(pages))) == 200)
+                            ok.incrementAndGet();
+                        else
+                            errors.incrementAndGet();
+                    }
+                });
+            }
+            clients.shutdown();
+            assertThat(clients.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        } finally {
+            sampler.shutdownNow();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return new Result(stack, ok.get() / seconds, errors.get(), peakHeap.get() / (1024 * 1024),
+                (int) peakThreads.get());
+    }
+
+    private static URI page(URI base, int page) {
+        return URI.create(base + "?sortBy=NAME&page=" + page + "&size=" + PAGE_SIZE);
+    }
+
+    private static int get(HttpClient client, URI uri) {
+        try {
+            return client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding())
+                    .statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    private static ConfigurableApplicationContext startServlet(boolean virtualThreads, String ddlAuto) {
+        return new SpringApplicationBuilder(PlayerServiceApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.port=0",
+                        "spring.datasource.url=" + JDBC_URL,
+                        "spring.datasource.username=" + USERNAME,
+                        "spring.datasource.password=" + PASSWORD,
+                        "spring.datasource.driver-class-name=" + (H2 ? "org.h2.Driver" : "com.mysql.cj.jdbc.Driver"),
+                        "spring.jpa.properties.hibernate.dialect=" + (H2
+                                ? "org.hibernate.dialect.H2Dialect"
+                                : "org.hibernate.dialect.MySQLDialect"),
+                        "spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "spring.jpa.show-sql=false",
+                        // Measure the read path itself, not the query cache in front of it
+                        "player.query-cache.max-players=0",
+                        // One pool of the same size as the reactive one, no shedding
+                        "player.concurrency-limit.enabled=false",
+                        "player.db.partitioned-pools.enabled=false",
+                        "spring.autoconfigure.exclude="
+                                + "org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "logging.level.org.example=WARN")
+                .run();
+    }
+
+    private static ConfigurableApplicationContext startReactive() {
+        return new SpringApplicationBuilder(ReactiveReadApplication.class, NettyServer.class)
+                .web(WebApplicationType.REACTIVE)
+                .properties(
+                        "spring.config.name=" + ReactiveReadApplication.CONFIG_NAME,
+                        "server.port=0",
+                        "spring.r2dbc.url=" + R2DBC_URL,
+                        "spring.r2dbc.username=" + USERNAME,
+                        "spring.r2dbc.password=" + PASSWORD,
+                        // The servlet service's JDBC, JPA and security stack is on this classpath too
+                        "spring.autoconfigure.exclude="
+                                + "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.security.reactive.ReactiveSecurityAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration,"
+                                + "org.springframework.boot.actuate.autoconfigure.security.reactive.ReactiveManagementWebSecurityAutoConfiguration",
+                        "logging.level.org.example=WARN")
+                .run();
+    }
+
+    private static void seed(PlayerService playerService) {
+        Nationality[] nationalities = Nationality.values();
+        Positions[] positions = Positions.values();
+        List<PlayerDTO> players = new ArrayList<>(PLAYERS);
+        for (int i = 0; i < PLAYERS; i++) {
+            players.add(new PlayerDTO(null, "Bench" + i, "Reader", Set.of(nationalities[i % nationalities.length]),
+                    LocalDate.of(1990, 1, 1).plusDays(i), Set.of(positions[i % positions.length]), 1.70 + (i % 30) / 100.0,
+                    null, null, null));
+        }
+        for (int from = 0; from < PLAYERS; from += 500) {
+            playerService.createPlayers(players.subList(from, Math.min(PLAYERS, from + 500)));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.reactive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.dtos.PlayerDTO;
+import org.example.utils.ETags;
+import org.example.utils.PlayerFilter;
+import org.example.utils.enums.SortBy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Non-blocking variant of the player list and detail endpoints.
+ * <p>
+ * The list is streamed as a JSON array (or newline-delimited JSON with
+ * {@code Accept: application/x-ndjson}) while rows arrive from the database,
+ * instead of the page envelope of the servlet service.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/players")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePlayerController {
+
+    private final ReactivePlayerRepository playerRepository;
+    private final int maxPageSize;
+
+    @Autowired
+    public ReactivePlayerController(ReactivePlayerRepository playerRepository,
+            @Value("${player.reactive.max-page-size:10000}") int maxPageSize) {
+        this.playerRepository = playerRepository;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * Get a player by ID.
+     *
+     * @param id          the player ID
+     * @param ifNoneMatch the ETag of the client copy (optional)
+     * @return the player with its ETag, or 304 if the client copy is current
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<PlayerDTO>> getPlayerById(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return playerRepository.findById(id)
+                .map(player -> ETags.matches(ifNoneMatch, player.getVersion())
+                        ? ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(ETags.of(player.getVersion())).<PlayerDTO>build()
+                        : ResponseEntity.ok().eTag(ETags.of(player.getVersion())).body(player))
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Player not found")));
+    }
+
+    /**
+     * Stream one page of players, with the filters and sorting of the servlet list endpoint.
+     *
+     * @param name          filter by full name (first + last)
+     * @param nationalities filter by nationalities (intersection)
+     * @param minAge        minimum age
+     * @param maxAge        maximum age
+     * @param positions     filter by positions (intersection)
+     * @param minHeight     minimum height
+     * @param maxHeight     maximum height
+     * @param sortBy        sorting field
+     * @param order         sorting order (asc/desc)
+     * @param page          page number
+     * @param size          page size
+     * @return the players of the page
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<PlayerDTO> getPlayers(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) List<String> nationalities,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxAge,
+            @RequestParam(required = false) List<String> positions,
+            @RequestParam(required = false) Double minHeight,
+            @RequestParam(required = false) Double maxHeight,
+            @RequestParam(required = false, defaultValue = "NAME") SortBy sortBy,
+            @RequestParam(required = false, defaultValue = "asc") String order,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        if (page < 0 || size < 1 || size > maxPageSize)
+            return Flux.error(new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Page must be >= 0 and size between 1 and " + maxPageSize));
+
+        PlayerFilter filter;
+        try {
+            filter = PlayerFilter.of(name, nationalities, minAge, maxAge, positions, minHeight, maxHeight);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected player filter: {}", e.getMessage());
+            return Flux.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Illegal nationality or position filter"));
+        }
+        return playerRepository.findAll(filter, LocalDate.now(), sortBy, order, page, size);
+    }
+}
@@ -0,0 +1,217 @@
+package org.example.reactive;
+
+import io.r2dbc.spi.Readable;
+import org.example.dtos.PlayerDTO;
+import org.example.utils.PlayerFilter;
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.Positions;
+import org.example.utils.enums.SortBy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking player queries over the PlayerService schema.
+ * <p>
+ * Filters translate to the same predicates as {@code PlayerSpecifications.matching}. Players are
+ * streamed as the database returns them: every {@value #COLLECTION_BATCH} rows, their nationalities
+ * and positions are loaded with one query each, and the batch is emitted before the next is
+ * requested, so memory stays bounded by the subscriber's demand.
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePlayerRepository {
+
+    static final int COLLECTION_BATCH = 100;
+
+    private static final String SELECT_PLAYERS = "SELECT p.id, p.first_name, p.last_name, p.date_of_birth, p.height, "
+            + "p.creation_date, p.last_modified_date, p.version FROM player_entity p";
+
+    private final DatabaseClient databaseClient;
+
+    @Autowired
+    public ReactivePlayerRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Stream one page of the players matching a filter.
+     *
+     * @param filter the player filter
+     * @param today  the reference date for age calculations
+     * @param sortBy the sorting field
+     * @param order  the sorting order (asc/desc)
+     * @param page   the page number
+     * @param size   the page size
+     * @return the players of the page, in order
+     */
+    public Flux<PlayerDTO> findAll(PlayerFilter filter, LocalDate today, SortBy sortBy, String order, int page,
+            int size) {
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        String sql = SELECT_PLAYERS + where(filter, today, bindings)
+                + " ORDER BY " + orderBy(sortBy, order)
+                + " LIMIT :limit OFFSET :offset";
+        bindings.put("limit", size);
+        bindings.put("offset", (long) page * size);
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (Map.Entry<String, Object> binding : bindings.entrySet()) {
+            spec = spec.bind(binding.getKey(), binding.getValue());
+        }
+        return spec.map(ReactivePlayerRepository::toPlayer)
+                .all()
+                .buffer(COLLECTION_BATCH)
+                .concatMap(this::withCollections);
+    }
+
+    /**
+     * Find a player by ID.
+     *
+     * @param id the player ID
+     * @return the player, or empty if not found
+     */
+    public Mono<PlayerDTO> findById(Long id) {
+        return databaseClient.sql(SELECT_PLAYERS + " WHERE p.id = :id")
+                .bind("id", id)
+                .map(ReactivePlayerRepository::toPlayer)
+                .one()
+                .flatMap(player -> withCollections(List.of(player)).next());
+    }
+
+    /**
+     * Load the nationalities and positions of a batch of players, one query per collection.
+     */
+    private Flux<PlayerDTO> withCollections(List<PlayerDTO> batch) {
+        Map<Long, PlayerDTO> byId = batch.stream()
+                .collect(Collectors.toMap(PlayerDTO::getId, Function.identity()));
+
+        Mono<Void> nationalities = databaseClient
+                .sql("SELECT player_id, nationality FROM player_nationalities WHERE player_id IN (:ids)")
+                .bind("ids", byId.keySet())
+                .map(row -> byId.get(row.get("player_id", Long.class)).getNationalities()
+                        .add(Nationality.valueOf(row.get("nationality", String.class))))
+                .all()
+                .then();
+        Mono<Void> positions = databaseClient
+                .sql("SELECT player_id, position FROM player_positions WHERE player_id IN (:ids)")
+                .bind("ids", byId.keySet())
+                .map(row -> byId.get(row.get("player_id", Long.class)).getPositions()
+                        .add(Positions.valueOf(row.get("position", String.class))))
+                .all()
+                .then();
+
+        return Mono.when(nationalities, positions).thenMany(Flux.fromIterable(batch));
+    }
+
+    /**
+     * Build the WHERE clause of a filter, adding its parameters to the bindings.
+     */
+    private static String where(PlayerFilter filter, LocalDate today, Map<String, Object> bindings) {
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+
+        // Name filter
+        if (filter.getName() != null) {
+            where.append(" AND CONCAT(LOWER(p.first_name), ' ', LOWER(p.last_name)) LIKE :name");
+            bindings.put("name", "%" + filter.getName() + "%");
+        }
+
+        // Nationalities filter (intersection)
+        int i = 0;
+        for (Nationality nationality : filter.getNationalities()) {
+            where.append(" AND EXISTS (SELECT 1 FROM player_nationalities n WHERE n.player_id = p.id AND n.nationality = :nationality")
+                    .append(i).append(')');
+            bindings.put("nationality" + i++, nationality.name());
+        }
+
+        // Age filter
+        LocalDate latestDob = filter.latestDateOfBirth(today);
+        if (latestDob != null) {
+            where.append(" AND p.date_of_birth <= :latestDob");
+            bindings.put("latestDob", latestDob);
+        }
+        LocalDate earliestDob = filter.earliestDateOfBirth(today);
+        if (earliestDob != null) {
+            where.append(" AND p.date_of_birth >= :earliestDob");
+            bindings.put("earliestDob", earliestDob);
+        }
+
+        // Positions filter (intersection)
+        i = 0;
+        for (Positions position : filter.getPositions()) {
+            where.append(" AND EXISTS (SELECT 1 FROM player_positions pp WHERE pp.player_id = p.id AND pp.position = :position")
+                    .append(i).append(')');
+            bindings.put("position" + i++, position.name());
+        }
+
+        // Height filter
+        if (filter.getMinHeight() != null) {
+            where.append(" AND p.height >= :minHeight");
+            bindings.put("minHeight", filter.getMinHeight());
+        }
+        if (filter.getMaxHeight() != null) {
+            where.append(" AND p.height <= :maxHeight");
+            bindings.put("maxHeight", filter.getMaxHeight());
+        }
+        return where.toString();
+    }
+
+    /**
+     * Build the ORDER BY clause. Multi-valued fields sort by their first code alphabetically,
+     * and the player ID breaks ties so that pages never overlap.
+     */
+    private static String orderBy(SortBy sortBy, String order) {
+        boolean descending = "desc".equalsIgnoreCase(order);
+        String column;
+        switch (sortBy) {
+            case NATIONALITY:
+                column = "(SELECT MIN(n.nationality) FROM player_nationalities n WHERE n.player_id = p.id)";
+                break;
+            case AGE:
+                column = "p.date_of_birth";
+                descending = !descending; // Younger = later date
+                break;
+            case POSITIONS:
+                column = "(SELECT MIN(pp.position) FROM player_positions pp WHERE pp.player_id = p.id)";
+                break;
+            case HEIGHT:
+                column = "p.height";
+                break;
+            default:
+                column = "p.first_name";
+        }
+        String direction = descending ? " DESC" : " ASC";
+        return column + direction + ", p.id" + direction;
+    }
+
+    private static PlayerDTO toPlayer(Readable row) {
+        return new PlayerDTO(
+                row.get("id", Long.class),
+                row.get("first_name", String.class),
+                row.get("last_name", String.class),
+                EnumSet.noneOf(Nationality.class),
+                row.get("date_of_birth", LocalDate.class),
+                EnumSet.noneOf(Positions.class),
+                row.get("height", Double.class),
+                toDate(row.get("creation_date", LocalDateTime.class)),
+                toDate(row.get("last_modified_date", LocalDateTime.class)),
+                row.get("version", Long.class));
+    }
+
+    private static Date toDate(LocalDateTime dateTime) {
+        return dateTime == null ? null : Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
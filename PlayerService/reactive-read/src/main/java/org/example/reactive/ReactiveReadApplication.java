@@ -0,0 +1,33 @@
+package org.example.reactive;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * Main entry point of the non-blocking player read API.
+ * Reads from the PlayerService schema through R2DBC and serves it on WebFlux.
+ * <p>
+ * Its beans only load in a reactive web application, so they stay out of the servlet
+ * service when both are on one classpath.
+ */
+@SpringBootApplication
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveReadApplication {
+
+    /**
+     * Configuration file name, distinct from the servlet service's {@code application.properties}
+     */
+    public static final String CONFIG_NAME = "reactive-read";
+
+    /**
+     * Starts the reactive read application.
+     *
+     * @param args command-line arguments
+     */
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveReadApplication.class)
+                .properties("spring.config.name=" + CONFIG_NAME)
+                .run(args);
+    }
+}
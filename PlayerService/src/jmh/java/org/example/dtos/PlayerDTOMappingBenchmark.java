@@ -0,0 +1,41 @@
+package org.example.dtos;
+
+import org.example.entities.PlayerEntity;
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.Positions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.Set;
+
+/**
+ * Mapping between {@link PlayerEntity} and {@link PlayerDTO}, done for every player of every page
+ * and on every write.
+ */
+@State(Scope.Benchmark)
+public class PlayerDTOMappingBenchmark {
+
+    private PlayerDTO dto;
+    private PlayerEntity entity;
+
+    @Setup
+    public void setUp() {
+        dto = new PlayerDTO(42L, "Kylian", "Mbappe", Set.of(Nationality.FR, Nationality.CM),
+                LocalDate.of(1998, 12, 20), Set.of(Positions.ST, Positions.LW), 1.78, new Date(), new Date(), 3L);
+        entity = PlayerDTO.toEntity(dto);
+    }
+
+    @Benchmark
+    public PlayerDTO fromEntity() {
+        return PlayerDTO.fromEntity(entity);
+    }
+
+    @Benchmark
+    public PlayerEntity toEntity() {
+        return PlayerDTO.toEntity(dto);
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.dtos;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.Positions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Jackson serialization of a {@code Page<PlayerDTO>}, the body of {@code GET /api/players}, with the
+ * mapper Spring Boot builds (Java time module, dates as timestamps disabled).
+ */
+@State(Scope.Benchmark)
+public class PlayerPageSerializationBenchmark {
+
+    @Param({"10", "50"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private Page<PlayerDTO> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<PlayerDTO> players = IntStream.range(0, size)
+                .mapToObj(i -> new PlayerDTO((long) i, "First" + i, "Last" + i,
+                        Set.of(Nationality.values()[i % Nationality.values().length]),
+                        LocalDate.of(1990, 1, 1).plusDays(i),
+                        Set.of(Positions.values()[i % Positions.values().length]),
+                        1.70 + (i % 30) / 100.0, new Date(), new Date(), 1L))
+                .toList();
+        page = new PageImpl<>(players, PageRequest.of(0, size, Sort.by("lastName")), 1000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.dtos;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.Positions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Bean Validation of a {@link PlayerDTO}, run on every create request and every imported CSV row.
+ * An invalid player pays for interpolating the messages of its violations.
+ */
+@State(Scope.Benchmark)
+public class PlayerValidationBenchmark {
+
+    private ValidatorFactory factory;
+    private Validator validator;
+    private PlayerDTO valid;
+    private PlayerDTO invalid;
+
+    @Setup
+    public void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+        valid = new PlayerDTO(null, "Luka", "Modric", Set.of(Nationality.HR), LocalDate.of(1985, 9, 9),
+                Set.of(Positions.CM), 1.72, null, null, null);
+        // Blank last name, no positions, too tall
+        invalid = new PlayerDTO(null, "Luka", " ", Set.of(Nationality.HR), LocalDate.of(1985, 9, 9),
+                Set.of(), 2.5, null, null, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<PlayerDTO>> validPlayer() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<PlayerDTO>> invalidPlayer() {
+        return validator.validate(invalid);
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.example.entities.PlayerEntity;
+import org.example.utils.PlayerFilter;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Building the criteria of {@code getPlayers} on a cache miss: normalizing the request parameters
+ * into a {@link PlayerFilter}, then turning it into the where clause of the page query.
+ * Hibernate is bootstrapped on in-memory H2 with the naming strategies Spring Boot configures.
+ */
+@State(Scope.Benchmark)
+public class PlayerSpecificationsBenchmark {
+
+    private final LocalDate today = LocalDate.of(2024, 6, 1);
+
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private CriteriaBuilder cb;
+
+    @Setup
+    public void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1");
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("org.example.entities");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "none",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+        factory.afterPropertiesSet();
+        entityManagerFactory = factory.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+        cb = entityManager.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public Predicate unfiltered() {
+        return predicate(PlayerFilter.of(null, null, null, null, null, null, null));
+    }
+
+    @Benchmark
+    public Predicate everyFilter() {
+        return predicate(PlayerFilter.of(" Messi ", List.of("AR", "ES"), 20, 35, List.of("RW", "CF"), 1.60, 1.90));
+    }
+
+    private Predicate predicate(PlayerFilter filter) {
+        CriteriaQuery<PlayerEntity> query = cb.createQuery(PlayerEntity.class);
+        Root<PlayerEntity> root = query.from(PlayerEntity.class);
+        return PlayerSpecifications.matching(filter, today).toPredicate(root, query, cb);
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.services;
+
+import org.example.dtos.PlayerDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Parsing of one bulk import row, done for every line of an uploaded CSV file.
+ */
+@State(Scope.Benchmark)
+public class PlayerCsvBenchmark {
+
+    private final String[] columns = "firstName,lastName,dateOfBirth,height,nationalities,positions".split(",");
+    private final String row = "Kevin, De Bruyne ,1991-06-28,1.81,BE|DE,CAM|CM";
+
+    @Benchmark
+    public PlayerDTO parseCSVRow() {
+        return PlayerServiceImpl.parseCSVRow(row, columns);
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.utils.enums;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Lookup of nationalities by code and by name, done for every nationality of every filter and
+ * imported row. Neither path throws on an unknown value.
+ */
+@State(Scope.Benchmark)
+public class NationalityBenchmark {
+
+    private String known = "ZW";
+    private String unknown = "XX";
+    private String name = "South Korea";
+
+    @Benchmark
+    public Nationality fromCode() {
+        return Nationality.fromCode(known);
+    }
+
+    @Benchmark
+    public boolean isValidCodeKnown() {
+        return Nationality.isValidCode(known);
+    }
+
+    @Benchmark
+    public boolean isValidCodeUnknown() {
+        return Nationality.isValidCode(unknown);
+    }
+
+    @Benchmark
+    public Nationality byName() {
+        return Nationality.byName(name);
+    }
+
+    @Benchmark
+    public Nationality lookupUnknown() {
+        return Nationality.lookup(unknown);
+    }
+}
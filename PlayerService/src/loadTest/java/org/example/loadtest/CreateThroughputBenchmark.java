@@ -0,0 +1,124 @@
+package org.example.loadtest;
+
+import org.example.dtos.PendingCreateDTO;
+import org.example.dtos.PlayerDTO;
+import org.example.services.PlayerService;
+import org.example.services.PlayerWriteBehindQueue;
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.PendingStatus;
+import org.example.utils.enums.Positions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput of synchronous player creation (one transaction per player) against the
+ * write-behind queue (one transaction per batch), with the same number of concurrent clients.
+ * <p>
+ * Runs against an in-memory H2 database by default, which has no commit cost to amortize;
+ * pass {@code -Dloadtest.datasource.url=jdbc:mysql://...} (and {@code loadtest.datasource.username}
+ * / {@code loadtest.datasource.password}) for numbers that include the fsync on commit.
+ */
+@SpringBootTest(properties = {
+        "player.write-behind.enabled=true",
+        "player.write-behind.capacity=100000",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.org.example=WARN"
+})
+class CreateThroughputBenchmark {
+
+    private static final int PLAYERS = Integer.getInteger("loadtest.players", 5_000);
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 32);
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerWriteBehindQueue writeBehindQueue;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        String url = System.getProperty("loadtest.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1");
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.datasource.username", () -> System.getProperty("loadtest.datasource.username",
+                url.startsWith("jdbc:h2") ? "sa" : "root"));
+        registry.add("spring.datasource.password", () -> System.getProperty("loadtest.datasource.password",
+                url.startsWith("jdbc:h2") ? "" : "root"));
+        registry.add("spring.datasource.driver-class-name", () -> url.startsWith("jdbc:h2")
+                ? "org.h2.Driver"
+                : "com.mysql.cj.jdbc.Driver");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> url.startsWith("jdbc:h2")
+                ? "org.hibernate.dialect.H2Dialect"
+                : "org.hibernate.dialect.MySQLDialect");
+    }
+
+    @Test
+    void compareSynchronousAndWriteBehindCreates() throws Exception {
+        // Warm up both paths so the comparison is not dominated by JIT and pool start-up
+        run("warmup-sync", PLAYERS / 10, playerService::createPlayer);
+        runWriteBehind("warmup-async", PLAYERS / 10);
+
+        double sync = run("sync", PLAYERS, playerService::createPlayer);
+        double writeBehind = runWriteBehind("async", PLAYERS);
+
+        System.out.printf("Synchronous creates : %,10.0f players/s%n", sync);
+        System.out.printf("Write-behind creates: %,10.0f players/s (x%.1f)%n", writeBehind, writeBehind / sync);
+    }
+
+    private double runWriteBehind(String run, int players) throws Exception {
+        List<UUID> tickets = Collections.synchronizedList(new ArrayList<>());
+        long start = System.nanoTime();
+        timed(players, i -> tickets.add(writeBehindQueue.submit(player(run, i)).getTicket()));
+        // Throughput counts until the last queued player is committed, not just acknowledged
+        for (UUID ticket : tickets) {
+            PendingCreateDTO outcome;
+            // Parks rather than spins, to leave the CPU to the committer
+            while ((outcome = writeBehindQueue.status(ticket).orElseThrow()).getStatus() == PendingStatus.PENDING)
+                LockSupport.parkNanos(100_000);
+            assertThat(outcome.getStatus()).isEqualTo(PendingStatus.CREATED);
+        }
+        return players / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private double run(String run, int players, Consumer<PlayerDTO> create) throws Exception {
+        long start = System.nanoTime();
+        timed(players, i -> create.accept(player(run, i)));
+        return players / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private void timed(int players, IntConsumer task) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            IntStream.range(0, players).forEach(i -> clients.execute(() -> task.accept(i)));
+        } finally {
+            clients.shutdown();
+            assertThat(clients.awaitTermination(10, TimeUnit.MINUTES)).isTrue();
+        }
+    }
+
+    private static PlayerDTO player(String run, int i) {
+        return new PlayerDTO(null, "Load" + i, "Test-" + run, Set.of(Nationality.BR),
+                LocalDate.of(1990, 1, 1).plusDays(i % 3650), Set.of(Positions.ST), 1.80, null, null, null);
+    }
+}
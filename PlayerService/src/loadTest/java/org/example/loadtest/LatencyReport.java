@@ -0,0 +1,146 @@
+package org.example.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.example.loadtest.PlayerApiLoadBenchmark.Operation;
+import org.example.loadtest.PlayerApiLoadBenchmark.OperationResults;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Throughput and latency percentiles of one {@link PlayerApiLoadBenchmark} run, printed and written
+ * as {@code <mix>.json} and {@code <mix>.html}. Latencies are in milliseconds; "corrected" is measured
+ * from the scheduled start of each request, "service" from the moment it was sent.
+ */
+class LatencyReport {
+
+    private static final double[] PERCENTILES = {50, 95, 99, 99.9};
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * Summary of one operation, or of all of them ({@code ALL}).
+     */
+    record Row(String operation, long requests, long errors, double throughput,
+               Map<String, Double> corrected, Map<String, Double> service) {
+    }
+
+    private final String mix;
+    private final int targetRate;
+    private final double seconds;
+    private final Map<Operation, OperationResults> results;
+    private final List<Row> rows;
+
+    LatencyReport(String mix, int targetRate, double seconds, Map<Operation, OperationResults> results) {
+        this.mix = mix;
+        this.targetRate = targetRate;
+        this.seconds = seconds;
+        this.results = results;
+
+        Histogram allCorrected = new Histogram(3);
+        Histogram allService = new Histogram(3);
+        long allErrors = 0;
+        this.rows = new ArrayList<>();
+        for (Map.Entry<Operation, OperationResults> result : results.entrySet()) {
+            OperationResults operation = result.getValue();
+            allCorrected.add(operation.corrected);
+            allService.add(operation.service);
+            allErrors += operation.errors.sum();
+            rows.add(row(result.getKey().name(), operation.corrected, operation.service, operation.errors.sum()));
+        }
+        rows.add(0, row("ALL", allCorrected, allService, allErrors));
+    }
+
+    private Row row(String operation, Histogram corrected, Histogram service, long errors) {
+        long requests = corrected.getTotalCount();
+        return new Row(operation, requests, errors, requests / seconds, percentiles(corrected), percentiles(service));
+    }
+
+    private static Map<String, Double> percentiles(Histogram histogram) {
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (double percentile : PERCENTILES)
+            percentiles.put("p" + (percentile == Math.rint(percentile) ? String.valueOf((int) percentile)
+                    : String.valueOf(percentile)), histogram.getValueAtPercentile(percentile) / 1000.0);
+        percentiles.put("max", histogram.getMaxValue() / 1000.0);
+        return percentiles;
+    }
+
+    /**
+     * Print the summary table.
+     */
+    void print(PrintStream out) {
+        out.printf("Mix %s at %d requests/s for %.0f s%n", mix, targetRate, seconds);
+        out.printf("%-12s %9s %7s %9s %10s %10s %10s %10s %10s %12s%n", "operation", "requests", "errors",
+                "req/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms", "svc p99 ms");
+        for (Row row : rows) {
+            out.printf("%-12s %,9d %,7d %,9.1f %10.2f %10.2f %10.2f %10.2f %10.2f %12.2f%n", row.operation(),
+                    row.requests(), row.errors(), row.throughput(), row.corrected().get("p50"),
+                    row.corrected().get("p95"), row.corrected().get("p99"), row.corrected().get("p99.9"),
+                    row.corrected().get("max"), row.service().get("p99"));
+        }
+    }
+
+    /**
+     * Write {@code <mix>.json} and {@code <mix>.html} into the directory.
+     */
+    void write(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("mix", mix);
+        json.put("timestamp", Instant.now().toString());
+        json.put("targetRate", targetRate);
+        json.put("seconds", seconds);
+        json.put("latencyUnit", "ms");
+        json.put("operations", rows);
+        MAPPER.writeValue(dir.resolve(mix + ".json").toFile(), json);
+        Files.writeString(dir.resolve(mix + ".html"), html());
+    }
+
+    private String html() {
+        StringBuilder html = new StringBuilder("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\">")
+                .append("<title>Player API load test: ").append(mix).append("</title>")
+                .append("<style>body{font-family:sans-serif}table{border-collapse:collapse}")
+                .append("td,th{border:1px solid #ccc;padding:4px 8px;text-align:right}")
+                .append("td:first-child{text-align:left}</style></head><body>\n")
+                .append("<h1>Mix ").append(mix).append("</h1>\n")
+                .append(String.format("<p>%d requests/s scheduled for %.0f s, open model. Latencies in ms, "
+                        + "corrected for coordinated omission (from the scheduled start); service time "
+                        + "from the moment the request was sent.</p>%n", targetRate, seconds))
+                .append("<table><tr><th>operation</th><th>requests</th><th>errors</th><th>req/s</th>");
+        for (String percentile : rows.get(0).corrected().keySet())
+            html.append("<th>").append(percentile).append("</th>");
+        for (String percentile : rows.get(0).service().keySet())
+            html.append("<th>service ").append(percentile).append("</th>");
+        html.append("</tr>\n");
+        for (Row row : rows) {
+            html.append("<tr><td>").append(row.operation()).append("</td><td>").append(row.requests())
+                    .append("</td><td>").append(row.errors()).append("</td><td>")
+                    .append(String.format("%.1f", row.throughput())).append("</td>");
+            row.corrected().values().forEach(value -> html.append(String.format("<td>%.2f</td>", value)));
+            row.service().values().forEach(value -> html.append(String.format("<td>%.2f</td>", value)));
+            html.append("</tr>\n");
+        }
+        html.append("</table>\n<h2>Percentile distributions (corrected, ms)</h2>\n")
+                .append("<p>In the HdrHistogram format, to plot on hdrhistogram.github.io/HdrHistogram/plotFiles.html.</p>\n");
+        results.forEach((operation, result) -> html.append("<details><summary>").append(operation)
+                .append("</summary><pre>").append(distribution(result.corrected)).append("</pre></details>\n"));
+        return html.append("</body></html>\n").toString();
+    }
+
+    private static String distribution(Histogram histogram) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        histogram.outputPercentileDistribution(new PrintStream(out, true, StandardCharsets.UTF_8), 1000.0);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
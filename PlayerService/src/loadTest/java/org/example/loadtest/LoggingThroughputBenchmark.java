@@ -0,0 +1,154 @@
+package org.example.loadtest;
+
+import org.example.PlayerServiceApplication;
+import org.example.dtos.PlayerDTO;
+import org.example.services.PlayerService;
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.Positions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Request throughput of single-player reads with logging off, at the default level, and with the
+ * service logging every request (DEBUG), through the production pipeline: asynchronous appenders,
+ * JSON to the console and to a file ({@code prod} logging profile).
+ * <p>
+ * Runs against an in-memory H2 database by default; see {@link CreateThroughputBenchmark} for
+ * the {@code loadtest.datasource.*} properties selecting MySQL.
+ */
+class LoggingThroughputBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 64);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Long.getLong("loadtest.seconds", 10));
+    private static final int PLAYERS = 200;
+
+    @Test
+    void compareThroughputWithAndWithoutLogging() throws Exception {
+        Map<String, String> levels = new LinkedHashMap<>();
+        levels.put("off", "OFF");
+        levels.put("info", "INFO");
+        levels.put("debug", "DEBUG");
+
+        Map<String, Double> throughput = new LinkedHashMap<>();
+        for (Map.Entry<String, String> level : levels.entrySet())
+            throughput.put(level.getKey(), measure(level.getKey(), level.getValue()));
+
+        double off = throughput.get("off");
+        System.out.printf("Single-player reads with %d clients%n", CLIENTS);
+        throughput.forEach((level, reads) -> System.out.printf("Logging %-5s: %,10.0f reads/s (x%.2f)%n",
+                level, reads, reads / off));
+    }
+
+    private double measure(String run, String level) throws Exception {
+        Path logFile = Files.createTempFile("players-" + run + "-", ".log");
+        try (ConfigurableApplicationContext context = start(run, level, logFile)) {
+            List<Long> ids = seed(context.getBean(PlayerService.class));
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI base = URI.create("http://localhost:" + port + "/api/players/");
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+
+            // Warm up the request path before measuring
+            read(client, base, ids, System.nanoTime() + TimeUnit.SECONDS.toNanos(2), new AtomicLong());
+
+            AtomicLong reads = new AtomicLong();
+            long start = System.nanoTime();
+            long deadline = start + MEASUREMENT.toNanos();
+            read(client, base, ids, deadline, reads);
+            return reads.get() / ((System.nanoTime() - start) / 1e9);
+        } finally {
+            Files.deleteIfExists(logFile);
+        }
+    }
+
+    private static void read(HttpClient client, URI base, List<Long> ids, long deadline, AtomicLong reads)
+            throws InterruptedException {
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        Long id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                        if (get(client, base.resolve(id.toString())) == 200)
+                            reads.incrementAndGet();
+                    }
+                });
+            }
+            clients.shutdown();
+            assertThat(clients.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String run, String level, Path logFile) {
+        String url = System.getProperty("loadtest.datasource.url",
+                "jdbc:h2:mem:logging-" + run + ";DB_CLOSE_DELAY=-1");
+        boolean h2 = url.startsWith("jdbc:h2");
+        // Command-line arguments, so they win over application-prod.properties
+        return new SpringApplicationBuilder(PlayerServiceApplication.class).run(
+                "--spring.profiles.active=prod",
+                "--logging.file.name=" + logFile,
+                "--logging.level.root=" + ("OFF".equals(level) ? "OFF" : "INFO"),
+                "--logging.level.org.example=" + level,
+                "--logging.level.org.hibernate.SQL=" + ("OFF".equals(level) ? "OFF" : "WARN"),
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=" + ("OFF".equals(level) ? "OFF" : "WARN"),
+                "--server.port=0",
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + System.getProperty("loadtest.datasource.username", h2 ? "sa" : "root"),
+                "--spring.datasource.password=" + System.getProperty("loadtest.datasource.password", h2 ? "" : "root"),
+                "--spring.datasource.driver-class-name=" + (h2 ? "org.h2.Driver" : "com.mysql.cj.jdbc.Driver"),
+                "--spring.jpa.properties.hibernate.dialect=" + (h2
+                        ? "org.hibernate.dialect.H2Dialect"
+                        : "org.hibernate.dialect.MySQLDialect"),
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                // Measure logging, not load shedding or the warmup
+                "--player.concurrency-limit.enabled=false",
+                "--player.db.partitioned-pools.enabled=false",
+                "--player.warmup.enabled=false");
+    }
+
+    private static List<Long> seed(PlayerService playerService) {
+        List<PlayerDTO> players = new ArrayList<>();
+        for (int i = 0; i < PLAYERS; i++) {
+            players.add(new PlayerDTO(null, "Logged" + i, "Test", Set.of(Nationality.FR),
+                    LocalDate.of(1995, 1, 1).plusDays(i), Set.of(Positions.CM), 1.75, null, null, null));
+        }
+        return playerService.createPlayers(players).stream().map(PlayerDTO::getId).toList();
+    }
+
+    private static int get(HttpClient client, URI uri) {
+        try {
+            return client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding())
+                    .statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package org.example.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.example.PlayerServiceApplication;
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.Positions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load test of the player API with an open-model generator: requests of a scripted mix
+ * are started at a fixed arrival rate, whether or not earlier ones have completed, so a slow service
+ * builds a backlog the way it does under real traffic instead of slowing the clients down.
+ * <p>
+ * Latency is measured from the moment each request was scheduled to start, which corrects for
+ * coordinated omission: time a request spends waiting behind a stalled one is counted, not hidden.
+ * Service time (from the moment it was actually sent) is reported next to it.
+ * <p>
+ * Properties:
+ * <ul>
+ *     <li>{@code loadtest.mix}: {@code browse}, {@code write}, {@code import}, or {@code all} (default {@code browse})</li>
+ *     <li>{@code loadtest.rate}: requests started per second (default 200)</li>
+ *     <li>{@code loadtest.seconds}, {@code loadtest.warmup-seconds}: measured and discarded run time (default 30 and 10)</li>
+ *     <li>{@code loadtest.report-dir}: where the HTML and JSON reports go ({@code build/reports/loadtest} from Gradle)</li>
+ * </ul>
+ * The {@code perf} profile seeds {@code loadtest.players} generated players (default 100,000) first.
+ * Runs against in-memory H2 in MySQL mode by default; see {@link CreateThroughputBenchmark} for
+ * the {@code loadtest.datasource.*} properties selecting MySQL. The service runs with its default
+ * settings, overload protection included, so the results reflect one production instance.
+ */
+class PlayerApiLoadBenchmark {
+
+    private static final int RATE = Integer.getInteger("loadtest.rate", 200);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Long.getLong("loadtest.seconds", 30));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10));
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int PLAYERS = Integer.getInteger("loadtest.players", 100_000);
+    private static final int UPLOAD_ROWS = 20;
+
+    private static final String BOUNDARY = "loadtest-boundary";
+
+    private static final Nationality[] FILTER_NATIONALITIES = {
+            Nationality.FR, Nationality.BR, Nationality.AR, Nationality.ES, Nationality.DE};
+    private static final Positions[] FILTER_POSITIONS = {
+            Positions.ST, Positions.CM, Positions.CB, Positions.LW, Positions.CDM};
+
+    /**
+     * Requests of the player API exercised by the mixes.
+     */
+    enum Operation {
+        LIST, FILTER, DETAIL, CREATE, UPDATE, BULK_UPLOAD
+    }
+
+    /**
+     * Scripted traffic: the relative weight of each operation.
+     */
+    record Mix(String name, Map<Operation, Integer> weights) {
+
+        private static final List<Mix> ALL = List.of(
+                new Mix("browse", weights(40, 30, 25, 3, 2, 0)),
+                new Mix("write", weights(20, 15, 15, 30, 20, 0)),
+                new Mix("import", weights(35, 25, 25, 5, 5, 5)));
+
+        static Mix named(String name) {
+            return ALL.stream().filter(mix -> mix.name.equals(name)).findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown mix " + name));
+        }
+
+        private static Map<Operation, Integer> weights(int... weights) {
+            Map<Operation, Integer> map = new EnumMap<>(Operation.class);
+            for (Operation operation : Operation.values())
+                if (weights[operation.ordinal()] > 0)
+                    map.put(operation, weights[operation.ordinal()]);
+            return map;
+        }
+
+        /**
+         * @return the operations of the mix, each repeated as many times as its weight
+         */
+        Operation[] schedule() {
+            return weights.entrySet().stream()
+                    .flatMap(weight -> Collections.nCopies(weight.getValue(), weight.getKey()).stream())
+                    .toArray(Operation[]::new);
+        }
+    }
+
+    /**
+     * Latencies and outcomes of the requests of one operation, in microseconds.
+     */
+    static final class OperationResults {
+        final Histogram corrected = new ConcurrentHistogram(3);
+        final Histogram service = new ConcurrentHistogram(3);
+        final LongAdder errors = new LongAdder();
+    }
+
+    private final AtomicLong created = new AtomicLong();
+
+    @Test
+    void runMixesAtFixedArrivalRate() throws Exception {
+        String mixes = System.getProperty("loadtest.mix", "browse");
+        Path reportDir = Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+
+        try (ConfigurableApplicationContext context = start()) {
+            // Seeded by the perf profile with ids 1 to PLAYERS
+            List<Long> ids = LongStream.rangeClosed(1, PLAYERS).boxed().toList();
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI base = URI.create("http://localhost:" + port + "/api/players/");
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+
+            List<Mix> selected = "all".equals(mixes)
+                    ? Mix.ALL
+                    : Arrays.stream(mixes.split(",")).map(String::trim).map(Mix::named).toList();
+            for (Mix mix : selected) {
+                // Warm up the JIT, the pools and the caches on the same traffic, then measure
+                run(client, base, ids, mix, WARMUP);
+                long start = System.nanoTime();
+                Map<Operation, OperationResults> results = run(client, base, ids, mix, MEASUREMENT);
+                double seconds = (System.nanoTime() - start) / 1e9;
+
+                LatencyReport report = new LatencyReport(mix.name(), RATE, seconds, results);
+                report.print(System.out);
+                report.write(reportDir);
+            }
+        }
+    }
+
+    /**
+     * Start requests of the mix at {@code RATE} per second for the given time, then wait for all of them.
+     */
+    private Map<Operation, OperationResults> run(HttpClient client, URI base, List<Long> ids, Mix mix,
+            Duration duration) throws InterruptedException {
+        Map<Operation, OperationResults> results = new EnumMap<>(Operation.class);
+        mix.weights().keySet().forEach(operation -> results.put(operation, new OperationResults()));
+        Operation[] schedule = mix.schedule();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / RATE;
+        long requests = duration.toNanos() / intervalNanos;
+
+        try (ExecutorService requestThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            for (long i = 0; i < requests; i++) {
+                long intended = start + i * intervalNanos;
+                long wait;
+                while ((wait = intended - System.nanoTime()) > 0)
+                    LockSupport.parkNanos(wait);
+                Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+                requestThreads.execute(() -> send(client, base, ids, operation, intended, results.get(operation)));
+            }
+            requestThreads.shutdown();
+            assertThat(requestThreads.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        }
+        return results;
+    }
+
+    private void send(HttpClient client, URI base, List<Long> ids, Operation operation, long intended,
+            OperationResults results) {
+        HttpRequest request = request(base, ids, operation);
+        long sent = System.nanoTime();
+        boolean ok;
+        try {
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            ok = status >= 200 && status < 300;
+        } catch (IOException e) {
+            ok = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long done = System.nanoTime();
+        results.corrected.recordValue(TimeUnit.NANOSECONDS.toMicros(done - intended));
+        results.service.recordValue(TimeUnit.NANOSECONDS.toMicros(done - sent));
+        if (!ok)
+            results.errors.increment();
+    }
+
+    private HttpRequest request(URI base, List<Long> ids, Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long id = ids.get(random.nextInt(ids.size()));
+        HttpRequest.Builder builder = switch (operation) {
+            case LIST -> HttpRequest.newBuilder(base.resolve("?page=" + random.nextInt(5) + "&size=20&sortBy="
+                    + (random.nextBoolean() ? "NAME" : "AGE"))).GET();
+            case FILTER -> HttpRequest.newBuilder(base.resolve("?nationalities="
+                    + FILTER_NATIONALITIES[random.nextInt(FILTER_NATIONALITIES.length)] + "&positions="
+                    + FILTER_POSITIONS[random.nextInt(FILTER_POSITIONS.length)] + "&minAge=20&maxAge=35&size=20")).GET();
+            case DETAIL -> HttpRequest.newBuilder(base.resolve(id.toString())).GET();
+            case CREATE -> HttpRequest.newBuilder(base)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"firstName\":\"Load" + created.incrementAndGet()
+                            + "\",\"lastName\":\"Created\",\"nationalities\":[\"FR\"],\"positions\":[\"CM\"],"
+                            + "\"dateOfBirth\":\"1996-04-04\",\"height\":1.80}"));
+            case UPDATE -> HttpRequest.newBuilder(base.resolve(id.toString()))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString("{\"height\":" + (1.60 + random.nextInt(40) / 100.0) + "}"));
+            case BULK_UPLOAD -> HttpRequest.newBuilder(base.resolve("bulk-upload"))
+                    .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                    .POST(HttpRequest.BodyPublishers.ofString(csvUpload()));
+        };
+        return builder.timeout(REQUEST_TIMEOUT).build();
+    }
+
+    private String csvUpload() {
+        StringBuilder body = new StringBuilder("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"players.csv\"\r\n"
+                + "Content-Type: text/csv\r\n\r\n"
+                + "firstName,lastName,dateOfBirth,height,nationalities,positions\n");
+        for (int i = 0; i < UPLOAD_ROWS; i++)
+            body.append("Upload").append(created.incrementAndGet()).append(",Bulk,1994-02-02,1.82,BR|PT,ST|CF\n");
+        return body.append("\r\n--").append(BOUNDARY).append("--\r\n").toString();
+    }
+
+    private static ConfigurableApplicationContext start() {
+        String url = System.getProperty("loadtest.datasource.url",
+                "jdbc:h2:mem:load;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        boolean h2 = url.startsWith("jdbc:h2");
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", url);
+        properties.put("spring.datasource.username",
+                System.getProperty("loadtest.datasource.username", h2 ? "sa" : "root"));
+        properties.put("spring.datasource.password",
+                System.getProperty("loadtest.datasource.password", h2 ? "" : "root"));
+        properties.put("spring.datasource.driver-class-name", h2 ? "org.h2.Driver" : "com.mysql.cj.jdbc.Driver");
+        properties.put("spring.jpa.properties.hibernate.dialect", h2
+                ? "org.hibernate.dialect.H2Dialect"
+                : "org.hibernate.dialect.MySQLDialect");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        properties.put("logging.level.org.example", "WARN");
+        return new SpringApplicationBuilder(PlayerServiceApplication.class)
+                .profiles("perf")
+                .properties(properties)
+                // Command-line argument, so it wins over application-perf.properties
+                .run("--player.seed.players=" + PLAYERS);
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Time from process start to the first successful {@code /actuator/health} and to the first
+ * {@code /api/players} response, for the plain jar, the AOT-processed context and AOT with the
+ * AppCDS archive.
+ * <p>
+ * Each mode starts a fresh JVM on the unpacked layout built by {@code ./gradlew cdsArchive -PfastStartup}
+ * (passed as {@code loadtest.cds-dir}, which {@code ./gradlew loadTest -PfastStartup} does), against
+ * in-memory H2 with the warmup disabled, and reports the median of {@code loadtest.startup.runs} starts.
+ */
+class StartupTimeBenchmark {
+
+    private static final int RUNS = Integer.getInteger("loadtest.startup.runs", 5);
+    private static final Duration START_TIMEOUT = Duration.ofSeconds(120);
+
+    private record Startup(long healthMillis, long firstRequestMillis) {
+    }
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    @Test
+    void compareStartupModes() throws Exception {
+        String cdsDir = System.getProperty("loadtest.cds-dir");
+        assumeTrue(cdsDir != null && Files.exists(Path.of(cdsDir, "application.jsa")),
+                "Run with -PfastStartup to build the AOT and CDS layout");
+        File dir = new File(cdsDir);
+
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("plain", List.of("-Dspring.aot.enabled=false"));
+        modes.put("aot", List.of("-Dspring.aot.enabled=true"));
+        modes.put("aot+cds", List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=application.jsa"));
+
+        Map<String, Startup> medians = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+            // First start of each mode only warms the OS file cache
+            start(dir, mode.getValue());
+            List<Startup> runs = new ArrayList<>();
+            for (int i = 0; i < RUNS; i++)
+                runs.add(start(dir, mode.getValue()));
+            medians.put(mode.getKey(), new Startup(
+                    median(runs.stream().mapToLong(Startup::healthMillis).toArray()),
+                    median(runs.stream().mapToLong(Startup::firstRequestMillis).toArray())));
+        }
+
+        long baseline = medians.get("plain").firstRequestMillis();
+        medians.forEach((mode, startup) -> System.out.printf(
+                "%-8s: healthy after %,6d ms, first /api/players after %,6d ms (x%.2f)%n",
+                mode, startup.healthMillis(), startup.firstRequestMillis(),
+                (double) baseline / startup.firstRequestMillis()));
+    }
+
+    private Startup start(File dir, List<String> options) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(options);
+        command.addAll(List.of(
+                "-Dspring.profiles.active=training",
+                "-Dserver.port=" + port,
+                "-Dplayer.warmup.enabled=false",
+                "-Dlogging.level.root=WARN",
+                "-jar", "application.jar"));
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(dir)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = start + START_TIMEOUT.toNanos();
+            awaitOk(URI.create("http://localhost:" + port + "/actuator/health"), process, deadline);
+            long health = System.nanoTime();
+            awaitOk(URI.create("http://localhost:" + port + "/api/players"), process, deadline);
+            long firstRequest = System.nanoTime();
+            return new Startup(TimeUnit.NANOSECONDS.toMillis(health - start),
+                    TimeUnit.NANOSECONDS.toMillis(firstRequest - start));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS))
+                process.destroyForcibly().waitFor();
+        }
+    }
+
+    private void awaitOk(URI uri, Process process, long deadline) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).build();
+        while (true) {
+            assertThat(process.isAlive()).as("service exited during startup").isTrue();
+            assertThat(System.nanoTime()).as("service did not start in time").isLessThan(deadline);
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200)
+                    return;
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] values) {
+        Arrays.sort(values);
+        return values[values.length / 2];
+    }
+}
@@ -0,0 +1,197 @@
+package org.example.loadtest;
+
+import org.example.PlayerServiceApplication;
+import org.example.dtos.PlayerDTO;
+import org.example.services.PlayerService;
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.Positions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Read throughput while slow bulk uploads are in flight, with request handling on platform
+ * threads (the Tomcat pool) and then on virtual threads.
+ * <p>
+ * Each upload trickles its CSV over several seconds, holding its request thread while it does.
+ * With more uploads than pool threads, reads on the platform pool queue behind them; on virtual
+ * threads they only compete for the database permits.
+ * <p>
+ * Runs against an in-memory H2 database by default; see {@link CreateThroughputBenchmark} for
+ * the {@code loadtest.datasource.*} properties selecting MySQL.
+ */
+class VirtualThreadThroughputBenchmark {
+
+    private static final int READERS = Integer.getInteger("loadtest.readers", 500);
+    private static final int SLOW_UPLOADS = Integer.getInteger("loadtest.slow-uploads", 250);
+    private static final Duration UPLOAD_DURATION = Duration.ofSeconds(Long.getLong("loadtest.upload-seconds", 5));
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Long.getLong("loadtest.seconds", 10));
+    private static final int PLAYERS = 200;
+
+    private static final String BOUNDARY = "loadtest-boundary";
+
+    @Test
+    void compareReadThroughputDuringSlowUploads() throws Exception {
+        double platform = measure(false);
+        double virtual = measure(true);
+
+        System.out.printf("Reads during %d slow uploads, %d readers%n", SLOW_UPLOADS, READERS);
+        System.out.printf("Platform threads: %,10.0f reads/s%n", platform);
+        System.out.printf("Virtual threads : %,10.0f reads/s (x%.1f)%n", virtual, virtual / platform);
+    }
+
+    private double measure(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = start(virtualThreads)) {
+            List<Long> ids = seed(context.getBean(PlayerService.class));
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI base = URI.create("http://localhost:" + port + "/api/players/");
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+            AtomicLong reads = new AtomicLong();
+            long deadline = System.nanoTime() + MEASUREMENT.toNanos();
+
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < SLOW_UPLOADS; i++) {
+                    int upload = i;
+                    clients.execute(() -> slowUpload(client, base, virtualThreads, upload));
+                }
+                // Let the uploads occupy their request threads before measuring reads
+                Thread.sleep(500);
+                long start = System.nanoTime();
+                for (int i = 0; i < READERS; i++) {
+                    clients.execute(() -> {
+                        while (System.nanoTime() < deadline) {
+                            Long id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                            if (get(client, base.resolve(id.toString())) == 200)
+                                reads.incrementAndGet();
+                        }
+                    });
+                }
+                clients.shutdown();
+                assertThat(clients.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+                return reads.get() / ((Math.min(System.nanoTime(), deadline) - start) / 1e9);
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads) {
+        String url = System.getProperty("loadtest.datasource.url",
+                "jdbc:h2:mem:vt-" + virtualThreads + ";DB_CLOSE_DELAY=-1");
+        boolean h2 = url.startsWith("jdbc:h2");
+        return new SpringApplicationBuilder(PlayerServiceApplication.class)
+                .properties(
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.port=0",
+                        "spring.datasource.url=" + url,
+                        "spring.datasource.username=" + System.getProperty("loadtest.datasource.username", h2 ? "sa" : "root"),
+                        "spring.datasource.password=" + System.getProperty("loadtest.datasource.password", h2 ? "" : "root"),
+                        "spring.datasource.driver-class-name=" + (h2 ? "org.h2.Driver" : "com.mysql.cj.jdbc.Driver"),
+                        "spring.jpa.properties.hibernate.dialect=" + (h2
+                                ? "org.hibernate.dialect.H2Dialect"
+                                : "org.hibernate.dialect.MySQLDialect"),
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        // Measure thread starvation, not load shedding
+                        "player.concurrency-limit.enabled=false",
+                        "player.db.partitioned-pools.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "logging.level.org.example=WARN")
+                .run();
+    }
+
+    private static List<Long> seed(PlayerService playerService) {
+        List<PlayerDTO> players = new ArrayList<>();
+        for (int i = 0; i < PLAYERS; i++) {
+            players.add(new PlayerDTO(null, "Read" + i, "Test", Set.of(Nationality.FR),
+                    LocalDate.of(1995, 1, 1).plusDays(i), Set.of(Positions.CM), 1.75, null, null, null));
+        }
+        return playerService.createPlayers(players).stream().map(PlayerDTO::getId).toList();
+    }
+
+    private static int get(HttpClient client, URI uri) {
+        try {
+            return client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding())
+                    .statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    /**
+     * Upload a one-player CSV, sending it a byte at a time spread over {@code UPLOAD_DURATION}.
+     */
+    private static void slowUpload(HttpClient client, URI base, boolean virtualThreads, int upload) {
+        String body = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"players.csv\"\r\n"
+                + "Content-Type: text/csv\r\n\r\n"
+                + "firstName,lastName,dateOfBirth,height,nationalities,positions\n"
+                + "Upload" + upload + ",Slow" + virtualThreads + ",1990-01-01,1.80,France,ST\n"
+                + "\r\n--" + BOUNDARY + "--\r\n";
+        byte[] bytes = body.getBytes(StandardCharsets.US_ASCII);
+        long pauseNanos = UPLOAD_DURATION.toNanos() / bytes.length;
+        HttpRequest request = HttpRequest.newBuilder(base.resolve("bulk-upload"))
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.fromPublisher(
+                        HttpRequest.BodyPublishers.ofInputStream(() -> trickle(bytes, pauseNanos)), bytes.length))
+                .build();
+        try {
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (IOException e) {
+            // Counted through the read throughput only
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static InputStream trickle(byte[] bytes, long pauseNanos) {
+        return new SequenceInputStream(new Enumeration<>() {
+            private int next;
+
+            @Override
+            public boolean hasMoreElements() {
+                return next < bytes.length;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(pauseNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new ByteArrayInputStream(bytes, next++, 1);
+            }
+        });
+    }
+}
@@ -1,20 +1,35 @@
 package org.example.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.example.dtos.PendingCreateDTO;
+import org.example.dtos.PlayerChangesDTO;
 import org.example.dtos.PlayerDTO;
+import org.example.dtos.PlayerFacetsDTO;
 import org.example.dtos.UpdatePlayerDTO;
+import org.example.services.PlayerChangeBroadcaster;
 import org.example.services.PlayerService;
+import org.example.services.PlayerWriteBehindQueue;
+import org.example.utils.ETags;
+import org.example.utils.PlayerMergePatch;
 import org.example.utils.enums.SortBy;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.net.URI;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * REST controller for managing player-related operations such as creation,
@@ -25,38 +40,101 @@ import java.util.List;
 @RequestMapping("/api/players")
 public class PlayerController {
 
+    /**
+     * Prefer header value (RFC 7240) opting a create into the write-behind queue
+     */
+    private static final String RESPOND_ASYNC = "respond-async";
+
     private final PlayerService playerService;
+    private final ObjectProvider<PlayerWriteBehindQueue> writeBehind;
+    private final PlayerChangeBroadcaster changeBroadcaster;
+    private final PlayerMergePatch mergePatch;
 
     @Autowired
-    public PlayerController(PlayerService playerService) {
+    public PlayerController(PlayerService playerService, ObjectProvider<PlayerWriteBehindQueue> writeBehind,
+            PlayerChangeBroadcaster changeBroadcaster, PlayerMergePatch mergePatch) {
         this.playerService = playerService;
+        this.writeBehind = writeBehind;
+        this.changeBroadcaster = changeBroadcaster;
+        this.mergePatch = mergePatch;
     }
 
     /**
      * Create a new player.
      * using Jakarta to validate the object.
+     * With {@code Prefer: respond-async} and the write-behind queue enabled, the player is queued
+     * for the next group commit and a pending ticket is returned instead.
      *
+     * @param prefer    the Prefer header (optional)
      * @param playerDTO the player data
-     * @return the created player
+     * @return the created player, or 202 with the pending ticket
      */
     @PostMapping
-    public ResponseEntity<PlayerDTO> createPlayer(@Valid @RequestBody PlayerDTO playerDTO) {
+    public ResponseEntity<?> createPlayer(@RequestHeader(value = "Prefer", required = false) String prefer,
+                                          @Valid @RequestBody PlayerDTO playerDTO) {
+        PlayerWriteBehindQueue queue = prefer != null && prefer.contains(RESPOND_ASYNC)
+                ? writeBehind.getIfAvailable()
+                : null;
+        if (queue != null) {
+            PendingCreateDTO pending = queue.submit(playerDTO);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/players/pending/" + pending.getTicket()))
+                    .header("Preference-Applied", RESPOND_ASYNC)
+                    .body(pending);
+        }
         PlayerDTO created = playerService.createPlayer(playerDTO);
         return ResponseEntity.status(201).body(created);
     }
 
+    /**
+     * Get the state of a player creation queued with {@code Prefer: respond-async}.
+     *
+     * @param ticket the ticket returned when the creation was accepted
+     * @return the pending, created or failed state
+     */
+    @GetMapping("/pending/{ticket}")
+    public ResponseEntity<PendingCreateDTO> getPendingCreate(@PathVariable UUID ticket) {
+        PlayerWriteBehindQueue queue = writeBehind.getIfAvailable();
+        if (queue == null)
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Write-behind creation is disabled");
+        return queue.status(ticket)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown or expired ticket"));
+    }
+
     /**
      * Update an existing player by ID.
+     * When an If-Match header is sent, the update only applies to that version of the player.
      *
      * @param id        the player ID
+     * @param ifMatch   the ETag the changes are based on (optional)
      * @param playerDTO the updated player data
-     * @return the updated player
+     * @return the updated player with its new ETag, or 412 if the player changed meanwhile
      */
     @PutMapping("/{id}")
     public ResponseEntity<PlayerDTO> updatePlayer(@PathVariable Long id,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                                   @Valid @RequestBody UpdatePlayerDTO playerDTO) {
-        PlayerDTO updated = playerService.updatePlayer(id, playerDTO);
-        return ResponseEntity.ok(updated);
+        PlayerDTO updated = playerService.updatePlayer(id, playerDTO, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(updated.getVersion())).body(updated);
+    }
+
+    /**
+     * Partially update a player with a JSON Merge Patch document.
+     * Only the members present in the document change; arrays replace the whole set.
+     *
+     * @param id      the player ID
+     * @param ifMatch the ETag the patch is based on (optional)
+     * @param patch   the merge patch document
+     * @return the updated player with its new ETag, or 412 if the player changed meanwhile
+     */
+    @PatchMapping(value = "/{id}", consumes = PlayerMergePatch.MEDIA_TYPE)
+    public ResponseEntity<PlayerDTO> patchPlayer(@PathVariable Long id,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                 @RequestBody JsonNode patch) {
+        PlayerDTO updated = playerService.updatePlayer(id, mergePatch.toUpdate(patch),
+                ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(updated.getVersion())).body(updated);
     }
 
     /**
@@ -74,13 +152,17 @@ public class PlayerController {
     /**
      * Get a player by ID.
      *
-     * @param id the player ID
-     * @return the player data
+     * @param id          the player ID
+     * @param ifNoneMatch the ETag of the client copy (optional)
+     * @return the player data with its ETag, or 304 if the client copy is current
      */
     @GetMapping("/{id}")
-    public ResponseEntity<PlayerDTO> getPlayerById(@PathVariable Long id) {
+    public ResponseEntity<PlayerDTO> getPlayerById(@PathVariable Long id,
+                                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         PlayerDTO player = playerService.getPlayerById(id);
-        return ResponseEntity.ok(player);
+        if (ETags.matches(ifNoneMatch, player.getVersion()))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(ETags.of(player.getVersion())).build();
+        return ResponseEntity.ok().eTag(ETags.of(player.getVersion())).body(player);
     }
 
     /**
@@ -117,6 +199,63 @@ public class PlayerController {
         return ResponseEntity.ok(players);
     }
 
+    /**
+     * Get player counts per nationality, position, age range and height range.
+     * Accepts the same filters as the player list; each facet ignores its own filter.
+     *
+     * @param name          filter by full name (first + last)
+     * @param nationalities filter by nationalities (intersection)
+     * @param minAge        minimum age
+     * @param maxAge        maximum age
+     * @param positions     filter by positions (intersection)
+     * @param minHeight     minimum height
+     * @param maxHeight     maximum height
+     * @return facet counts
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<PlayerFacetsDTO> getPlayerFacets(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) List<String> nationalities,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxAge,
+            @RequestParam(required = false) List<String> positions,
+            @RequestParam(required = false) Double minHeight,
+            @RequestParam(required = false) Double maxHeight) {
+        PlayerFacetsDTO facets = playerService.getPlayerFacets(
+                name, nationalities, minAge, maxAge, positions, minHeight, maxHeight);
+        return ResponseEntity.ok(facets);
+    }
+
+    /**
+     * Get the player changes recorded after a sequence number, oldest first.
+     * Clients keep the returned {@code nextSince} and poll with it to sync incrementally.
+     *
+     * @param since the last sequence number seen (0 for the whole log)
+     * @param limit the maximum number of changes to return
+     * @return the changes and the sequence to resume from
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<PlayerChangesDTO> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(playerService.getChanges(since, limit));
+    }
+
+    /**
+     * Stream player changes as Server-Sent Events, each carrying only the fields that changed.
+     * A reconnecting client sends the last event ID it received and gets the changes it missed first.
+     *
+     * @param lastEventId the sequence of the last change received (sent by the browser on reconnect)
+     * @param since       same as {@code Last-Event-ID}, for clients that cannot set headers
+     * @return the event stream
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestParam(required = false) Long since) {
+        return changeBroadcaster.subscribe(lastEventId != null ? lastEventId : since);
+    }
+
     /**
      * Bulk upload players from a CSV file.
      *
@@ -0,0 +1,43 @@
+package org.example.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the database work per request of one endpoint.
+ * A high statement count per request for a constant page size points to N+1 selects.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EndpointQueryStatsDTO {
+
+    /**
+     * Endpoint (method and path template), with the filter criteria of player queries
+     */
+    private String endpoint;
+
+    /**
+     * Requests recorded
+     */
+    private long requests;
+
+    /**
+     * Mean and maximum statements executed per request
+     */
+    private double meanStatements;
+    private int maxStatements;
+
+    /**
+     * Mean and maximum entities loaded per request
+     */
+    private double meanEntityLoads;
+    private int maxEntityLoads;
+
+    /**
+     * Mean and maximum time spent executing statements per request, in milliseconds
+     */
+    private double meanDatabaseMillis;
+    private double maxDatabaseMillis;
+}
@@ -0,0 +1,50 @@
+package org.example.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.utils.enums.PendingStatus;
+
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for a player creation accepted by the write-behind queue.
+ * The ticket identifies the creation until it is committed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingCreateDTO {
+
+    /**
+     * Ticket identifying the queued creation
+     */
+    private UUID ticket;
+
+    /**
+     * Current state of the creation
+     */
+    private PendingStatus status;
+
+    /**
+     * The created player, once committed
+     */
+    private PlayerDTO player;
+
+    /**
+     * Why the creation failed, if it did
+     */
+    private String reason;
+
+    public static PendingCreateDTO pending(UUID ticket) {
+        return new PendingCreateDTO(ticket, PendingStatus.PENDING, null, null);
+    }
+
+    public static PendingCreateDTO created(UUID ticket, PlayerDTO player) {
+        return new PendingCreateDTO(ticket, PendingStatus.CREATED, player, null);
+    }
+
+    public static PendingCreateDTO failed(UUID ticket, String reason) {
+        return new PendingCreateDTO(ticket, PendingStatus.FAILED, null, reason);
+    }
+}
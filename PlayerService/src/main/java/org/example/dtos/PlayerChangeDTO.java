@@ -0,0 +1,54 @@
+package org.example.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.entities.PlayerChangeEntity;
+import org.example.events.PlayerChangedEvent;
+
+import java.util.Date;
+
+/**
+ * Data Transfer Object for one entry of the player change feed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerChangeDTO {
+
+    /**
+     * Position of the change in the feed, pass the last one seen as {@code since} to resume
+     */
+    private long sequence;
+
+    /**
+     * Kind of change
+     */
+    private PlayerChangedEvent.Type type;
+
+    /**
+     * ID of the changed player (null when every player was removed)
+     */
+    private Long playerId;
+
+    /**
+     * Player state after the change (null for deletions)
+     */
+    private PlayerDTO player;
+
+    /**
+     * Date when the change was recorded
+     */
+    private Date changedAt;
+
+    /**
+     * Maps a PlayerChangeEntity to PlayerChangeDTO.
+     *
+     * @param change the PlayerChangeEntity
+     * @return the corresponding PlayerChangeDTO
+     */
+    public static PlayerChangeDTO fromEntity(PlayerChangeEntity change) {
+        return new PlayerChangeDTO(change.getSequence(), change.getType(), change.getPlayerId(),
+                change.getPlayer(), change.getChangedAt());
+    }
+}
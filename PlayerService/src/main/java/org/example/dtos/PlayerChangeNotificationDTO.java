@@ -0,0 +1,84 @@
+package org.example.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.events.PlayerChangedEvent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Data Transfer Object for a compact player change pushed to subscribed clients.
+ * Carries only the fields that changed, keyed by their PlayerDTO property name.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerChangeNotificationDTO {
+
+    /**
+     * Sequence number of the change, also sent as the event ID for resumption
+     */
+    private long sequence;
+
+    /**
+     * Kind of change
+     */
+    private PlayerChangedEvent.Type type;
+
+    /**
+     * ID of the changed player (null when every player was removed)
+     */
+    private Long playerId;
+
+    /**
+     * New value of every changed field (empty for deletions)
+     */
+    private Map<String, Object> fields;
+
+    /**
+     * Build the notification of a change, keeping only the fields that differ between
+     * the player states before and after it.
+     *
+     * @param sequence the sequence number of the change
+     * @param change   the change
+     * @return the compact notification
+     */
+    public static PlayerChangeNotificationDTO of(long sequence, PlayerChangedEvent change) {
+        Map<String, Object> after = fieldsOf(change.getAfter());
+        Map<String, Object> before = fieldsOf(change.getBefore());
+        after.entrySet().removeIf(field -> before.containsKey(field.getKey())
+                && Objects.equals(before.get(field.getKey()), field.getValue()));
+        return new PlayerChangeNotificationDTO(sequence, change.getType(), change.getPlayerId(), after);
+    }
+
+    /**
+     * Build the notification of a logged change, whose previous state is not known:
+     * every field of the player after the change is included.
+     *
+     * @param change the change log entry
+     * @return the notification
+     */
+    public static PlayerChangeNotificationDTO of(PlayerChangeDTO change) {
+        return new PlayerChangeNotificationDTO(change.getSequence(), change.getType(), change.getPlayerId(),
+                fieldsOf(change.getPlayer()));
+    }
+
+    private static Map<String, Object> fieldsOf(PlayerDTO player) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        if (player == null)
+            return fields;
+        fields.put("firstName", player.getFirstName());
+        fields.put("lastName", player.getLastName());
+        fields.put("nationalities", player.getNationalities());
+        fields.put("dateOfBirth", player.getDateOfBirth());
+        fields.put("positions", player.getPositions());
+        fields.put("height", player.getHeight());
+        fields.put("creationDate", player.getCreationDate());
+        fields.put("lastModifiedDate", player.getLastModifiedDate());
+        fields.put("version", player.getVersion());
+        return fields;
+    }
+}
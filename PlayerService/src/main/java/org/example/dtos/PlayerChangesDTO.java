@@ -0,0 +1,31 @@
+package org.example.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a page of the player change feed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerChangesDTO {
+
+    /**
+     * Changes after the requested sequence, oldest first
+     */
+    private List<PlayerChangeDTO> changes;
+
+    /**
+     * Sequence to pass as {@code since} for the next page (unchanged when there were no changes)
+     */
+    private long nextSince;
+
+    /**
+     * Whether more changes are already available
+     */
+    private boolean hasMore;
+}
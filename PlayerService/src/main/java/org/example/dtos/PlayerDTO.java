@@ -82,6 +82,11 @@ public class PlayerDTO {
          */
         private Date lastModifiedDate;
 
+        /**
+         * Version of the player, exposed as its ETag (ignored on POST request)
+         */
+        private Long version;
+
         /**
          * Maps a PlayerEntity to PlayerDTO.
          *
@@ -110,7 +115,8 @@ public class PlayerDTO {
                                 positions,
                                 player.getHeight(),
                                 player.getCreationDate(),
-                                player.getLastModifiedDate());
+                                player.getLastModifiedDate(),
+                                player.getVersion());
         }
 
         /**
@@ -122,13 +128,13 @@ public class PlayerDTO {
         public static PlayerEntity toEntity(PlayerDTO dto) {
                 Set<NationalityEntity> nationalityEntities = dto.getNationalities() != null
                                 ? dto.getNationalities().stream()
-                                                .map(nationality -> new NationalityEntity(nationality, null))
+                                                .map(nationality -> new NationalityEntity(nationality))
                                                 .collect(Collectors.toSet())
                                 : null;
 
                 Set<PositionEntity> positionEntities = dto.getPositions() != null
                                 ? dto.getPositions().stream()
-                                                .map(position -> new PositionEntity(position, null))
+                                                .map(position -> new PositionEntity(position))
                                                 .collect(Collectors.toSet())
                                 : null;
 
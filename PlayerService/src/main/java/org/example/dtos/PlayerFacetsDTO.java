@@ -0,0 +1,47 @@
+package org.example.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.utils.enums.AgeBucket;
+import org.example.utils.enums.HeightBucket;
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.Positions;
+
+import java.util.Map;
+
+/**
+ * Data Transfer Object for faceted player counts.
+ * Each facet counts the players matching every filter except its own,
+ * so selecting a value never hides its alternatives.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerFacetsDTO {
+
+    /**
+     * Number of players matching all filters
+     */
+    private long total;
+
+    /**
+     * Player count per nationality
+     */
+    private Map<Nationality, Long> nationalities;
+
+    /**
+     * Player count per position
+     */
+    private Map<Positions, Long> positions;
+
+    /**
+     * Player count per age range
+     */
+    private Map<AgeBucket, Long> ageBuckets;
+
+    /**
+     * Player count per height range
+     */
+    private Map<HeightBucket, Long> heightBuckets;
+}
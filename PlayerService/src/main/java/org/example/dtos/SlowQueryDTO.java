@@ -0,0 +1,42 @@
+package org.example.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * Data Transfer Object for a statement that ran longer than the slow-query threshold.
+ * Bind parameter values are never recorded, only their types.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlowQueryDTO {
+
+    /**
+     * When the statement finished
+     */
+    private Date timestamp;
+
+    /**
+     * Execution time in milliseconds
+     */
+    private long elapsedMillis;
+
+    /**
+     * The SQL, with its placeholders
+     */
+    private String sql;
+
+    /**
+     * Types of the bind parameters, e.g. {@code (Long, String)}, with the batch size if batched
+     */
+    private String parameters;
+
+    /**
+     * Endpoint of the request that ran it (method and path template), or the background workload
+     */
+    private String endpoint;
+}
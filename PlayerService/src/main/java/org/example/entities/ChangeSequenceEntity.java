@@ -0,0 +1,29 @@
+package org.example.entities;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JPA entity holding the last sequence number handed out to the player change log.
+ * Writers lock the row until they commit, so sequence numbers become visible in order.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeSequenceEntity {
+
+    /**
+     * Name of the sequence
+     */
+    @Id
+    private String name;
+
+    /**
+     * Last sequence number handed out
+     */
+    private long lastValue;
+}
@@ -3,12 +3,9 @@ package org.example.entities;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
-import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import org.example.utils.enums.Nationality;
 
-import java.util.Set;
-
 /**
  * JPA entity representing a nationality associated with a player.
  */
@@ -25,11 +22,4 @@ public class NationalityEntity {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, unique = true)
     private Nationality nationality;
-
-    /**
-     * Set of players associated with the nationality
-     */
-    @ManyToMany(mappedBy = "nationalities")
-    @EqualsAndHashCode.Exclude
-    private Set<PlayerEntity> players;
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package org.example.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.dtos.PlayerDTO;
+import org.example.events.PlayerChangedEvent;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+import java.util.Date;
+
+/**
+ * JPA entity representing one entry of the append-only player change log.
+ * Entries are written in the same transaction as the change they describe.
+ */
+@Entity
+@Table(name = "player_change")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerChangeEntity implements Persistable<Long> {
+
+    /**
+     * Position of the change in the log, gap-free and in commit order
+     */
+    @Id
+    private Long sequence;
+
+    /**
+     * Kind of change
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PlayerChangedEvent.Type type;
+
+    /**
+     * ID of the changed player (null when every player was removed)
+     */
+    private Long playerId;
+
+    /**
+     * Player state after the change (null for deletions)
+     */
+    @JdbcTypeCode(SqlTypes.JSON)
+    private PlayerDTO player;
+
+    /**
+     * Player state before the change (null for creations, and for entries logged before it was kept),
+     * so other instances can invalidate their cached pages precisely
+     */
+    @JdbcTypeCode(SqlTypes.JSON)
+    private PlayerDTO previous;
+
+    /**
+     * Date when the change was recorded
+     */
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(nullable = false)
+    private Date changedAt;
+
+    @Override
+    public Long getId() {
+        return sequence;
+    }
+
+    /**
+     * Log entries are only ever inserted, this spares the SELECT a merge of an assigned ID would issue
+     */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
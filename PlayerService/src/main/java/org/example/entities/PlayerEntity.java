@@ -1,24 +1,42 @@
 package org.example.entities;
 
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 import java.util.Date;
+import java.util.Locale;
 import java.util.Set;
 
 /**
  * JPA entity representing a player in the system.
  * Contains personal details, nationalities, positions, and audit fields.
+ * Updates only write the changed columns.
+ * The collections of a page of players are loaded together, one query per collection for up to
+ * {@value #COLLECTION_BATCH_SIZE} players, instead of one query per player.
  */
 @Entity
+@DynamicUpdate
+@Table(uniqueConstraints = @UniqueConstraint(name = PlayerEntity.NATURAL_KEY_CONSTRAINT, columnNames = "natural_key"))
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class PlayerEntity {
+    /**
+     * Name of the unique constraint guarding the natural key, used to recognise duplicate inserts
+     */
+    public static final String NATURAL_KEY_CONSTRAINT = "uk_player_natural_key";
+
+    /**
+     * Players whose collections are loaded by one query
+     */
+    static final int COLLECTION_BATCH_SIZE = 100;
+
     /**
      * Unique identifier for the player
      */
@@ -39,17 +57,21 @@ public class PlayerEntity {
     private String lastName;
 
     /**
-     * Set of nationalities associated with the player
+     * Set of nationalities associated with the player.
+     * Owning side only: the players of a nationality are found with a query, never through the nationality
      */
     @ManyToMany()
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @JoinTable(name = "player_nationalities", joinColumns = @JoinColumn(name = "player_id"), inverseJoinColumns = @JoinColumn(name = "nationality"))
     @EqualsAndHashCode.Exclude
     private Set<NationalityEntity> nationalities;
 
     /**
-     * Set of positions associated with the player
+     * Set of positions associated with the player.
+     * Owning side only: the players of a position are found with a query, never through the position
      */
     @ManyToMany()
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @JoinTable(name = "player_positions", joinColumns = @JoinColumn(name = "player_id"), inverseJoinColumns = @JoinColumn(name = "position"))
     @EqualsAndHashCode.Exclude
     private Set<PositionEntity> positions;
@@ -80,15 +102,60 @@ public class PlayerEntity {
     @Column(name = "last_modified_date", nullable = false)
     private Date lastModifiedDate;
 
-    // Lifecycle hooks for automatic date management
+    /**
+     * Case-folded, trimmed first name, last name and date of birth identifying the player.
+     * Derived from the other columns on every write, never set directly.
+     */
+    @Column(name = "natural_key", nullable = false)
+    @Setter(AccessLevel.NONE)
+    private String naturalKey;
+
+    /**
+     * Optimistic-locking version, incremented by Hibernate on every update
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    public PlayerEntity(Long id, String firstName, String lastName, Set<NationalityEntity> nationalities,
+            Set<PositionEntity> positions, LocalDate dateOfBirth, Double height, Date creationDate,
+            Date lastModifiedDate) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.nationalities = nationalities;
+        this.positions = positions;
+        this.dateOfBirth = dateOfBirth;
+        this.height = height;
+        this.creationDate = creationDate;
+        this.lastModifiedDate = lastModifiedDate;
+    }
+
+    /**
+     * Build the natural key of a player: two players with the same key are considered duplicates.
+     *
+     * @param firstName   the first name
+     * @param lastName    the last name
+     * @param dateOfBirth the date of birth
+     * @return the normalized key
+     */
+    public static String naturalKeyOf(String firstName, String lastName, LocalDate dateOfBirth) {
+        return firstName.strip().toLowerCase(Locale.ROOT) + '|'
+                + lastName.strip().toLowerCase(Locale.ROOT) + '|'
+                + dateOfBirth;
+    }
+
+    // Lifecycle hooks for automatic date and natural key management
     @PrePersist
     protected void onCreate() {
         this.creationDate = new Date();
         this.lastModifiedDate = new Date();
+        this.naturalKey = naturalKeyOf(firstName, lastName, dateOfBirth);
     }
 
     @PreUpdate
     protected void onUpdate() {
         this.lastModifiedDate = new Date();
+        this.naturalKey = naturalKeyOf(firstName, lastName, dateOfBirth);
     }
 }
\ No newline at end of file
@@ -3,12 +3,9 @@ package org.example.entities;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
-import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import org.example.utils.enums.Positions;
 
-import java.util.Set;
-
 /**
  * JPA entity representing a position associated with a player.
  */
@@ -25,11 +22,4 @@ public class PositionEntity {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, unique = true)
     private Positions position;
-
-    /**
-     * Set of players associated with the position
-     */
-    @ManyToMany(mappedBy = "positions")
-    @EqualsAndHashCode.Exclude
-    private Set<PlayerEntity> players;
 }
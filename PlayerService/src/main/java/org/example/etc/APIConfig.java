@@ -17,6 +17,7 @@ public class APIConfig implements WebMvcConfigurer {
                 .allowedOriginPatterns("*")   // allow any origin
                 .allowedMethods("*")          // allow GET, POST, PUT, DELETE, OPTIONS, etc.
                 .allowedHeaders("*")          // allow any header
+                .exposedHeaders("ETag", "Retry-After") // player versions and back-off hints
                 .allowCredentials(false);     // must be false if you use "*" origin
     }
 }
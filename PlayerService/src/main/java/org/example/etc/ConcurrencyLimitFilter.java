@@ -0,0 +1,122 @@
+package org.example.etc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.example.utils.AimdLimit;
+import org.example.utils.enums.WorkloadClass;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Sheds player API requests beyond an adaptive concurrency limit with 503 and Retry-After,
+ * instead of letting them queue in Tomcat until everything times out together.
+ * <p>
+ * Each {@link WorkloadClass} has its own {@link AimdLimit}, so imports and exports are held to a
+ * few slots and cannot use up the capacity that keeps interactive reads fast when the database
+ * slows down.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "player.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String PREFIX = "player.concurrency-limit.";
+
+    private final Map<WorkloadClass, AimdLimit> limits = new EnumMap<>(WorkloadClass.class);
+    private final Map<WorkloadClass, Counter> shed = new EnumMap<>(WorkloadClass.class);
+    private final String retryAfterSeconds;
+
+    @Autowired
+    public ConcurrencyLimitFilter(Environment environment, MeterRegistry meterRegistry) {
+        double backoffRatio = environment.getProperty(PREFIX + "backoff-ratio", Double.class, 0.9);
+        Duration retryAfter = environment.getProperty(PREFIX + "retry-after", Duration.class, Duration.ofSeconds(1));
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+
+        for (WorkloadClass workload : WorkloadClass.values()) {
+            String prefix = PREFIX + workload.name().toLowerCase(Locale.ROOT) + ".";
+            AimdLimit limit = new AimdLimit(
+                    environment.getRequiredProperty(prefix + "initial", Integer.class),
+                    environment.getRequiredProperty(prefix + "min", Integer.class),
+                    environment.getRequiredProperty(prefix + "max", Integer.class),
+                    backoffRatio,
+                    environment.getRequiredProperty(prefix + "latency-threshold", Duration.class).toNanos());
+            limits.put(workload, limit);
+
+            String tag = workload.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("players.concurrency.limit", limit, AimdLimit::getLimit)
+                    .description("Adaptive limit of concurrent requests")
+                    .tag("workload", tag)
+                    .register(meterRegistry);
+            Gauge.builder("players.concurrency.in_flight", limit, AimdLimit::getInFlight)
+                    .description("Requests being processed")
+                    .tag("workload", tag)
+                    .register(meterRegistry);
+            shed.put(workload, Counter.builder("players.requests.shed")
+                    .description("Requests rejected with 503 because the concurrency limit was reached")
+                    .tag("workload", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        WorkloadClass workload = WorkloadClass.of(request.getMethod(),
+                request.getRequestURI().substring(request.getContextPath().length()));
+        if (workload == null || HttpMethod.OPTIONS.matches(request.getMethod())) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        AimdLimit limit = limits.get(workload);
+        int inFlight = limit.tryAcquire();
+        if (inFlight == 0) {
+            shed.get(workload).increment();
+            log.debug("Shedding {} request {} {} at limit {}", workload, request.getMethod(), request.getRequestURI(),
+                    limit.getLimit());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.getWriter().write("Service is overloaded, retry later");
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = response.getStatus() >= 500 && !isShedByService(response);
+        } finally {
+            limit.release(inFlight, System.nanoTime() - start, failed);
+        }
+    }
+
+    /**
+     * Whether a response is a 503 with Retry-After that the service sent to shed load itself (full
+     * write-behind queue, exhausted connection pool). Counting those as failures would cut the limit
+     * for its own back-pressure; a pool that is out of connections still shows up as slow requests.
+     */
+    private static boolean isShedByService(HttpServletResponse response) {
+        return response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value()
+                && response.containsHeader(HttpHeaders.RETRY_AFTER);
+    }
+}
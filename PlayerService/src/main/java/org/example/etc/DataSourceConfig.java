@@ -0,0 +1,123 @@
+package org.example.etc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.utils.ConcurrencyLimitedDataSource;
+import org.example.utils.WorkloadRoutingDataSource;
+import org.example.utils.enums.WorkloadClass;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Gives every {@link WorkloadClass} its own connection pool, so that an import or a full export
+ * can only use up the connections of the bulk pool and never those serving interactive reads.
+ * <p>
+ * Each pool is guarded by a {@link ConcurrencyLimitedDataSource} sized to it: callers beyond the
+ * pool size wait in a bounded queue of their class, and are refused once it is full. Pool usage is
+ * reported per class through the Hikari metrics ({@code hikaricp.connections.*}, tagged with the
+ * pool name) and the permit gauges ({@code players.db.permits.*}, tagged with the workload).
+ * <p>
+ * With {@code player.db.partitioned-pools.enabled=false} the single auto-configured pool is kept,
+ * still capped at {@code player.db.max-concurrency} callers, as virtual threads would otherwise all
+ * reach the database at once.
+ */
+@Slf4j
+@Configuration
+public class DataSourceConfig {
+
+    private static final String PREFIX = "player.db.";
+    private static final String PARTITIONED = PREFIX + "partitioned-pools.enabled";
+
+    /**
+     * Build one pool per workload class behind a DataSource routing on the current workload.
+     * Every pool gets the {@code spring.datasource.hikari.*} settings, except its name and size.
+     *
+     * @param properties    the standard {@code spring.datasource.*} connection settings
+     * @param environment   the environment holding the per-class pool settings
+     * @param meterRegistry the registry receiving the pool metrics
+     * @return the routing DataSource
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = PARTITIONED, havingValue = "true", matchIfMissing = true)
+    public DataSource dataSource(DataSourceProperties properties, Environment environment, MeterRegistry meterRegistry) {
+        Duration defaultTimeout = environment.getProperty(PREFIX + "acquire-timeout", Duration.class,
+                Duration.ofSeconds(30));
+        Binder binder = Binder.get(environment);
+        Map<Object, Object> pools = new HashMap<>();
+        for (WorkloadClass workload : WorkloadClass.values()) {
+            String name = workload.name().toLowerCase(Locale.ROOT);
+            String prefix = PREFIX + name + ".";
+            int poolSize = environment.getRequiredProperty(prefix + "pool-size", Integer.class);
+            int queue = environment.getRequiredProperty(prefix + "queue", Integer.class);
+            Duration acquireTimeout = environment.getProperty(prefix + "acquire-timeout", Duration.class, defaultTimeout);
+
+            HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+            pool.setPoolName("players-" + name);
+            pool.setMaximumPoolSize(poolSize);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+            ConcurrencyLimitedDataSource limited = new ConcurrencyLimitedDataSource(pool, poolSize, queue, acquireTimeout);
+            Gauge.builder("players.db.permits.waiting", limited, ConcurrencyLimitedDataSource::getWaiting)
+                    .description("Callers waiting for a database connection")
+                    .tag("workload", name)
+                    .register(meterRegistry);
+            Gauge.builder("players.db.permits.available", limited, ConcurrencyLimitedDataSource::getAvailablePermits)
+                    .description("Database connections free to take")
+                    .tag("workload", name)
+                    .register(meterRegistry);
+            pools.put(workload, limited);
+            log.info("Workload {}: {} connections, queue of {}, wait up to {}", workload, poolSize, queue,
+                    acquireTimeout);
+        }
+
+        WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource();
+        routing.setTargetDataSources(pools);
+        routing.setDefaultTargetDataSource(pools.get(WorkloadClass.INTERACTIVE));
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    /**
+     * Wrap the single auto-configured DataSource once it is created, when the pools are not partitioned.
+     * Static so that it does not force early creation of this configuration.
+     *
+     * @param environment the environment holding the limit settings
+     * @return the post processor
+     */
+    @Bean
+    @ConditionalOnProperty(name = PARTITIONED, havingValue = "false")
+    static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource)
+                    return bean;
+                int maxConcurrency = environment.getProperty(PREFIX + "max-concurrency", Integer.class,
+                        environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+                int queue = environment.getProperty(PREFIX + "queue", Integer.class, Integer.MAX_VALUE);
+                Duration acquireTimeout = environment.getProperty(PREFIX + "acquire-timeout", Duration.class,
+                        Duration.ofSeconds(30));
+                log.info("Limiting DataSource '{}' to {} concurrent connections", beanName, maxConcurrency);
+                return new ConcurrencyLimitedDataSource(dataSource, maxConcurrency, queue, acquireTimeout);
+            }
+        };
+    }
+}
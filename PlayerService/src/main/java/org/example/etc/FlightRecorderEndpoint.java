@@ -0,0 +1,160 @@
+package org.example.etc;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint ({@code /actuator/jfr}) running one Java Flight Recorder recording on demand,
+ * with the JDK events (GC, allocation, locks, I/O, CPU samples) and the player service events
+ * ({@code org.example.players.*}, enabled by default).
+ * <p>
+ * POST starts a recording, bounded in duration and size; DELETE stops it; GET {@code /recording}
+ * downloads the {@code .jfr} file of the running or last recording, to open in JDK Mission Control
+ * or {@code jfr print}. GET reports the state.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "jfr")
+public class FlightRecorderEndpoint {
+
+    private final Duration maxDuration;
+    private final DataSize maxSize;
+    private final String defaultSettings;
+
+    private Recording recording;
+    private Path lastFile;
+
+    @Autowired
+    public FlightRecorderEndpoint(@Value("${player.jfr.max-duration:PT10M}") Duration maxDuration,
+            @Value("${player.jfr.max-size:100MB}") DataSize maxSize,
+            @Value("${player.jfr.settings:profile}") String defaultSettings) {
+        this.maxDuration = maxDuration;
+        this.maxSize = maxSize;
+        this.defaultSettings = defaultSettings;
+    }
+
+    /**
+     * @return the state of the current or last recording
+     */
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", recording == null ? "NONE" : recording.getState().name());
+        if (recording != null) {
+            status.put("settings", recording.getName());
+            status.put("startTime", recording.getStartTime());
+            status.put("duration", recording.getDuration());
+            status.put("maxSize", recording.getMaxSize());
+        }
+        status.put("file", lastFile == null ? null : lastFile.toString());
+        return status;
+    }
+
+    /**
+     * Start a recording, unless one is running.
+     *
+     * @param duration how long to record, capped at {@code player.jfr.max-duration} (default: the cap)
+     * @param settings JFR configuration, {@code default} (about 1% overhead) or {@code profile} (about 2%)
+     * @return the state of the recording, or 409 if one is already running
+     */
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> start(@Nullable Duration duration,
+            @Nullable String settings) throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING)
+            return new WebEndpointResponse<>(status(), 409);
+        close();
+
+        String configuration = settings == null ? defaultSettings : settings;
+        Recording started = new Recording(Configuration.getConfiguration(configuration));
+        started.setName(configuration);
+        started.setDuration(duration == null || duration.compareTo(maxDuration) > 0 ? maxDuration : duration);
+        started.setMaxSize(maxSize.toBytes());
+        started.setToDisk(true);
+        lastFile = Files.createTempFile("players-", ".jfr");
+        started.setDestination(lastFile);
+        started.start();
+        recording = started;
+        log.info("Flight recording started ({} settings, for {}, up to {}) into {}", configuration,
+                started.getDuration(), maxSize, lastFile);
+        return new WebEndpointResponse<>(status(), WebEndpointResponse.STATUS_OK);
+    }
+
+    /**
+     * Stop the running recording; its file stays available for download.
+     *
+     * @return the state of the recording
+     */
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("Flight recording stopped, written to {}", lastFile);
+        }
+        return status();
+    }
+
+    /**
+     * Download the recording: a snapshot of the running one, or the file of the last one.
+     *
+     * @param name must be {@code recording}
+     * @return the {@code .jfr} file, or 404 if nothing was recorded
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> download(@Selector String name) throws IOException {
+        if (!"recording".equals(name) || lastFile == null)
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        if (recording.getState() == RecordingState.RUNNING) {
+            Path snapshot = snapshotFile();
+            Files.deleteIfExists(snapshot);
+            recording.dump(snapshot);
+            return new WebEndpointResponse<>(new FileSystemResource(snapshot), WebEndpointResponse.STATUS_OK);
+        }
+        if (!Files.exists(lastFile))
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        return new WebEndpointResponse<>(new FileSystemResource(lastFile), WebEndpointResponse.STATUS_OK);
+    }
+
+    /**
+     * Discard the recording and the files written for it.
+     */
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+        if (lastFile != null) {
+            Files.deleteIfExists(snapshotFile());
+            Files.deleteIfExists(lastFile);
+            lastFile = null;
+        }
+    }
+
+    private Path snapshotFile() {
+        return lastFile.resolveSibling(lastFile.getFileName() + ".snapshot");
+    }
+}
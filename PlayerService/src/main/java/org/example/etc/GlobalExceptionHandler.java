@@ -1,13 +1,18 @@
 package org.example.etc;
 
 import lombok.extern.slf4j.Slf4j;
+import org.example.utils.RetryLaterException;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.validation.FieldError;
+
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -28,8 +33,22 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(ResponseStatusException.class)
     public ResponseEntity<Object> handleResponseStatusException(ResponseStatusException ex) {
-        // Let Spring handle it as usual
-        return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        // Let Spring handle it as usual, keeping headers such as Retry-After
+        return ResponseEntity.status(ex.getStatusCode()).headers(ex.getHeaders()).body(ex.getReason());
+    }
+
+    /**
+     * Handle a database that is out of connections for the request's workload class
+     * and return HTTP 503 with Retry-After.
+     *
+     * @param ex the exception
+     * @return the response entity with status 503
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<Object> handleDatabaseBusy(Exception ex) {
+        log.warn("Database unavailable: {}", ex.getMessage());
+        RetryLaterException retryLater = new RetryLaterException("Database is busy, retry later", Duration.ofSeconds(1));
+        return handleResponseStatusException(retryLater);
     }
 
     /**
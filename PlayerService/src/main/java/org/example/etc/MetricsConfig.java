@@ -0,0 +1,21 @@
+package org.example.etc;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Micrometer configuration: enables {@code @Timed} on Spring beans.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Records a timer for every {@code @Timed} class or method, tagged with the class and method name.
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,228 @@
+package org.example.etc;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.entities.PlayerEntity;
+import org.example.utils.WorkloadContext;
+import org.example.utils.enums.WorkloadClass;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Brings a player table created before the natural key existed up to date, before Hibernate
+ * validates or updates the schema ({@code ddl-auto=update} would add the column as {@code NOT NULL}
+ * filled with blanks, then fail to create the unique constraint and only log it).
+ * <p>
+ * On such a table the migration:
+ * <ol>
+ *     <li>adds {@code natural_key} as a nullable column if it is missing;</li>
+ *     <li>computes the key of every row with {@link PlayerEntity#naturalKeyOf}, again on each startup
+ *     until the constraint exists, so players fixed by hand after a stop get their new key;</li>
+ *     <li>stops the startup if players share a key, listing the ids of each group, unless
+ *     {@code player.migration.remove-duplicates=true}: then only the first created (lowest id) of each
+ *     key is kept, every removed id is logged and a deletion is appended to the change log if there
+ *     is one;</li>
+ *     <li>makes the column {@code NOT NULL} and creates {@value PlayerEntity#NATURAL_KEY_CONSTRAINT}.</li>
+ * </ol>
+ * The key also ignores surrounding whitespace, which the duplicate check before it did not, so
+ * players that were accepted as distinct may share a key: deleting them takes an operator's decision.
+ * Any failure stops the startup instead of leaving the service running without the constraint.
+ * A fresh database, or one already migrated, is left untouched.
+ */
+@Slf4j
+@Configuration
+public class NaturalKeyMigration {
+
+    private static final String TABLE = "player_entity";
+    private static final String COLUMN = "natural_key";
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean removeDuplicates;
+
+    @Autowired
+    public NaturalKeyMigration(DataSource dataSource,
+            @Value("${player.migration.remove-duplicates:false}") boolean removeDuplicates) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.removeDuplicates = removeDuplicates;
+    }
+
+    /**
+     * Make the entity manager factory, and so the Hibernate schema update, wait for the migration.
+     */
+    @Bean
+    static EntityManagerFactoryDependsOnPostProcessor naturalKeyMigrationDependency() {
+        return new EntityManagerFactoryDependsOnPostProcessor(NaturalKeyMigration.class);
+    }
+
+    @PostConstruct
+    void migrate() {
+        WorkloadContext.run(WorkloadClass.BULK, this::migrateIfNeeded);
+    }
+
+    private void migrateIfNeeded() {
+        if (!exists(TABLE, null))
+            return;
+        boolean hasColumn = exists(TABLE, COLUMN);
+        if (hasColumn && uniqueIndexExists())
+            return;
+
+        log.warn("Migrating {} to the natural key: {}", TABLE, hasColumn ? "adding the unique constraint"
+                : "adding the column");
+        if (!hasColumn)
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD COLUMN " + COLUMN + " VARCHAR(255)");
+        long backfilled = backfill();
+        long removed = removeDuplicates();
+        setNotNull();
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT " + PlayerEntity.NATURAL_KEY_CONSTRAINT
+                + " UNIQUE (" + COLUMN + ")");
+        log.warn("Natural key migration done: computed {} keys, removed {} duplicate players", backfilled, removed);
+    }
+
+    /**
+     * Compute the key of every row, one transaction per batch of rows.
+     *
+     * @return the number of rows updated
+     */
+    private long backfill() {
+        long updated = 0;
+        long lastId = 0;
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query("SELECT id, first_name, last_name, date_of_birth FROM " + TABLE
+                            + " WHERE id > ? ORDER BY id LIMIT "
+                            + BATCH_SIZE,
+                    (rs, rowNum) -> new Object[]{
+                            PlayerEntity.naturalKeyOf(rs.getString(2), rs.getString(3),
+                                    rs.getDate(4).toLocalDate()),
+                            rs.getLong(1)},
+                    lastId);
+            if (rows.isEmpty())
+                return updated;
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate("UPDATE " + TABLE + " SET " + COLUMN + " = ? WHERE id = ?", rows));
+            updated += rows.size();
+            lastId = (Long) rows.get(rows.size() - 1)[1];
+        }
+    }
+
+    /**
+     * Delete every player sharing its key with an earlier one, with its join rows, if the operator
+     * allowed it; otherwise stop with the ids of every group of players sharing a key.
+     *
+     * @return the number of players removed
+     */
+    private long removeDuplicates() {
+        Map<String, List<Long>> groups = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT " + COLUMN + ", id FROM " + TABLE + " WHERE " + COLUMN + " IN (SELECT " + COLUMN
+                        + " FROM " + TABLE + " GROUP BY " + COLUMN + " HAVING COUNT(*) > 1) ORDER BY " + COLUMN + ", id",
+                (RowCallbackHandler) rs -> groups.computeIfAbsent(rs.getString(1), key -> new ArrayList<>())
+                        .add(rs.getLong(2)));
+        if (groups.isEmpty())
+            return 0;
+        if (!removeDuplicates) {
+            // Ids only: the key holds the player's names
+            groups.values().forEach(ids -> log.error("Players {} share a natural key", ids));
+            throw new IllegalStateException(groups.size() + " groups of players share a natural key (ids logged "
+                    + "above). Merge or rename them, or set player.migration.remove-duplicates=true to keep only "
+                    + "the lowest id of each group");
+        }
+
+        List<Long> duplicates = new ArrayList<>();
+        for (List<Long> ids : groups.values()) {
+            log.warn("Keeping player {}, removing its duplicates {}", ids.get(0), ids.subList(1, ids.size()));
+            duplicates.addAll(ids.subList(1, ids.size()));
+        }
+
+        boolean changeLog = exists("player_change", null) && exists("change_sequence_entity", null);
+        for (int from = 0; from < duplicates.size(); from += BATCH_SIZE) {
+            List<Long> batch = duplicates.subList(from, Math.min(from + BATCH_SIZE, duplicates.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Long id : batch) {
+                    jdbcTemplate.update("DELETE FROM player_nationalities WHERE player_id = ?", id);
+                    jdbcTemplate.update("DELETE FROM player_positions WHERE player_id = ?", id);
+                    jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE id = ?", id);
+                    if (changeLog)
+                        logDeletion(id);
+                }
+            });
+        }
+        return duplicates.size();
+    }
+
+    /**
+     * Append the deletion of a player to the change log, so feed readers drop it too.
+     */
+    private void logDeletion(long playerId) {
+        Long last = jdbcTemplate.queryForObject(
+                "SELECT last_value FROM change_sequence_entity WHERE name = 'player_change' FOR UPDATE", Long.class);
+        long sequence = (last == null ? 0 : last) + 1;
+        jdbcTemplate.update("UPDATE change_sequence_entity SET last_value = ? WHERE name = 'player_change'", sequence);
+        jdbcTemplate.update("INSERT INTO player_change (sequence, type, player_id, changed_at) VALUES (?, 'DELETED', ?, ?)",
+                sequence, playerId, new Timestamp(System.currentTimeMillis()));
+    }
+
+    private void setNotNull() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                JdbcUtils.commonDatabaseName(connection.getMetaData().getDatabaseProductName()));
+        if ("MySQL".equals(product) || "MariaDB".equals(product))
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " MODIFY " + COLUMN + " VARCHAR(255) NOT NULL");
+        else
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ALTER COLUMN " + COLUMN + " SET NOT NULL");
+    }
+
+    /**
+     * Check whether a table, or a column of it, exists in the current schema.
+     */
+    private boolean exists(String table, String column) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet rs = column == null
+                    ? metaData.getTables(connection.getCatalog(), connection.getSchema(), identifier(metaData, table), null)
+                    : metaData.getColumns(connection.getCatalog(), connection.getSchema(), identifier(metaData, table),
+                    identifier(metaData, column))) {
+                return rs.next();
+            }
+        }));
+    }
+
+    private boolean uniqueIndexExists() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(),
+                    identifier(metaData, TABLE), true, false)) {
+                List<String> columns = new ArrayList<>();
+                while (rs.next())
+                    columns.add(String.valueOf(rs.getString("COLUMN_NAME")).toLowerCase(Locale.ROOT));
+                return columns.contains(COLUMN);
+            }
+        }));
+    }
+
+    private static String identifier(DatabaseMetaData metaData, String name) throws SQLException {
+        if (metaData.storesUpperCaseIdentifiers())
+            return name.toUpperCase(Locale.ROOT);
+        return metaData.storesLowerCaseIdentifiers() ? name.toLowerCase(Locale.ROOT) : name;
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.etc;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import jakarta.servlet.http.HttpServletRequest;
+import org.example.utils.enums.SortBy;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Tags {@code http.server.requests} with the shape of the player query, on top of the default
+ * method, uri (the endpoint template), status and outcome tags, so list and facet latency can be
+ * broken down by query type.
+ * <p>
+ * Both tags are low-cardinality: {@code filter} names which criteria are set, never their values
+ * (at most 32 combinations), and {@code sortBy} is a {@link SortBy} constant.
+ */
+@Component
+public class PlayerRequestObservationConvention extends DefaultServerRequestObservationConvention {
+
+    static final String NONE = "none";
+
+    /**
+     * A filter criterion: its name in the tag and the request parameters setting it
+     */
+    private record Criterion(String tag, String... params) {
+    }
+
+    private static final List<Criterion> CRITERIA = List.of(
+            new Criterion("name", "name"),
+            new Criterion("nationalities", "nationalities"),
+            new Criterion("age", "minAge", "maxAge"),
+            new Criterion("positions", "positions"),
+            new Criterion("height", "minHeight", "maxHeight"));
+
+    private static final String LIST_ENDPOINT = "/api/players";
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and(
+                KeyValue.of("filter", filterShape(context.getCarrier())),
+                KeyValue.of("sortBy", sortBy(context)));
+    }
+
+    /**
+     * Names of the filter criteria present on the request, joined by '+', or "none".
+     */
+    static String filterShape(HttpServletRequest request) {
+        StringJoiner shape = new StringJoiner("+");
+        shape.setEmptyValue(NONE);
+        for (Criterion criterion : CRITERIA) {
+            if (Arrays.stream(criterion.params()).anyMatch(param -> StringUtils.hasText(request.getParameter(param))))
+                shape.add(criterion.tag());
+        }
+        return shape.toString();
+    }
+
+    /**
+     * Sort order of a player list request, or "none" for any other request.
+     */
+    private static String sortBy(ServerRequestObservationContext context) {
+        if (!"GET".equals(context.getCarrier().getMethod()) || !LIST_ENDPOINT.equals(context.getPathPattern()))
+            return NONE;
+        String sortBy = context.getCarrier().getParameter("sortBy");
+        if (!StringUtils.hasText(sortBy))
+            return SortBy.NAME.name();
+        return Arrays.stream(SortBy.values())
+                .map(SortBy::name)
+                .filter(sortBy::equals)
+                .findFirst()
+                .orElse("invalid");
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.etc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.example.services.QueryDiagnostics;
+import org.example.utils.QueryTracker;
+import org.hibernate.Interceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.type.Type;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Feeds {@link QueryDiagnostics}: the DataSource is wrapped by datasource-proxy to time every
+ * statement, and a Hibernate interceptor counts entity loads of the current request.
+ */
+@Configuration
+@ConditionalOnProperty(name = "player.diagnostics.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryDiagnosticsConfig {
+
+    private static final String START = "startNanos";
+
+    /**
+     * Wrap the DataSource in a proxy reporting every executed statement.
+     * Static, and resolving the diagnostics on first use, so the DataSource bean can be post-processed
+     * before the rest of the context exists.
+     */
+    @Bean
+    static BeanPostProcessor queryTimingDataSourceProxy(ObjectProvider<QueryDiagnostics> diagnosticsProvider) {
+        Supplier<QueryDiagnostics> diagnostics = SingletonSupplier.of(diagnosticsProvider::getObject);
+        QueryExecutionListener listener = new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo execution, List<QueryInfo> queries) {
+                execution.addCustomValue(START, System.nanoTime());
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo execution, List<QueryInfo> queries) {
+                long elapsed = System.nanoTime() - execution.getCustomValue(START, Long.class);
+                // Nothing is built for the statements under the slow threshold, which are nearly all
+                diagnostics.get().statementExecuted(
+                        () -> queries.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; ")),
+                        () -> parameterShape(queries), elapsed);
+            }
+        };
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource)
+                    return ProxyDataSourceBuilder.create(dataSource).name(beanName).listener(listener).build();
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Count the entities loaded by the current request.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer entityLoadCounter() {
+        Interceptor interceptor = new Interceptor() {
+            @Override
+            public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+                QueryTracker.entityLoaded();
+                return false;
+            }
+        };
+        return properties -> properties.put(AvailableSettings.INTERCEPTOR, interceptor);
+    }
+
+    /**
+     * Types of the bind parameters of the first parameter set, e.g. {@code (Long, String)},
+     * followed by the number of parameter sets of a batch.
+     */
+    private static String parameterShape(List<QueryInfo> queries) {
+        List<List<ParameterSetOperation>> sets = queries.stream()
+                .flatMap(query -> query.getParametersList().stream())
+                .toList();
+        if (sets.isEmpty())
+            return "()";
+        String shape = sets.get(0).stream()
+                .map(operation -> "setNull".equals(operation.getMethod().getName())
+                        ? "null"
+                        : operation.getArgs()[1] == null ? "null" : operation.getArgs()[1].getClass().getSimpleName())
+                .collect(Collectors.joining(", ", "(", ")"));
+        return sets.size() == 1 ? shape : shape + " x" + sets.size();
+    }
+}
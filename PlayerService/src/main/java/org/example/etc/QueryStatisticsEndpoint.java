@@ -0,0 +1,94 @@
+package org.example.etc;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.services.QueryDiagnostics;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CollectionStatistics;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint ({@code /actuator/queries}) with the database work of the service:
+ * Hibernate statistics per query, entity and collection, the statements and entity loads per
+ * request of each endpoint, and the recent slow statements. DELETE resets all of them.
+ */
+@Component
+@Endpoint(id = "queries")
+public class QueryStatisticsEndpoint {
+
+    private final Statistics statistics;
+    private final QueryDiagnostics diagnostics;
+
+    @Autowired
+    public QueryStatisticsEndpoint(EntityManagerFactory entityManagerFactory, QueryDiagnostics diagnostics) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.diagnostics = diagnostics;
+    }
+
+    @ReadOperation
+    public Map<String, Object> queries() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        result.put("queries", Arrays.stream(statistics.getQueries())
+                .map(query -> queryStatistics(query, statistics.getQueryStatistics(query)))
+                .sorted(Comparator.comparingLong((Map<String, Object> query) -> (long) query.get("totalTimeMillis"))
+                        .reversed())
+                .toList());
+        result.put("entities", Arrays.stream(statistics.getEntityNames())
+                .map(name -> entityStatistics(name, statistics.getEntityStatistics(name)))
+                .toList());
+        result.put("collections", Arrays.stream(statistics.getCollectionRoleNames())
+                .map(role -> collectionStatistics(role, statistics.getCollectionStatistics(role)))
+                .toList());
+        result.put("endpoints", diagnostics.getEndpointStatistics());
+        result.put("slowQueries", diagnostics.getSlowQueries());
+        return result;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics.clear();
+        diagnostics.reset();
+    }
+
+    private static Map<String, Object> queryStatistics(String query, QueryStatistics stats) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("query", query);
+        result.put("executions", stats.getExecutionCount());
+        result.put("meanTimeMillis", stats.getExecutionAvgTimeAsDouble());
+        result.put("maxTimeMillis", stats.getExecutionMaxTime());
+        result.put("totalTimeMillis", stats.getExecutionTotalTime());
+        result.put("rows", stats.getExecutionRowCount());
+        return result;
+    }
+
+    private static Map<String, Object> entityStatistics(String name, EntityStatistics stats) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("entity", name);
+        result.put("loads", stats.getLoadCount());
+        result.put("fetches", stats.getFetchCount());
+        result.put("inserts", stats.getInsertCount());
+        result.put("updates", stats.getUpdateCount());
+        result.put("deletes", stats.getDeleteCount());
+        return result;
+    }
+
+    private static Map<String, Object> collectionStatistics(String role, CollectionStatistics stats) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("collection", role);
+        result.put("loads", stats.getLoadCount());
+        result.put("fetches", stats.getFetchCount());
+        return result;
+    }
+}
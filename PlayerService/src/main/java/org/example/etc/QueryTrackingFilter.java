@@ -0,0 +1,77 @@
+package org.example.etc;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.events.jfr.PlayerRequestEvent;
+import org.example.services.QueryDiagnostics;
+import org.example.utils.QueryTracker;
+import org.example.utils.enums.WorkloadClass;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Tracks the database work of each player API request and reports it to {@link QueryDiagnostics}
+ * under its endpoint. List and facet queries are further split by the filter criteria they set.
+ * While Flight Recorder is recording, each request is also recorded as a {@link PlayerRequestEvent}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "player.diagnostics.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryTrackingFilter extends OncePerRequestFilter {
+
+    private final QueryDiagnostics diagnostics;
+
+    @Autowired
+    public QueryTrackingFilter(QueryDiagnostics diagnostics) {
+        this.diagnostics = diagnostics;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return WorkloadClass.of(request.getMethod(),
+                request.getRequestURI().substring(request.getContextPath().length())) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        PlayerRequestEvent event = new PlayerRequestEvent();
+        event.begin();
+        QueryTracker tracker = QueryTracker.start(() -> endpoint(request));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryTracker.stop();
+            String endpoint = endpoint(request);
+            diagnostics.requestFinished(endpoint, tracker);
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.endpoint = endpoint;
+                event.status = response.getStatus();
+                event.statements = tracker.getStatements();
+                event.databaseTime = tracker.getDatabaseNanos();
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Method and path template of the request, with the filter criteria of player queries.
+     */
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern == null ? "UNKNOWN" : pattern);
+        String filter = PlayerRequestObservationConvention.filterShape(request);
+        return PlayerRequestObservationConvention.NONE.equals(filter) ? endpoint : endpoint + " [" + filter + "]";
+    }
+}
@@ -1,8 +1,15 @@
 package org.example.etc;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -20,6 +27,7 @@ public class SecurityConfig {
         config.setAllowedOriginPatterns(List.of("*"));
         config.setAllowedMethods(List.of("*"));    // GET, POST, PUT, DELETE, OPTIONS, etc.
         config.setAllowedHeaders(List.of("*"));    // any header
+        config.setExposedHeaders(List.of("ETag", "Retry-After")); // player versions and back-off hints
         config.setAllowCredentials(false);         // false is fine if you don't need cookies
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -27,6 +35,34 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * Flight Recorder recordings hold environment variables and system properties, credentials
+     * included: {@code /actuator/jfr} needs HTTP basic authentication as {@code player.jfr.username},
+     * and is denied to everyone while {@code player.jfr.password} is empty. The password may carry an
+     * encoder prefix such as {@code {bcrypt}}; without one it is compared as is.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain flightRecorderFilterChain(HttpSecurity http,
+            @Value("${player.jfr.username:jfr}") String username,
+            @Value("${player.jfr.password:}") String password) throws Exception {
+        http
+                .securityMatcher(EndpointRequest.to(FlightRecorderEndpoint.class))
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .formLogin(f -> f.disable());
+        if (password.isEmpty())
+            return http.authorizeHttpRequests(auth -> auth.anyRequest().denyAll()).build();
+        return http
+                .authorizeHttpRequests(auth -> auth.anyRequest().hasRole("JFR"))
+                .httpBasic(Customizer.withDefaults())
+                .userDetailsService(new InMemoryUserDetailsManager(User.withUsername(username)
+                        .password(password.matches("^\\{.+}.*$") ? password : "{noop}" + password)
+                        .roles("JFR")
+                        .build()))
+                .build();
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
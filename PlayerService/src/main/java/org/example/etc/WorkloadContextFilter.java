@@ -0,0 +1,36 @@
+package org.example.etc;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.utils.WorkloadContext;
+import org.example.utils.enums.WorkloadClass;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Runs each player API request as its {@link WorkloadClass}, so that its database work uses the
+ * connection pool of that class.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WorkloadContextFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        WorkloadClass workload = WorkloadClass.of(request.getMethod(),
+                request.getRequestURI().substring(request.getContextPath().length()));
+        WorkloadClass previous = WorkloadContext.enter(workload);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            WorkloadContext.exit(previous);
+        }
+    }
+}
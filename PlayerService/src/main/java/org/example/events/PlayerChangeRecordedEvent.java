@@ -0,0 +1,23 @@
+package org.example.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Application event published once a player change has been appended to the change log,
+ * pairing the change with its sequence number in the log.
+ */
+@Value
+@AllArgsConstructor(staticName = "of")
+public class PlayerChangeRecordedEvent {
+
+    /**
+     * Sequence number of the change in the log
+     */
+    long sequence;
+
+    /**
+     * The recorded change
+     */
+    PlayerChangedEvent change;
+}
@@ -0,0 +1,64 @@
+package org.example.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.example.dtos.PlayerDTO;
+
+/**
+ * Application event published by the player service whenever player data changes.
+ * Carries the player state before and after the change so listeners can tell
+ * exactly which data was affected.
+ */
+@Value
+@AllArgsConstructor(staticName = "of")
+public class PlayerChangedEvent {
+
+    /**
+     * Kind of change applied to the player data.
+     */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        /**
+         * Every player has been removed
+         */
+        CLEARED
+    }
+
+    /**
+     * Kind of change
+     */
+    Type type;
+
+    /**
+     * ID of the changed player (null when the change is CLEARED)
+     */
+    Long playerId;
+
+    /**
+     * Player state before the change (null when CREATED or CLEARED)
+     */
+    PlayerDTO before;
+
+    /**
+     * Player state after the change (null when DELETED or CLEARED)
+     */
+    PlayerDTO after;
+
+    public static PlayerChangedEvent created(PlayerDTO after) {
+        return of(Type.CREATED, after.getId(), null, after);
+    }
+
+    public static PlayerChangedEvent updated(PlayerDTO before, PlayerDTO after) {
+        return of(Type.UPDATED, after.getId(), before, after);
+    }
+
+    public static PlayerChangedEvent deleted(PlayerDTO before) {
+        return of(Type.DELETED, before.getId(), before, null);
+    }
+
+    public static PlayerChangedEvent cleared() {
+        return of(Type.CLEARED, null, null, null);
+    }
+}
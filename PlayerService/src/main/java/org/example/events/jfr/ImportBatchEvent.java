@@ -0,0 +1,43 @@
+package org.example.events.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event of a batch of rows of a CSV bulk import.
+ * Its duration covers the batch; parse time includes validation, write time the inserts.
+ */
+@Name("org.example.players.ImportBatch")
+@Label("Import Batch")
+@Category({"Player Service", "Import"})
+@Description("Batch of CSV rows of a bulk import")
+@StackTrace(false)
+public class ImportBatchEvent extends Event {
+
+    /**
+     * Rows per event
+     */
+    public static final int ROWS = 100;
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Created")
+    public int created;
+
+    @Label("Failed")
+    public int failed;
+
+    @Label("Parse Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long parseTime;
+
+    @Label("Write Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long writeTime;
+}
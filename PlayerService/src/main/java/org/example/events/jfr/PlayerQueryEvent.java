@@ -0,0 +1,51 @@
+package org.example.events.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event of one player list query ({@code getPlayers}).
+ * Its duration covers the whole call; on a cache miss it is split into the database query and
+ * the mapping to DTOs, which includes loading the collections of the page.
+ */
+@Name("org.example.players.PlayerQuery")
+@Label("Player Query")
+@Category({"Player Service", "Queries"})
+@Description("Player list query, with its filter shape and where the time went")
+@StackTrace(false)
+public class PlayerQueryEvent extends Event {
+
+    @Label("Filter")
+    @Description("Filter criteria set, e.g. name+age")
+    public String filter;
+
+    @Label("Sort By")
+    public String sortBy;
+
+    @Label("Page")
+    public int page;
+
+    @Label("Page Size")
+    public int size;
+
+    @Label("Rows")
+    @Description("Players on the returned page")
+    public int rows;
+
+    @Label("Cache Hit")
+    public boolean cacheHit;
+
+    @Label("Query Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long queryTime;
+
+    @Label("Mapping Time")
+    @Description("Mapping to DTOs, including loading the nationalities and positions of the page")
+    @Timespan(Timespan.NANOSECONDS)
+    public long mappingTime;
+}
@@ -0,0 +1,34 @@
+package org.example.events.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event of a player API request, including writing the response.
+ * The request time not spent in the database or in nested events is mostly serialization.
+ */
+@Name("org.example.players.PlayerRequest")
+@Label("Player Request")
+@Category({"Player Service", "Requests"})
+@Description("Player API request with its database work")
+@StackTrace(false)
+public class PlayerRequestEvent extends Event {
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Statements")
+    public int statements;
+
+    @Label("Database Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long databaseTime;
+}
@@ -0,0 +1,25 @@
+package org.example.events.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a player list cache lookup; on a miss its duration covers the load.
+ */
+@Name("org.example.players.QueryCache")
+@Label("Player Query Cache")
+@Category({"Player Service", "Cache"})
+@Description("Lookup in the player list cache")
+@StackTrace(false)
+public class QueryCacheEvent extends Event {
+
+    @Label("Filter")
+    public String filter;
+
+    @Label("Hit")
+    public boolean hit;
+}
@@ -0,0 +1,33 @@
+package org.example.repositories;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.example.entities.ChangeSequenceEntity;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for change log sequence counters.
+ */
+@Repository
+public interface ChangeSequenceRepository extends JpaRepository<ChangeSequenceEntity, String> {
+
+    /**
+     * Load a sequence counter and lock it until the current transaction ends.
+     * Does not flush the persistence context first: the counter never depends on pending writes, and
+     * a flush per logged change would dirty-check every entity of a group commit again and again.
+     *
+     * @param name the sequence name
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query("SELECT s FROM ChangeSequenceEntity s WHERE s.name = :name")
+    Optional<ChangeSequenceEntity> lockByName(@Param("name") String name);
+}
@@ -0,0 +1,23 @@
+package org.example.repositories;
+
+import org.example.entities.PlayerChangeEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for the player change log.
+ */
+@Repository
+public interface PlayerChangeRepository extends JpaRepository<PlayerChangeEntity, Long> {
+
+    /**
+     * Find the changes recorded after a sequence number, oldest first.
+     *
+     * @param sequence the last sequence number the caller has seen
+     * @param pageable the maximum number of changes to return
+     */
+    List<PlayerChangeEntity> findBySequenceGreaterThanOrderBySequenceAsc(long sequence, Pageable pageable);
+}
@@ -0,0 +1,22 @@
+package org.example.repositories;
+
+import org.example.dtos.PlayerFacetsDTO;
+import org.example.utils.PlayerFilter;
+
+import java.time.LocalDate;
+
+/**
+ * Facet counts of the players matching a filter, computed by the database.
+ */
+public interface PlayerFacetRepository {
+
+    /**
+     * Count the players per nationality, position, age range and height range.
+     * Each facet applies every criterion of the filter except its own.
+     *
+     * @param filter the player filter
+     * @param today  the reference date for age calculations
+     * @return the facet counts
+     */
+    PlayerFacetsDTO countFacets(PlayerFilter filter, LocalDate today);
+}
@@ -0,0 +1,148 @@
+package org.example.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.example.dtos.PlayerFacetsDTO;
+import org.example.entities.PlayerEntity;
+import org.example.utils.PlayerFilter;
+import org.example.utils.enums.AgeBucket;
+import org.example.utils.enums.HeightBucket;
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.Positions;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Computes the facets with one grouped query each, so only the counts leave the database:
+ * nationalities and positions are grouped by value, age and height ranges are summed with
+ * {@code CASE} expressions, and the total comes with the age ranges.
+ * <p>
+ * The nationality and position criteria join one collection row per requested value, so every
+ * matching player contributes a single row to the age and height sums.
+ */
+public class PlayerFacetRepositoryImpl implements PlayerFacetRepository {
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    public PlayerFacetRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public PlayerFacetsDTO countFacets(PlayerFilter filter, LocalDate today) {
+        Map<Nationality, Long> nationalities = countByValue(filter.withoutNationalities(), today, "nationalities",
+                "nationality", Nationality.class);
+        Map<Positions, Long> positions = countByValue(filter.withoutPositions(), today, "positions",
+                "position", Positions.class);
+
+        // Age ranges, plus the filter's own age range: its players are the total
+        long[] ageCounts = sumRanges(filter.withoutAge(), today, (cb, root) -> {
+            Expression<LocalDate> dateOfBirth = root.get("dateOfBirth");
+            List<Predicate> ranges = new ArrayList<>();
+            for (AgeBucket bucket : AgeBucket.values())
+                ranges.add(ageRange(cb, dateOfBirth, bucket.getMinAge(), bucket.getMaxAge(), today));
+            ranges.add(ageRange(cb, dateOfBirth, filter.getMinAge(), filter.getMaxAge(), today));
+            return ranges;
+        });
+        Map<AgeBucket, Long> ageBuckets = new EnumMap<>(AgeBucket.class);
+        for (AgeBucket bucket : AgeBucket.values())
+            putIfPositive(ageBuckets, bucket, ageCounts[bucket.ordinal()]);
+        long total = ageCounts[AgeBucket.values().length];
+
+        long[] heightCounts = sumRanges(filter.withoutHeight(), today, (cb, root) -> {
+            Expression<Double> height = root.get("height");
+            List<Predicate> ranges = new ArrayList<>();
+            for (HeightBucket bucket : HeightBucket.values()) {
+                List<Predicate> bounds = new ArrayList<>();
+                if (bucket.getMinHeight() != null)
+                    bounds.add(cb.greaterThanOrEqualTo(height, bucket.getMinHeight()));
+                if (bucket.getMaxHeight() != null)
+                    bounds.add(cb.lessThan(height, bucket.getMaxHeight()));
+                ranges.add(cb.and(bounds.toArray(new Predicate[0])));
+            }
+            return ranges;
+        });
+        Map<HeightBucket, Long> heightBuckets = new EnumMap<>(HeightBucket.class);
+        for (HeightBucket bucket : HeightBucket.values())
+            putIfPositive(heightBuckets, bucket, heightCounts[bucket.ordinal()]);
+
+        return new PlayerFacetsDTO(total, nationalities, positions, ageBuckets, heightBuckets);
+    }
+
+    /**
+     * {@code SELECT value, COUNT(DISTINCT player) ... GROUP BY value} over one of the collections.
+     */
+    private <E extends Enum<E>> Map<E, Long> countByValue(PlayerFilter filter, LocalDate today, String collection,
+            String attribute, Class<E> type) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<PlayerEntity> root = query.from(PlayerEntity.class);
+        Join<PlayerEntity, ?> values = root.join(collection);
+        Expression<E> value = values.get(attribute);
+        query.multiselect(value, cb.countDistinct(root))
+                .where(PlayerSpecifications.matching(filter, today).toPredicate(root, query, cb))
+                .groupBy(value);
+
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (Tuple row : entityManager.createQuery(query).getResultList())
+            counts.put(row.get(0, type), row.get(1, Long.class));
+        return counts;
+    }
+
+    /**
+     * {@code SELECT SUM(CASE WHEN range THEN 1 ELSE 0 END), ...} over the players of the filter.
+     *
+     * @param ranges builds one predicate per sum
+     * @return the sums, in the order of the predicates
+     */
+    private long[] sumRanges(PlayerFilter filter, LocalDate today,
+            BiFunction<CriteriaBuilder, Root<PlayerEntity>, List<Predicate>> ranges) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<PlayerEntity> root = query.from(PlayerEntity.class);
+        List<Expression<?>> sums = new ArrayList<>();
+        for (Predicate range : ranges.apply(cb, root))
+            sums.add(cb.sum(cb.<Integer>selectCase().when(range, 1).otherwise(0)));
+        query.multiselect(sums.toArray(new Expression<?>[0]))
+                .where(PlayerSpecifications.matching(filter, today).toPredicate(root, query, cb));
+
+        Tuple row = entityManager.createQuery(query).getSingleResult();
+        long[] counts = new long[sums.size()];
+        for (int i = 0; i < counts.length; i++) {
+            Number sum = (Number) row.get(i);
+            counts[i] = sum == null ? 0 : sum.longValue();
+        }
+        return counts;
+    }
+
+    /**
+     * Players aged from {@code minAge} to {@code maxAge} (inclusive, null for unbounded).
+     */
+    private static Predicate ageRange(CriteriaBuilder cb, Expression<LocalDate> dateOfBirth, Integer minAge,
+            Integer maxAge, LocalDate today) {
+        List<Predicate> bounds = new ArrayList<>();
+        if (minAge != null)
+            bounds.add(cb.lessThanOrEqualTo(dateOfBirth, today.minusYears(minAge)));
+        if (maxAge != null)
+            bounds.add(cb.greaterThanOrEqualTo(dateOfBirth, today.minusYears(maxAge + 1L).plusDays(1)));
+        return cb.and(bounds.toArray(new Predicate[0]));
+    }
+
+    private static <K> void putIfPositive(Map<K, Long> counts, K key, long count) {
+        if (count > 0)
+            counts.put(key, count);
+    }
+}
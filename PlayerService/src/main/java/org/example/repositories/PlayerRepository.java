@@ -4,10 +4,8 @@ import org.example.entities.PlayerEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -15,10 +13,8 @@ import java.util.List;
  * Provides CRUD operations and custom queries for Player data.
  */
 @Repository
-public interface PlayerRepository extends JpaRepository<PlayerEntity, Long>, JpaSpecificationExecutor<PlayerEntity> {
-
-    boolean existsByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndDateOfBirth(String firstName, String lastName,
-            LocalDate dateOfBirth);
+public interface PlayerRepository extends JpaRepository<PlayerEntity, Long>, JpaSpecificationExecutor<PlayerEntity>,
+        PlayerFacetRepository {
 
     /**
      * Find all players with their nationalities and positions eagerly loaded.
@@ -0,0 +1,73 @@
+package org.example.repositories;
+
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.example.entities.PlayerEntity;
+import org.example.utils.PlayerFilter;
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.Positions;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Factory of JPA specifications for querying Player entities.
+ */
+public final class PlayerSpecifications {
+
+    private PlayerSpecifications() {
+    }
+
+    /**
+     * Build a specification matching the players that satisfy the given filter.
+     *
+     * @param filter the player filter
+     * @param today  the reference date for age calculations
+     * @return the specification
+     */
+    public static Specification<PlayerEntity> matching(PlayerFilter filter, LocalDate today) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            // Name filter
+            if (filter.getName() != null) {
+                Expression<String> fullName = cb.concat(cb.lower(root.get("firstName")),
+                        cb.concat(" ", cb.lower(root.get("lastName"))));
+                predicates.add(cb.like(fullName, "%" + filter.getName() + "%"));
+            }
+
+            // Nationalities filter (intersection)
+            for (Nationality nationality : filter.getNationalities()) {
+                predicates.add(cb.equal(root.join("nationalities").get("nationality"), nationality));
+            }
+
+            // Age filter
+            Expression<LocalDate> dob = root.get("dateOfBirth");
+            LocalDate latestDob = filter.latestDateOfBirth(today);
+            if (latestDob != null) {
+                predicates.add(cb.lessThanOrEqualTo(dob, latestDob));
+            }
+            LocalDate earliestDob = filter.earliestDateOfBirth(today);
+            if (earliestDob != null) {
+                predicates.add(cb.greaterThanOrEqualTo(dob, earliestDob));
+            }
+
+            // Positions filter (intersection)
+            for (Positions position : filter.getPositions()) {
+                predicates.add(cb.equal(root.join("positions").get("position"), position));
+            }
+
+            // Height filter
+            if (filter.getMinHeight() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("height"), filter.getMinHeight()));
+            }
+            if (filter.getMaxHeight() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("height"), filter.getMaxHeight()));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
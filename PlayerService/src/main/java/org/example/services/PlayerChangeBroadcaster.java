@@ -0,0 +1,317 @@
+package org.example.services;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.dtos.PlayerChangeDTO;
+import org.example.dtos.PlayerChangeNotificationDTO;
+import org.example.entities.ChangeSequenceEntity;
+import org.example.events.PlayerChangeRecordedEvent;
+import org.example.repositories.ChangeSequenceRepository;
+import org.example.repositories.PlayerChangeRepository;
+import org.example.utils.RetryLaterException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed player changes to Server-Sent Events subscribers.
+ * <p>
+ * Every subscriber has a bounded buffer drained by a small shared dispatcher pool, so a slow
+ * client never blocks the request that made the change nor the other clients. A client whose
+ * buffer overflows is disconnected; the browser reconnects with the {@code Last-Event-ID} of the
+ * last change it received and the missed changes are replayed from the change log.
+ * Changes are sent in sequence order: commit callbacks run on the committing threads and may
+ * arrive out of order, so a change arriving ahead of an earlier one is held back, and the earlier
+ * ones are read from the change log if they are still missing once the buffer is drained.
+ * Idle connections get a heartbeat comment so proxies do not time them out.
+ */
+@Slf4j
+@Component
+public class PlayerChangeBroadcaster {
+
+    static final String CHANGE_EVENT = "player-change";
+
+    /**
+     * Sent instead of a replay when the client missed too many changes; it should reload everything
+     */
+    static final String RESYNC_EVENT = "resync";
+
+    /**
+     * Marks a heartbeat in a subscriber buffer
+     */
+    private static final PlayerChangeNotificationDTO HEARTBEAT = new PlayerChangeNotificationDTO();
+
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        final BlockingQueue<PlayerChangeNotificationDTO> buffer;
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile boolean ready;
+
+        /**
+         * Sequence of the last change sent, to skip live changes already sent by the replay
+         */
+        long lastSent;
+
+        /**
+         * Changes drained from the buffer but not sent yet, by sequence; only used by the draining thread
+         */
+        final NavigableMap<Long, PlayerChangeNotificationDTO> pending = new TreeMap<>();
+
+        Subscriber(SseEmitter emitter, int bufferSize, long lastSent) {
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+            this.lastSent = lastSent;
+        }
+    }
+
+    private final PlayerChangeRepository changeRepository;
+    private final ChangeSequenceRepository sequenceRepository;
+    private final int bufferSize;
+    private final int maxClients;
+    private final int maxReplay;
+    private final Duration timeout;
+    private final Duration heartbeat;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService dispatcher;
+
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "player-sse-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public PlayerChangeBroadcaster(PlayerChangeRepository changeRepository,
+            ChangeSequenceRepository sequenceRepository,
+            @Value("${player.sse.buffer-size:256}") int bufferSize,
+            @Value("${player.sse.max-clients:1000}") int maxClients,
+            @Value("${player.sse.max-replay:1000}") int maxReplay,
+            @Value("${player.sse.timeout:PT30M}") Duration timeout,
+            @Value("${player.sse.heartbeat:PT15S}") Duration heartbeat,
+            @Value("${player.sse.dispatcher-threads:2}") int dispatcherThreads) {
+        this.changeRepository = changeRepository;
+        this.sequenceRepository = sequenceRepository;
+        this.bufferSize = bufferSize;
+        this.maxClients = maxClients;
+        this.maxReplay = maxReplay;
+        this.timeout = timeout;
+        this.heartbeat = heartbeat;
+        AtomicInteger threads = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatcherThreads, runnable -> {
+            Thread thread = new Thread(runnable, "player-sse-dispatcher-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    void start() {
+        heartbeats.scheduleWithFixedDelay(this::sendHeartbeats, heartbeat.toMillis(), heartbeat.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Close every subscription so clients reconnect to another instance.
+     */
+    @PreDestroy
+    void stop() {
+        heartbeats.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        dispatcher.shutdown();
+    }
+
+    /**
+     * Subscribe to player changes.
+     *
+     * @param lastEventId the sequence of the last change the client received, to replay the
+     *                    changes it missed (null to receive only new changes)
+     * @return the emitter streaming the changes
+     * @throws RetryLaterException if the subscriber limit is reached
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        if (subscribers.size() >= maxClients) {
+            log.warn("Rejecting change stream subscription, {} clients already connected", subscribers.size());
+            throw new RetryLaterException("Too many change stream subscribers", Duration.ofSeconds(5));
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        // A new client starts after the last committed change; one committed before it registers
+        // but pushed after is then read back from the change log instead of leaving a gap
+        Subscriber subscriber = new Subscriber(emitter, bufferSize,
+                lastEventId == null ? lastSequence() : lastEventId);
+        // Register before replaying so no change committed in between is missed; live changes
+        // are buffered until the replay is done and those it already covered are skipped
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        if (lastEventId != null) {
+            try {
+                replay(subscriber);
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(subscriber);
+                emitter.completeWithError(e);
+                return emitter;
+            }
+        }
+        subscriber.ready = true;
+        schedule(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Queue a committed change for every subscriber.
+     * Runs after the transaction that made the change commits, so rolled back changes are never pushed.
+     *
+     * @param event the recorded change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChangeRecorded(PlayerChangeRecordedEvent event) {
+        if (subscribers.isEmpty())
+            return;
+        PlayerChangeNotificationDTO notification = PlayerChangeNotificationDTO.of(event.getSequence(), event.getChange());
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.buffer.offer(notification))
+                schedule(subscriber);
+            else
+                disconnect(subscriber, "buffer overflow");
+        }
+    }
+
+    /**
+     * @return the number of connected subscribers
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Send the logged changes after the last one sent to a subscriber.
+     */
+    private void replay(Subscriber subscriber) throws IOException {
+        List<PlayerChangeDTO> missed = changeRepository
+                .findBySequenceGreaterThanOrderBySequenceAsc(subscriber.lastSent, PageRequest.of(0, maxReplay + 1))
+                .stream()
+                .map(PlayerChangeDTO::fromEntity)
+                .toList();
+        if (missed.size() > maxReplay) {
+            // Cheaper for the client to reload than to apply the whole backlog. The reload happens
+            // after the resync is sent, so it covers every change committed before it
+            long last = lastSequence();
+            subscriber.emitter.send(SseEmitter.event().name(RESYNC_EVENT).data(""));
+            subscriber.lastSent = Math.max(subscriber.lastSent, last);
+            return;
+        }
+        for (PlayerChangeDTO change : missed) {
+            send(subscriber, PlayerChangeNotificationDTO.of(change));
+        }
+    }
+
+    /**
+     * @return the sequence of the last committed change
+     */
+    private long lastSequence() {
+        return sequenceRepository.findById(PlayerChangeLog.SEQUENCE_NAME)
+                .map(ChangeSequenceEntity::getLastValue)
+                .orElse(0L);
+    }
+
+    private void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            // A full buffer already has something to send
+            if (subscriber.buffer.offer(HEARTBEAT))
+                schedule(subscriber);
+        }
+    }
+
+    /**
+     * Start draining a subscriber buffer unless a dispatcher thread already is.
+     */
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.ready && subscriber.draining.compareAndSet(false, true))
+            dispatcher.execute(() -> drain(subscriber));
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            PlayerChangeNotificationDTO notification;
+            while ((notification = subscriber.buffer.poll()) != null) {
+                if (notification == HEARTBEAT)
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                else
+                    subscriber.pending.put(notification.getSequence(), notification);
+            }
+            sendPending(subscriber);
+        } catch (IOException | IllegalStateException e) {
+            // The client went away
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // A change may have been queued after the last poll but before draining was reset
+        if (!subscriber.buffer.isEmpty())
+            schedule(subscriber);
+    }
+
+    /**
+     * Send the drained changes in sequence order. If one is missing, its commit callback has not run
+     * yet; it is already in the change log though, since sequences become visible in order.
+     */
+    private void sendPending(Subscriber subscriber) throws IOException {
+        NavigableMap<Long, PlayerChangeNotificationDTO> pending = subscriber.pending;
+        pending.headMap(subscriber.lastSent, true).clear();
+        if (pending.isEmpty())
+            return;
+        if (pending.firstKey() > subscriber.lastSent + 1) {
+            log.debug("Change {} arrived before change {}, reading the change log", pending.firstKey(),
+                    subscriber.lastSent + 1);
+            replay(subscriber);
+        }
+        for (PlayerChangeNotificationDTO notification : pending.values()) {
+            send(subscriber, notification);
+        }
+        pending.clear();
+    }
+
+    private void send(Subscriber subscriber, PlayerChangeNotificationDTO notification) throws IOException {
+        if (notification.getSequence() <= subscriber.lastSent)
+            return;
+        subscriber.emitter.send(SseEmitter.event()
+                .id(Long.toString(notification.getSequence()))
+                .name(CHANGE_EVENT)
+                .data(notification));
+        subscriber.lastSent = notification.getSequence();
+    }
+
+    private void disconnect(Subscriber subscriber, String reason) {
+        if (subscribers.remove(subscriber)) {
+            log.info("Disconnecting change stream subscriber: {}", reason);
+            subscriber.emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.services;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.entities.ChangeSequenceEntity;
+import org.example.entities.PlayerChangeEntity;
+import org.example.events.PlayerChangeRecordedEvent;
+import org.example.events.PlayerChangedEvent;
+import org.example.repositories.ChangeSequenceRepository;
+import org.example.repositories.PlayerChangeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+
+/**
+ * Writes every player change to the append-only change log, inside the transaction of the change:
+ * a rolled back change leaves no entry and a committed one always has one.
+ * <p>
+ * Sequence numbers come from a counter row locked until the writing transaction ends, so they are
+ * gap-free and become visible in order. A reader that has seen sequence N can never later discover
+ * a change numbered below N. The cost is that transactions writing changes commit one at a time.
+ */
+@Slf4j
+@Component
+public class PlayerChangeLog {
+
+    static final String SEQUENCE_NAME = "player_change";
+
+    private final PlayerChangeRepository changeRepository;
+    private final ChangeSequenceRepository sequenceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public PlayerChangeLog(PlayerChangeRepository changeRepository, ChangeSequenceRepository sequenceRepository,
+            ApplicationEventPublisher eventPublisher) {
+        this.changeRepository = changeRepository;
+        this.sequenceRepository = sequenceRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Create the sequence counter if this is the first start.
+     */
+    @PostConstruct
+    void seed() {
+        if (sequenceRepository.existsById(SEQUENCE_NAME))
+            return;
+        try {
+            sequenceRepository.save(new ChangeSequenceEntity(SEQUENCE_NAME, 0));
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created it concurrently
+            log.debug("Change sequence was created concurrently");
+        }
+    }
+
+    /**
+     * Append a change to the log. Joins the transaction that made the change; a change made
+     * outside of any transaction is logged in a transaction of its own.
+     * Publishes a {@link PlayerChangeRecordedEvent} carrying the sequence number of the entry.
+     *
+     * @param event the change
+     */
+    @EventListener
+    @Transactional
+    public void record(PlayerChangedEvent event) {
+        ChangeSequenceEntity sequence = sequenceRepository.lockByName(SEQUENCE_NAME)
+                .orElseThrow(() -> new IllegalStateException("Change sequence is missing"));
+        sequence.setLastValue(sequence.getLastValue() + 1);
+
+        changeRepository.save(new PlayerChangeEntity(
+                sequence.getLastValue(),
+                event.getType(),
+                event.getPlayerId(),
+                event.getAfter(),
+                event.getBefore(),
+                new Date()));
+        log.debug("Recorded change {} {} of player {}", sequence.getLastValue(), event.getType(),
+                event.getPlayerId());
+        eventPublisher.publishEvent(PlayerChangeRecordedEvent.of(sequence.getLastValue(), event));
+    }
+}
@@ -0,0 +1,146 @@
+package org.example.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.dtos.PlayerDTO;
+import org.example.entities.PlayerEntity;
+import org.example.utils.PlayerDataGenerator;
+import org.example.utils.WorkloadContext;
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.Positions;
+import org.example.utils.enums.WorkloadClass;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seeds an empty database with generated players at startup ({@code perf} profile), so that the
+ * benchmarks and load tests run against production-scale data.
+ * <p>
+ * Players come from {@link PlayerDataGenerator} and are written with batched JDBC inserts, one
+ * transaction per batch, bypassing Hibernate and the change log. Ids are assigned from 1 to N.
+ * On MySQL the batches only become multi-row inserts with {@code rewriteBatchedStatements=true},
+ * which the {@code perf} profile sets on the connection pool.
+ * Runs before the startup warmup, so the service only reports ready once the data is in place.
+ * A database that already holds players is left untouched.
+ */
+@Slf4j
+@Component
+@Profile("perf")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class PlayerDataSeeder implements ApplicationRunner {
+
+    private static final String INSERT_PLAYER = "INSERT INTO player_entity (id, first_name, last_name, date_of_birth, "
+            + "height, creation_date, last_modified_date, natural_key, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_NATIONALITY = "INSERT INTO player_nationalities (player_id, nationality) VALUES (?, ?)";
+    private static final String INSERT_POSITION = "INSERT INTO player_positions (player_id, position) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PlayerQueryCache queryCache;
+    private final long players;
+    private final long seed;
+    private final int batchSize;
+
+    @Autowired
+    public PlayerDataSeeder(DataSource dataSource, PlatformTransactionManager transactionManager,
+            PlayerQueryCache queryCache,
+            @Value("${player.seed.players:1000000}") long players,
+            @Value("${player.seed.seed:42}") long seed,
+            @Value("${player.seed.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queryCache = queryCache;
+        this.players = players;
+        this.seed = seed;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // Runs on the bulk pool, like imports
+        WorkloadContext.run(WorkloadClass.BULK, this::seed);
+    }
+
+    private void seed() {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM player_entity", Long.class);
+        if (existing != null && existing > 0) {
+            log.info("Skipping player seeding: the database already holds {} players", existing);
+            return;
+        }
+
+        PlayerDataGenerator generator = new PlayerDataGenerator(seed, LocalDate.now().withDayOfYear(1));
+        long start = System.nanoTime();
+        List<PlayerDTO> batch = new ArrayList<>(batchSize);
+        long nextId = 1;
+        for (long i = 0; i < players; i++) {
+            batch.add(generator.next());
+            if (batch.size() == batchSize || i == players - 1) {
+                insert(batch, nextId);
+                nextId += batch.size();
+                batch.clear();
+                if ((nextId - 1) % 100_000 < batchSize)
+                    log.info("Seeded {} of {} players", nextId - 1, players);
+            }
+        }
+        restartIdentity(nextId);
+        queryCache.invalidateAll();
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log.info("Seeded {} players (seed {}) in {} s, {} players/s", players, seed, String.format("%.1f", seconds),
+                Math.round(players / seconds));
+    }
+
+    /**
+     * Insert a batch of players and their join rows in one transaction, ids from {@code firstId}.
+     */
+    private void insert(List<PlayerDTO> batch, long firstId) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> playerRows = new ArrayList<>(batch.size());
+        List<Object[]> nationalityRows = new ArrayList<>(batch.size() * 2);
+        List<Object[]> positionRows = new ArrayList<>(batch.size() * 2);
+        long id = firstId;
+        for (PlayerDTO player : batch) {
+            playerRows.add(new Object[]{id, player.getFirstName(), player.getLastName(),
+                    Date.valueOf(player.getDateOfBirth()), player.getHeight(), now, now,
+                    PlayerEntity.naturalKeyOf(player.getFirstName(), player.getLastName(), player.getDateOfBirth())});
+            for (Nationality nationality : player.getNationalities())
+                nationalityRows.add(new Object[]{id, nationality.name()});
+            for (Positions position : player.getPositions())
+                positionRows.add(new Object[]{id, position.name()});
+            id++;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_PLAYER, playerRows);
+            jdbcTemplate.batchUpdate(INSERT_NATIONALITY, nationalityRows);
+            jdbcTemplate.batchUpdate(INSERT_POSITION, positionRows);
+        });
+    }
+
+    /**
+     * Make the identity column continue after the seeded ids. MySQL moves AUTO_INCREMENT past
+     * explicit ids by itself; H2 does not.
+     */
+    private void restartIdentity(long nextId) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                JdbcUtils.commonDatabaseName(connection.getMetaData().getDatabaseProductName()));
+        if ("H2".equals(product))
+            jdbcTemplate.execute("ALTER TABLE player_entity ALTER COLUMN id RESTART WITH " + nextId);
+    }
+}
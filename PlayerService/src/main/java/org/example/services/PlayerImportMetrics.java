@@ -0,0 +1,63 @@
+package org.example.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters of the CSV bulk import: rows created and failed, duration and row rate of each import.
+ */
+@Component
+public class PlayerImportMetrics {
+
+    private final Counter createdRows;
+    private final Counter failedRows;
+    private final Timer duration;
+    private final DistributionSummary rowRate;
+
+    @Autowired
+    public PlayerImportMetrics(MeterRegistry meterRegistry) {
+        this.createdRows = Counter.builder("players.import.rows")
+                .description("CSV rows processed by bulk imports")
+                .tag("outcome", "created")
+                .register(meterRegistry);
+        this.failedRows = Counter.builder("players.import.rows")
+                .description("CSV rows processed by bulk imports")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+        this.duration = Timer.builder("players.import")
+                .description("Duration of bulk imports")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rowRate = DistributionSummary.builder("players.import.rate")
+                .description("Rows processed per second by each bulk import")
+                .baseUnit("rows/s")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record one row of an import.
+     *
+     * @param created whether the row became a player
+     */
+    public void row(boolean created) {
+        (created ? createdRows : failedRows).increment();
+    }
+
+    /**
+     * Record a finished import.
+     *
+     * @param rows         rows processed, created or failed
+     * @param elapsedNanos duration of the import
+     */
+    public void imported(int rows, long elapsedNanos) {
+        duration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (elapsedNanos > 0)
+            rowRate.record(rows / (elapsedNanos / 1e9));
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.example.dtos.PlayerDTO;
+import org.example.events.jfr.QueryCacheEvent;
+import org.example.events.PlayerChangedEvent;
+import org.example.utils.PlayerFilter;
+import org.example.utils.enums.SortBy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of player list pages keyed by the normalized filter, sort and page.
+ * Eviction is size-aware (weighted by the number of players on a page) and uses
+ * Caffeine's Window TinyLFU policy. Entries are invalidated after each committed change,
+ * but only those whose filter matches the changed player before or after the change.
+ * Changes committed by this instance are applied as they commit; those of other instances
+ * arrive through {@link PlayerQueryCacheSync}, within its poll interval.
+ */
+@Slf4j
+@Component
+public class PlayerQueryCache {
+
+    /**
+     * Cache key: everything that determines the content of a player list page.
+     */
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Key {
+        private final PlayerFilter filter;
+        private final SortBy sortBy;
+        private final Sort.Direction direction;
+        private final int page;
+        private final int size;
+
+        /**
+         * Reference date of the age filter, so pages never outlive the day they were computed for
+         */
+        private final LocalDate today;
+
+        public static Key of(PlayerFilter filter, SortBy sortBy, String order, int page, int size, LocalDate today) {
+            Sort.Direction direction = "desc".equalsIgnoreCase(order) ? Sort.Direction.DESC : Sort.Direction.ASC;
+            return new Key(filter, sortBy, direction, page, size, today);
+        }
+    }
+
+    private final Cache<Key, Page<PlayerDTO>> cache;
+
+    /**
+     * Incremented on every invalidation, lets loads that raced with a change drop their stale result
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public PlayerQueryCache(
+            @Value("${player.query-cache.max-players:50000}") long maxPlayers,
+            @Value("${player.query-cache.expire-after-write:PT10M}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxPlayers)
+                .weigher((Key key, Page<PlayerDTO> page) -> 1 + page.getNumberOfElements())
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "players.query");
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", "players.query")
+                .description("Ratio of player list lookups served from the cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Get a page from the cache, loading and caching it on a miss.
+     * Each lookup is recorded as a {@link QueryCacheEvent} while Flight Recorder is recording.
+     *
+     * @param key    the cache key
+     * @param loader loads the page from the database
+     * @return the cached or freshly loaded page
+     */
+    public Page<PlayerDTO> get(Key key, Supplier<Page<PlayerDTO>> loader) {
+        QueryCacheEvent event = new QueryCacheEvent();
+        event.begin();
+        Page<PlayerDTO> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            commit(event, key, true);
+            return cached;
+        }
+
+        long loadGeneration = generation.get();
+        Page<PlayerDTO> loaded = loader.get();
+        cache.put(key, loaded);
+        // A change committed while loading may not be reflected in the loaded page
+        if (generation.get() != loadGeneration)
+            cache.invalidate(key);
+        commit(event, key, false);
+        return loaded;
+    }
+
+    private static void commit(QueryCacheEvent event, Key key, boolean hit) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.filter = key.getFilter().shape();
+            event.hit = hit;
+            event.commit();
+        }
+    }
+
+    /**
+     * Drop every cached page.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Drop the cached pages affected by a committed player change.
+     * A page is affected when its filter matches the player before or after the change.
+     *
+     * @param event the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        invalidate(List.of(event));
+        log.debug("Invalidated cached player pages after {} of player {}", event.getType(), event.getPlayerId());
+    }
+
+    /**
+     * Drop the cached pages affected by committed player changes, in a single pass over the cache.
+     *
+     * @param events the changes
+     */
+    public void invalidate(Collection<PlayerChangedEvent> events) {
+        if (events.isEmpty())
+            return;
+        if (events.stream().anyMatch(event -> event.getType() == PlayerChangedEvent.Type.CLEARED)) {
+            invalidateAll();
+            return;
+        }
+
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> events.stream()
+                .anyMatch(event -> matches(key, event.getBefore()) || matches(key, event.getAfter())));
+    }
+
+    private static boolean matches(Key key, PlayerDTO player) {
+        if (player == null)
+            return false;
+        PlayerFilter filter = key.getFilter();
+        return filter.matchesName(player.getFirstName(), player.getLastName())
+                && filter.matchesNationalities(player.getNationalities())
+                && filter.matchesPositions(player.getPositions())
+                && filter.matchesDateOfBirth(player.getDateOfBirth(), key.getToday())
+                && filter.matchesHeight(player.getHeight());
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.services;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.entities.ChangeSequenceEntity;
+import org.example.entities.PlayerChangeEntity;
+import org.example.events.PlayerChangedEvent;
+import org.example.repositories.ChangeSequenceRepository;
+import org.example.repositories.PlayerChangeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the player list cache of this instance consistent with the changes committed by every
+ * instance, by tailing the change log. Sequences become visible in order, so reading the entries
+ * after the last one applied never misses a change.
+ * <p>
+ * Changes made by this instance are already applied by their commit callback; seeing them again
+ * only costs another pass over the cached keys. A backlog longer than {@code player.query-cache.sync-batch}
+ * drops the whole cache instead, cheaper than matching every cached page against every change.
+ * Entries logged before the change log kept the prior state of a player cannot be matched precisely:
+ * an update or deletion among them drops the whole cache too.
+ */
+@Slf4j
+@Component
+public class PlayerQueryCacheSync {
+
+    private final PlayerQueryCache queryCache;
+    private final PlayerChangeRepository changeRepository;
+    private final ChangeSequenceRepository sequenceRepository;
+    private final Duration interval;
+    private final int batchSize;
+
+    /**
+     * Sequence of the last change applied; only used by the poller thread once started
+     */
+    private long lastApplied;
+
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "player-query-cache-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public PlayerQueryCacheSync(PlayerQueryCache queryCache, PlayerChangeRepository changeRepository,
+            ChangeSequenceRepository sequenceRepository,
+            @Value("${player.query-cache.sync-interval:PT1S}") Duration interval,
+            @Value("${player.query-cache.sync-batch:1000}") int batchSize) {
+        this.queryCache = queryCache;
+        this.changeRepository = changeRepository;
+        this.sequenceRepository = sequenceRepository;
+        this.interval = interval;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Start after the last committed change: the cache is still empty.
+     */
+    @PostConstruct
+    void start() {
+        lastApplied = lastSequence();
+        poller.scheduleWithFixedDelay(this::poll, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        poller.shutdownNow();
+    }
+
+    private void poll() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            // Retried on the next poll from the same sequence
+            log.warn("Could not read the change log, cached player pages may be stale", e);
+        }
+    }
+
+    /**
+     * Apply the changes logged since the last call.
+     *
+     * @return the sequence of the last change applied
+     */
+    long sync() {
+        List<PlayerChangeEntity> changes = changeRepository
+                .findBySequenceGreaterThanOrderBySequenceAsc(lastApplied, PageRequest.of(0, batchSize + 1));
+        if (changes.isEmpty())
+            return lastApplied;
+
+        if (changes.size() > batchSize || changes.stream().anyMatch(PlayerQueryCacheSync::lacksPrevious)) {
+            // Read before dropping: every change up to it is then reflected by the pages loaded afterwards
+            long last = lastSequence();
+            queryCache.invalidateAll();
+            log.debug("Dropped the player query cache after changes {} to {}", lastApplied + 1, last);
+            lastApplied = Math.max(last, changes.get(changes.size() - 1).getSequence());
+            return lastApplied;
+        }
+
+        queryCache.invalidate(changes.stream()
+                .map(change -> PlayerChangedEvent.of(change.getType(), change.getPlayerId(), change.getPrevious(),
+                        change.getPlayer()))
+                .toList());
+        lastApplied = changes.get(changes.size() - 1).getSequence();
+        return lastApplied;
+    }
+
+    private static boolean lacksPrevious(PlayerChangeEntity change) {
+        return change.getPrevious() == null && (change.getType() == PlayerChangedEvent.Type.UPDATED
+                || change.getType() == PlayerChangedEvent.Type.DELETED);
+    }
+
+    /**
+     * @return the sequence of the last committed change
+     */
+    private long lastSequence() {
+        return sequenceRepository.findById(PlayerChangeLog.SEQUENCE_NAME)
+                .map(ChangeSequenceEntity::getLastValue)
+                .orElse(0L);
+    }
+}
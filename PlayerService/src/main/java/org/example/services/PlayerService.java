@@ -1,6 +1,8 @@
 package org.example.services;
 
+import org.example.dtos.PlayerChangesDTO;
 import org.example.dtos.PlayerDTO;
+import org.example.dtos.PlayerFacetsDTO;
 import org.example.dtos.UpdatePlayerDTO;
 import org.example.utils.enums.SortBy;
 import org.springframework.data.domain.Page;
@@ -21,14 +23,23 @@ public interface PlayerService {
      */
     PlayerDTO createPlayer(PlayerDTO playerDTO);
 
+    /**
+     * Create several players in a single transaction: either all of them are created or none.
+     *
+     * @param playerDTOs the players data
+     * @return the created players, in the same order
+     */
+    List<PlayerDTO> createPlayers(List<PlayerDTO> playerDTOs);
+
     /**
      * Update an existing player by ID.
      *
-     * @param id        the player ID
-     * @param playerDTO the updated player data
+     * @param id              the player ID
+     * @param playerDTO       the updated player data
+     * @param expectedVersion the version the client based its changes on, or null for an unconditional update
      * @return the updated player
      */
-    PlayerDTO updatePlayer(Long id, UpdatePlayerDTO playerDTO);
+    PlayerDTO updatePlayer(Long id, UpdatePlayerDTO playerDTO, Long expectedVersion);
 
     /**
      * Delete a player by ID.
@@ -74,6 +85,37 @@ public interface PlayerService {
             int page,
             int size);
 
+    /**
+     * Count the players per nationality, position, age range and height range.
+     * Each facet applies every filter except its own.
+     *
+     * @param name          filter by full name (first + last)
+     * @param nationalities filter by nationalities (intersection)
+     * @param minAge        minimum age
+     * @param maxAge        maximum age
+     * @param positions     filter by positions (intersection)
+     * @param minHeight     minimum height
+     * @param maxHeight     maximum height
+     * @return facet counts
+     */
+    PlayerFacetsDTO getPlayerFacets(
+            String name,
+            List<String> nationalities,
+            Integer minAge,
+            Integer maxAge,
+            List<String> positions,
+            Double minHeight,
+            Double maxHeight);
+
+    /**
+     * Get the player changes recorded after a sequence number, oldest first.
+     *
+     * @param since the last sequence number the caller has seen (0 for the whole log)
+     * @param limit the maximum number of changes to return
+     * @return the changes and the sequence to resume from
+     */
+    PlayerChangesDTO getChanges(long since, int limit);
+
     /**
      * Bulk upload players from a CSV file.
      *
@@ -1,29 +1,41 @@
 package org.example.services;
 
-import jakarta.persistence.criteria.Expression;
-import jakarta.persistence.criteria.Predicate;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
+import org.example.dtos.PlayerChangeDTO;
+import org.example.dtos.PlayerChangesDTO;
 import org.example.dtos.PlayerDTO;
+import org.example.dtos.PlayerFacetsDTO;
 import org.example.dtos.UpdatePlayerDTO;
 import org.example.entities.NationalityEntity;
 import org.example.entities.PlayerEntity;
 import org.example.entities.PositionEntity;
-import org.example.repositories.NationalityRepository;
+import org.example.events.PlayerChangedEvent;
+import org.example.events.jfr.ImportBatchEvent;
+import org.example.events.jfr.PlayerQueryEvent;
+import org.example.repositories.PlayerChangeRepository;
 import org.example.repositories.PlayerRepository;
-import org.example.repositories.PositionRepository;
+import org.example.repositories.PlayerSpecifications;
+import org.example.utils.PlayerFilter;
 import org.example.utils.enums.Nationality;
 import org.example.utils.enums.Positions;
 import org.example.utils.enums.SortBy;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -32,31 +44,64 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
 /**
  * Implementation of PlayerService interface.
  * Handles business logic for player management, including creation, update,
  * deletion, retrieval, and advanced filtering/sorting.
+ * Every public method is timed ({@code players.service}, tagged with the method name).
  */
 @Slf4j
 @Service
+@Timed(value = "players.service", description = "Player service calls", histogram = true)
 public class PlayerServiceImpl implements PlayerService {
 
+    /**
+     * Largest page of the change feed returned at once
+     */
+    static final int MAX_CHANGES_PAGE = 1000;
+
+    /**
+     * Failed rows of a bulk import logged one by one; the rest only count in the import summary
+     */
+    static final int MAX_LOGGED_IMPORT_FAILURES = 10;
+
+    /**
+     * Separators between the nationalities or positions of a CSV cell
+     */
+    private static final Pattern CSV_LIST_SEPARATORS = Pattern.compile("[|/;#!%]");
+
     private final PlayerRepository playerRepository;
-    private final NationalityRepository nationalityRepository;
-    private final PositionRepository positionRepository;
+    private final ReferenceDataRegistry referenceData;
+    private final PlayerChangeRepository changeRepository;
     private final Validator validator;
+    private final PlayerQueryCache queryCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlayerImportMetrics importMetrics;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
     public PlayerServiceImpl(PlayerRepository playerRepository,
-            NationalityRepository nationalityRepository,
-            PositionRepository positionRepository,
-            Validator validator) {
+            ReferenceDataRegistry referenceData,
+            PlayerChangeRepository changeRepository,
+            Validator validator,
+            PlayerQueryCache queryCache,
+            ApplicationEventPublisher eventPublisher,
+            PlayerImportMetrics importMetrics,
+            PlatformTransactionManager transactionManager) {
         this.playerRepository = playerRepository;
-        this.nationalityRepository = nationalityRepository;
-        this.positionRepository = positionRepository;
+        this.referenceData = referenceData;
+        this.changeRepository = changeRepository;
         this.validator = validator;
+        this.queryCache = queryCache;
+        this.eventPublisher = eventPublisher;
+        this.importMetrics = importMetrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
@@ -66,55 +111,94 @@ public class PlayerServiceImpl implements PlayerService {
      * @return the created player
      */
     @Override
+    @Transactional
     public PlayerDTO createPlayer(PlayerDTO dto) {
-        log.info("Attempting to create player: {} {}", dto.getFirstName(), dto.getLastName());
+        log.debug("Attempting to create player: {} {}", dto.getFirstName(), dto.getLastName());
+        PlayerEntity entity = newPlayerEntity(dto);
+
+        // Duplicates (first name + last name + date of birth) are rejected by the natural key unique index
+        PlayerEntity saved;
+        try {
+            saved = playerRepository.save(entity);
+        } catch (DataIntegrityViolationException e) {
+            if (!isNaturalKeyViolation(e))
+                throw e;
+            log.debug("Duplicate player detected: {} {} ({})", dto.getFirstName(), dto.getLastName(),
+                    dto.getDateOfBirth());
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Player already exists");
+        }
+        log.debug("Player created with ID: {}", saved.getId());
+
+        PlayerDTO created = PlayerDTO.fromEntity(saved);
+        eventPublisher.publishEvent(PlayerChangedEvent.created(created));
+        return created;
+    }
 
+    /**
+     * Create several players in a single transaction: either all of them are created or none.
+     *
+     * @param dtos the players data
+     * @return the created players, in the same order
+     */
+    @Override
+    @Transactional
+    public List<PlayerDTO> createPlayers(List<PlayerDTO> dtos) {
+        log.debug("Creating a batch of {} players", dtos.size());
+        List<PlayerEntity> entities = dtos.stream().map(this::newPlayerEntity).toList();
+
+        try {
+            playerRepository.saveAll(entities);
+            playerRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (!isNaturalKeyViolation(e))
+                throw e;
+            log.debug("Duplicate player detected in a batch of {} players", dtos.size());
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Player already exists");
+        }
+
+        List<PlayerDTO> created = entities.stream().map(PlayerDTO::fromEntity).toList();
+        created.forEach(player -> eventPublisher.publishEvent(PlayerChangedEvent.created(player)));
+        return created;
+    }
+
+    /**
+     * Validate the data of a new player and build its entity.
+     *
+     * @param dto the player data, names are stripped in place
+     * @return the transient entity
+     */
+    private PlayerEntity newPlayerEntity(PlayerDTO dto) {
         dto.setFirstName(dto.getFirstName().strip());
         dto.setLastName(dto.getLastName().strip());
 
         if (dto.getDateOfBirth() == null || dto.getDateOfBirth().isAfter(LocalDate.now())) {
-            log.warn("Invalid date of birth: {}", dto.getDateOfBirth());
+            log.debug("Invalid date of birth: {}", dto.getDateOfBirth());
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Date of birth must be in the past");
         }
 
-        boolean exists = playerRepository.existsByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndDateOfBirth(
-                dto.getFirstName(), dto.getLastName(), dto.getDateOfBirth());
-
-        if (exists) {
-            log.warn("Duplicate player detected: {} {} ({})", dto.getFirstName(), dto.getLastName(),
-                    dto.getDateOfBirth());
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Player already exists");
-        }
-
         if (dto.getHeight() == null) {
-            log.warn("Rejected player due to null height value: {} {}",
+            log.debug("Rejected player due to null height value: {} {}",
                     dto.getFirstName(), dto.getLastName());
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Illegal height has been provided");
         }
 
         if (dto.getNationalities() == null) {
-            log.warn("Rejected player due to null nationalities value: {} {}",
+            log.debug("Rejected player due to null nationalities value: {} {}",
                     dto.getFirstName(), dto.getLastName());
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Illegal nationalities list has been provided");
         }
 
         if (dto.getPositions() == null) {
-            log.warn("Rejected player due to null positions value: {} {}",
+            log.debug("Rejected player due to null positions value: {} {}",
                     dto.getFirstName(), dto.getLastName());
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Illegal positions list has been provided");
         }
 
-        // Use findOrCreate for nationalities and positions to avoid duplicate key
-        // errors
-        Set<NationalityEntity> nationalityEntities = dto.getNationalities().stream()
-                .map(nationalityRepository::findOrCreate)
-                .collect(Collectors.toSet());
-
-        Set<PositionEntity> positionEntities = dto.getPositions().stream()
-                .map(positionRepository::findOrCreate)
-                .collect(Collectors.toSet());
+        // Reference rows are seeded at startup, resolving them needs no query
+        Set<NationalityEntity> nationalityEntities = referenceData.nationalities(dto.getNationalities());
+        Set<PositionEntity> positionEntities = referenceData.positions(dto.getPositions());
 
-        PlayerEntity entity = new PlayerEntity(
+        return new PlayerEntity(
                 dto.getId(),
                 dto.getFirstName(),
                 dto.getLastName(),
@@ -124,44 +208,32 @@ public class PlayerServiceImpl implements PlayerService {
                 dto.getHeight(),
                 null,
                 null);
-
-        // Ensure bidirectional relationships are properly established
-        for (NationalityEntity nationality : nationalityEntities) {
-            if (nationality.getPlayers() == null) {
-                nationality.setPlayers(new HashSet<>());
-            }
-            nationality.getPlayers().add(entity);
-        }
-
-        for (PositionEntity position : positionEntities) {
-            if (position.getPlayers() == null) {
-                position.setPlayers(new HashSet<>());
-            }
-            position.getPlayers().add(entity);
-        }
-
-        PlayerEntity saved = playerRepository.save(entity);
-        log.info("Player created with ID: {}", saved.getId());
-
-        return PlayerDTO.fromEntity(saved);
     }
 
     /**
      * Update an existing player by ID.
      *
-     * @param id  the player ID
-     * @param dto the updated player data
+     * @param id              the player ID
+     * @param dto             the updated player data
+     * @param expectedVersion the version the client based its changes on, or null for an unconditional update
      * @return the updated player
      */
     @Override
-    public PlayerDTO updatePlayer(Long id, UpdatePlayerDTO dto) {
-        log.info("Updating player with ID: {}", id);
+    @Transactional
+    public PlayerDTO updatePlayer(Long id, UpdatePlayerDTO dto, Long expectedVersion) {
+        log.debug("Updating player with ID: {}", id);
 
         PlayerEntity existing = playerRepository.findById(id)
                 .orElseThrow(() -> {
-                    log.warn("Player not found for update: {}", id);
+                    log.debug("Player not found for update: {}", id);
                     return new ResponseStatusException(HttpStatus.NOT_FOUND, "Player not found");
                 });
+        if (expectedVersion != null && !expectedVersion.equals(existing.getVersion())) {
+            log.debug("Stale update of player {}: expected version {}, found {}", id, expectedVersion,
+                    existing.getVersion());
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Player was modified by another request");
+        }
+        PlayerDTO before = PlayerDTO.fromEntity(existing);
 
         // Safe editing on non nullish values
         if (dto.getFirstName() != null)
@@ -176,70 +248,43 @@ public class PlayerServiceImpl implements PlayerService {
         if (dto.getHeight() != null)
             existing.setHeight(dto.getHeight());
 
-        // Rebuild and link Nationalities on Set existence
-        if (dto.getNationalities() != null) {
-            Set<NationalityEntity> newNationalities = dto.getNationalities().stream()
-                    .map(nationalityRepository::findOrCreate)
-                    .collect(Collectors.toSet());
-
-            // Remove player from old nationalities
-            for (NationalityEntity oldNationality : existing.getNationalities()) {
-                if (oldNationality.getPlayers() != null) {
-                    oldNationality.getPlayers().remove(existing);
-                }
-            }
+        // Diff Nationalities on Set existence so only the changed join rows are written
+        if (dto.getNationalities() != null)
+            syncCollection(existing.getNationalities(), referenceData.nationalities(dto.getNationalities()));
 
-            existing.getNationalities().clear();
-            existing.getNationalities().addAll(newNationalities);
-
-            // Add player to new nationalities
-            for (NationalityEntity nationality : newNationalities) {
-                if (nationality.getPlayers() == null) {
-                    nationality.setPlayers(new HashSet<>());
-                }
-                nationality.getPlayers().add(existing);
-            }
-        }
-
-        // Rebuild and link Positions on Set existence
-        if (dto.getPositions() != null) {
-            // Enum values are already validated by the type system
-            // No additional validation needed since we're using the enum directly
-
-            Set<PositionEntity> newPositions = dto.getPositions().stream()
-                    .map(positionRepository::findOrCreate)
-                    .collect(Collectors.toSet());
-
-            // Remove player from old positions
-            for (PositionEntity oldPosition : existing.getPositions()) {
-                if (oldPosition.getPlayers() != null) {
-                    oldPosition.getPlayers().remove(existing);
-                }
-            }
-
-            existing.getPositions().clear();
-            existing.getPositions().addAll(newPositions);
-
-            // Add player to new positions
-            for (PositionEntity position : newPositions) {
-                if (position.getPlayers() == null) {
-                    position.setPlayers(new HashSet<>());
-                }
-                position.getPlayers().add(existing);
-            }
-        }
+        // Diff Positions on Set existence, enum values are already validated by the type system
+        if (dto.getPositions() != null)
+            syncCollection(existing.getPositions(), referenceData.positions(dto.getPositions()));
 
         PlayerDTO tempDTO = PlayerDTO.fromEntity(existing);
         // Checking that the player is valid after changes
         if (!validateDtoOrThrow(tempDTO, -1)) {
-            log.warn("Player is not valid after changes: {}", existing);
+            log.debug("Player is not valid after changes: {}", existing);
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Player is not valid after changes");
         }
 
-        log.debug("Saving player entity: {}", existing);
-        PlayerEntity saved = playerRepository.saveAndFlush(existing);
+        // The entity is managed, flushing writes the changes without merging the shared reference entities
+        log.debug("Flushing player entity: {}", id);
+        try {
+            playerRepository.flush();
+        } catch (OptimisticLockingFailureException e) {
+            // A concurrent update committed between our read and the versioned UPDATE
+            log.warn("Concurrent update of player {} detected on flush", id);
+            throw new ResponseStatusException(
+                    expectedVersion != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT,
+                    "Player was modified by another request");
+        } catch (DataIntegrityViolationException e) {
+            if (!isNaturalKeyViolation(e))
+                throw e;
+            log.debug("Update of player {} collides with an existing player", id);
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Player already exists");
+        }
 
-        return PlayerDTO.fromEntity(saved);
+        PlayerDTO updated = PlayerDTO.fromEntity(existing);
+        // A patch that changes nothing leaves the version untouched and needs no invalidation
+        if (!updated.equals(before))
+            eventPublisher.publishEvent(PlayerChangedEvent.updated(before, updated));
+        return updated;
     }
 
     /**
@@ -248,9 +293,14 @@ public class PlayerServiceImpl implements PlayerService {
      * @param id the player ID
      */
     @Override
+    @Transactional
     public void deletePlayer(Long id) {
-        log.info("Deleting player with ID: {}", id);
-        playerRepository.deleteById(id);
+        log.debug("Deleting player with ID: {}", id);
+        playerRepository.findById(id).ifPresent(existing -> {
+            PlayerDTO before = PlayerDTO.fromEntity(existing);
+            playerRepository.delete(existing);
+            eventPublisher.publishEvent(PlayerChangedEvent.deleted(before));
+        });
     }
 
     /**
@@ -261,11 +311,11 @@ public class PlayerServiceImpl implements PlayerService {
      */
     @Override
     public PlayerDTO getPlayerById(Long id) {
-        log.info("Fetching player by ID: {}", id);
+        log.debug("Fetching player by ID: {}", id);
         return playerRepository.findById(id)
                 .map(PlayerDTO::fromEntity)
                 .orElseThrow(() -> {
-                    log.warn("Player not found: {}", id);
+                    log.debug("Player not found: {}", id);
                     return new ResponseStatusException(HttpStatus.NOT_FOUND, "Player not found");
                 });
     }
@@ -300,59 +350,93 @@ public class PlayerServiceImpl implements PlayerService {
             int page,
             int size) {
 
-        // Use a more efficient approach to avoid N+1 queries
-        Pageable pageable = getPageableWithSort(sortBy, order, page, size);
-
-        return playerRepository.findAll((Specification<PlayerEntity>) (root, query, cb) -> {
-            List<Predicate> predicates = new ArrayList<>();
-
-            // Name filter
-            if (name != null && !name.isBlank()) {
-                Expression<String> fullName = cb.concat(cb.lower(root.get("firstName")),
-                        cb.concat(" ", cb.lower(root.get("lastName"))));
-                predicates.add(cb.like(fullName, "%" + name.strip().toLowerCase() + "%"));
-            }
-
-            // Nationalities filter (intersection)
-            if (nationalities != null && !nationalities.isEmpty()) {
-                for (String nat : nationalities) {
-                    predicates.add(cb.equal(root.join("nationalities").get("nationality"),
-                            Nationality.valueOf(nat.toUpperCase())));
-                }
-            }
-
-            // Age filter
-            if (minAge != null || maxAge != null) {
-                Expression<LocalDate> dob = root.get("dateOfBirth");
-                LocalDate today = LocalDate.now();
-                if (minAge != null) {
-                    LocalDate maxDob = today.minusYears(minAge);
-                    predicates.add(cb.lessThanOrEqualTo(dob, maxDob));
-                }
-                if (maxAge != null) {
-                    LocalDate minDob = today.minusYears(maxAge + 1).plusDays(1);
-                    predicates.add(cb.greaterThanOrEqualTo(dob, minDob));
-                }
-            }
+        PlayerFilter filter = toFilter(name, nationalities, minAge, maxAge, positions, minHeight, maxHeight);
+        LocalDate today = LocalDate.now();
+        PlayerQueryCache.Key key = PlayerQueryCache.Key.of(filter, sortBy, order, page, size, today);
+
+        // Recorded while Flight Recorder is recording, the timings are only taken on a cache miss
+        PlayerQueryEvent event = new PlayerQueryEvent();
+        event.begin();
+        event.cacheHit = true;
+        Page<PlayerDTO> players = queryCache.get(key, () -> {
+            event.cacheHit = false;
+            Pageable pageable = getPageableWithSort(sortBy, order, page, size);
+            long start = System.nanoTime();
+            Page<PlayerEntity> entities = playerRepository.findAll(PlayerSpecifications.matching(filter, today),
+                    pageable);
+            long queried = System.nanoTime();
+            Page<PlayerDTO> mapped = entities.map(PlayerDTO::fromEntity);
+            event.queryTime = queried - start;
+            event.mappingTime = System.nanoTime() - queried;
+            return mapped;
+        });
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.filter = filter.shape();
+            event.sortBy = sortBy.name();
+            event.page = page;
+            event.size = size;
+            event.rows = players.getNumberOfElements();
+            event.commit();
+        }
+        return players;
+    }
 
-            // Positions filter (intersection)
-            if (positions != null && !positions.isEmpty()) {
-                for (String pos : positions) {
-                    predicates.add(
-                            cb.equal(root.join("positions").get("position"), Positions.valueOf(pos.toUpperCase())));
-                }
-            }
+    /**
+     * Count the players per nationality, position, age range and height range,
+     * with one grouped query per facet.
+     *
+     * @param name          filter by full name (contains)
+     * @param nationalities filter by nationalities (intersection)
+     * @param minAge        minimum age (inclusive)
+     * @param maxAge        maximum age (inclusive)
+     * @param positions     filter by positions (intersection)
+     * @param minHeight     minimum height (inclusive)
+     * @param maxHeight     maximum height (inclusive)
+     * @return facet counts
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PlayerFacetsDTO getPlayerFacets(
+            String name,
+            List<String> nationalities,
+            Integer minAge,
+            Integer maxAge,
+            List<String> positions,
+            Double minHeight,
+            Double maxHeight) {
 
-            // Height filter
-            if (minHeight != null) {
-                predicates.add(cb.greaterThanOrEqualTo(root.get("height"), minHeight));
-            }
-            if (maxHeight != null) {
-                predicates.add(cb.lessThanOrEqualTo(root.get("height"), maxHeight));
-            }
+        PlayerFilter filter = toFilter(name, nationalities, minAge, maxAge, positions, minHeight, maxHeight);
+        return playerRepository.countFacets(filter, LocalDate.now());
+    }
 
-            return cb.and(predicates.toArray(new Predicate[0]));
-        }, pageable).map(PlayerDTO::fromEntity);
+    /**
+     * Get the player changes recorded after a sequence number, oldest first.
+     *
+     * @param since the last sequence number the caller has seen (0 for the whole log)
+     * @param limit the maximum number of changes to return, capped at {@value #MAX_CHANGES_PAGE}
+     * @return the changes and the sequence to resume from
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PlayerChangesDTO getChanges(long since, int limit) {
+        if (since < 0 || limit < 1)
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Illegal change feed position or limit");
+        int pageSize = Math.min(limit, MAX_CHANGES_PAGE);
+
+        // Fetch one extra change to know whether more are waiting
+        List<PlayerChangeDTO> changes = changeRepository
+                .findBySequenceGreaterThanOrderBySequenceAsc(since, PageRequest.of(0, pageSize + 1))
+                .stream()
+                .map(PlayerChangeDTO::fromEntity)
+                .collect(Collectors.toCollection(ArrayList::new));
+        boolean hasMore = changes.size() > pageSize;
+        if (hasMore)
+            changes.remove(pageSize);
+
+        long nextSince = changes.isEmpty() ? since : changes.get(changes.size() - 1).getSequence();
+        return new PlayerChangesDTO(changes, nextSince, hasMore);
     }
 
     /**
@@ -374,13 +458,16 @@ public class PlayerServiceImpl implements PlayerService {
      * Delete all players.
      */
     @Override
+    @Transactional
     public void deleteAll() {
         log.warn("Deleting all players (DEV/TEST only)");
         this.playerRepository.deleteAll();
+        eventPublisher.publishEvent(PlayerChangedEvent.cleared());
     }
 
     /**
      * Bulk upload players from a CSV file.
+     * Each row is created in its own transaction, together with its change log entry.
      *
      * @param file
      * @return map of successful and failed players
@@ -402,26 +489,69 @@ public class PlayerServiceImpl implements PlayerService {
 
             List<Integer> successful = new ArrayList<>();
             List<Integer> failed = new ArrayList<>();
+            long start = System.nanoTime();
+            // Flight Recorder events of ImportBatchEvent.ROWS rows each, splitting parse and write time
+            ImportBatchEvent batch = new ImportBatchEvent();
+            batch.begin();
 
             String line;
             int lineNumber = 1; // 1-based line number for rows (excluding header)
+            int unlogged = 0; // failures beyond MAX_LOGGED_IMPORT_FAILURES, only counted in the summary
 
             while ((line = reader.readLine()) != null) {
                 lineNumber++;
+                long rowStart = System.nanoTime();
+                long writeStart = 0; // stays 0 unless the row got to the insert
+                boolean created = false;
 
                 try {
                     PlayerDTO dto = parseCSVRow(line, columns);
-                    boolean res = validateDtoOrThrow(dto, lineNumber);
+                    boolean res = dto != null && validateDtoOrThrow(dto, lineNumber);
                     if (res) {
-                        createPlayer(dto);
+                        writeStart = System.nanoTime();
+                        // Self-calls bypass @Transactional: the player and its change log entry commit together
+                        transactionTemplate.executeWithoutResult(status -> createPlayer(dto));
                         successful.add(lineNumber);
-                    } else
+                        created = true;
+                    } else {
                         failed.add(lineNumber);// validation failure
+                        if (failed.size() <= MAX_LOGGED_IMPORT_FAILURES)
+                            log.warn("Failed to process line {}: invalid player data", lineNumber);
+                        else
+                            unlogged++;
+                    }
                 } catch (Exception e) {
-                    log.warn("Failed to process line {}: {}", lineNumber, e.getMessage());
                     failed.add(lineNumber);// Exist already by first name + last name + date of birth
+                    if (failed.size() <= MAX_LOGGED_IMPORT_FAILURES)
+                        log.warn("Failed to process line {}: {}", lineNumber, e.getMessage());
+                    else
+                        unlogged++;
+                }
+                importMetrics.row(created);
+
+                long rowEnd = System.nanoTime();
+                batch.parseTime += (writeStart == 0 ? rowEnd : writeStart) - rowStart;
+                batch.writeTime += writeStart == 0 ? 0 : rowEnd - writeStart;
+                batch.rows++;
+                if (created)
+                    batch.created++;
+                else
+                    batch.failed++;
+                if (batch.rows == ImportBatchEvent.ROWS) {
+                    batch.commit();
+                    batch = new ImportBatchEvent();
+                    batch.begin();
                 }
             }
+            if (batch.rows > 0)
+                batch.commit();
+            long elapsed = System.nanoTime() - start;
+            importMetrics.imported(successful.size() + failed.size(), elapsed);
+            log.info("Bulk import finished: {} {} {} {}",
+                    kv("created", successful.size()),
+                    kv("failed", failed.size()),
+                    kv("failuresNotLogged", unlogged),
+                    kv("durationMs", TimeUnit.NANOSECONDS.toMillis(elapsed)));
 
             Map<String, Object> result = new HashMap<>();
             result.put("successfully_created", successful);
@@ -470,6 +600,34 @@ public class PlayerServiceImpl implements PlayerService {
         return PageRequest.of(page, size, Sort.by(direction, sortField));
     }
 
+    /**
+     * Bring a managed collection to the target content in place.
+     * Elements already present are kept, so Hibernate only deletes removed and inserts added join rows,
+     * and an unchanged collection is not marked dirty at all.
+     *
+     * @param current the managed collection of the entity
+     * @param target  the requested content
+     */
+    private static <T> void syncCollection(Set<T> current, Set<T> target) {
+        current.retainAll(target);
+        current.addAll(target);
+    }
+
+    /**
+     * Normalize raw filter parameters, rejecting unknown nationality or position codes.
+     *
+     * @return the normalized filter
+     */
+    private PlayerFilter toFilter(String name, List<String> nationalities, Integer minAge, Integer maxAge,
+            List<String> positions, Double minHeight, Double maxHeight) {
+        try {
+            return PlayerFilter.of(name, nationalities, minAge, maxAge, positions, minHeight, maxHeight);
+        } catch (IllegalArgumentException e) {
+            log.debug("Rejected player filter: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Illegal nationality or position filter");
+        }
+    }
+
     private void validateCSVHeader(String[] columns) {
         List<String> expected = List.of("firstName", "lastName", "dateOfBirth", "height", "nationalities", "positions");
         for (String col : expected) {
@@ -481,12 +639,14 @@ public class PlayerServiceImpl implements PlayerService {
 
     /**
      * Parse a CSV row into a PlayerDTO.
+     * Nationalities may be ISO codes or country names; neither lookup throws on an unknown value.
+     * Package-private for the {@code jmh} benchmarks.
      *
      * @param line
      * @param columns
-     * @return PlayerDTO
+     * @return PlayerDTO, or null if a nationality or position is unknown
      */
-    private PlayerDTO parseCSVRow(String line, String[] columns) {
+    static PlayerDTO parseCSVRow(String line, String[] columns) {
         String[] tokens = line.split(",");
         Map<String, String> data = new HashMap<>();
 
@@ -500,25 +660,54 @@ public class PlayerServiceImpl implements PlayerService {
         dto.setDateOfBirth(LocalDate.parse(data.get("dateOfBirth")));
         dto.setHeight(Double.parseDouble(data.get("height")));
 
-        Set<Nationality> nationalities = Arrays.stream(data.get("nationalities").split("[|/;#!%]"))
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .map(Nationality::fromCode)
-                .collect(Collectors.toSet());
+        Set<Nationality> nationalities = EnumSet.noneOf(Nationality.class);
+        for (String value : CSV_LIST_SEPARATORS.split(data.get("nationalities"))) {
+            if (value.isBlank())
+                continue;
+            Nationality nationality = Nationality.lookup(value);
+            if (nationality == null) {
+                log.debug("Unknown nationality: {}", value);
+                return null;
+            }
+            nationalities.add(nationality);
+        }
         dto.setNationalities(nationalities);
 
-        Set<Positions> positions = Arrays.stream(data.get("positions").split("[|/;#!%]"))
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .map(Positions::valueOf)
-                .collect(Collectors.toSet());
+        Set<Positions> positions = EnumSet.noneOf(Positions.class);
+        for (String value : CSV_LIST_SEPARATORS.split(data.get("positions"))) {
+            if (value.isBlank())
+                continue;
+            Positions position = Positions.byCode(value);
+            if (position == null) {
+                log.debug("Unknown position: {}", value);
+                return null;
+            }
+            positions.add(position);
+        }
         dto.setPositions(positions);
 
         return dto;
     }
 
+    /**
+     * Check whether a data integrity violation was raised by the natural key unique index.
+     *
+     * @param e the exception thrown by the repository
+     * @return true if the violated constraint is the player natural key
+     */
+    private boolean isNaturalKeyViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT)
+                        .contains(PlayerEntity.NATURAL_KEY_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+
     /**
      * Validate the DTO and throw an exception if it is invalid.
+     * The violation messages are only joined when debug logging is enabled.
      *
      * @param dto
      * @param rowIndex
@@ -527,10 +716,13 @@ public class PlayerServiceImpl implements PlayerService {
     private boolean validateDtoOrThrow(PlayerDTO dto, int rowIndex) {
         Set<ConstraintViolation<PlayerDTO>> violations = validator.validate(dto);
         if (!violations.isEmpty()) {
-            String errorMsg = violations.stream()
-                    .map(ConstraintViolation::getMessage)
-                    .collect(Collectors.joining("; "));
-            log.error("Invalid Player structure has been occurred on bulk player add on row {}", rowIndex);
+            log.atDebug()
+                    .setMessage("Invalid player data on row {}: {}")
+                    .addArgument(rowIndex)
+                    .addArgument(() -> violations.stream()
+                            .map(ConstraintViolation::getMessage)
+                            .collect(Collectors.joining("; ")))
+                    .log();
             return false;
         }
         return true;// valid DTO
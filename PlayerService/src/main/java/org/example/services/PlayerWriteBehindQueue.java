@@ -0,0 +1,190 @@
+package org.example.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.dtos.PendingCreateDTO;
+import org.example.dtos.PlayerDTO;
+import org.example.utils.RetryLaterException;
+import org.example.utils.WorkloadContext;
+import org.example.utils.enums.WorkloadClass;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opt-in write-behind path for player creation.
+ * Creates are acknowledged as soon as they are queued, and a single committer thread writes
+ * everything queued since its last run in one transaction (group commit), trading one commit
+ * per player for one commit per batch. When the queue is full, creates are rejected with 503
+ * and a Retry-After header instead of piling up.
+ * <p>
+ * Queued creates are held in memory only: they are flushed on graceful shutdown but lost if
+ * the process dies, which is why the mode is disabled by default.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "player.write-behind.enabled", havingValue = "true")
+public class PlayerWriteBehindQueue {
+
+    private record QueuedCreate(UUID ticket, PlayerDTO player) {
+    }
+
+    private final PlayerService playerService;
+    private final BlockingQueue<QueuedCreate> queue;
+    private final int maxBatch;
+    private final Duration flushInterval;
+
+    /**
+     * Cleared on shutdown, before the last flush: later creates are refused instead of lost
+     */
+    private volatile boolean accepting = true;
+
+    /**
+     * Outcome of every recent ticket, kept long enough for clients to poll it
+     */
+    private final Cache<UUID, PendingCreateDTO> outcomes;
+
+    private final ScheduledExecutorService committer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "player-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public PlayerWriteBehindQueue(PlayerService playerService,
+            @Value("${player.write-behind.capacity:10000}") int capacity,
+            @Value("${player.write-behind.max-batch:500}") int maxBatch,
+            @Value("${player.write-behind.flush-interval:PT0.005S}") Duration flushInterval,
+            @Value("${player.write-behind.outcome-retention:PT10M}") Duration outcomeRetention,
+            MeterRegistry meterRegistry) {
+        this.playerService = playerService;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatch = maxBatch;
+        this.flushInterval = flushInterval;
+        this.outcomes = Caffeine.newBuilder()
+                .expireAfterWrite(outcomeRetention)
+                .build();
+        Gauge.builder("players.write_behind.queue.size", queue, BlockingQueue::size)
+                .description("Player creations waiting for the next group commit")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        committer.scheduleWithFixedDelay(this::flush, flushInterval.toNanos(), flushInterval.toNanos(),
+                TimeUnit.NANOSECONDS);
+        log.info("Write-behind player creation enabled: capacity {}, batches of up to {} every {}",
+                queue.remainingCapacity(), maxBatch, flushInterval);
+    }
+
+    /**
+     * Stop accepting creates and scheduled flushes, and commit whatever is still queued.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        accepting = false;
+        committer.shutdown();
+        committer.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+    }
+
+    /**
+     * Queue a player creation.
+     *
+     * @param player the player data, already validated by the controller
+     * @return the pending ticket
+     * @throws RetryLaterException if the queue is full or shutting down
+     */
+    public PendingCreateDTO submit(PlayerDTO player) {
+        if (!accepting)
+            throw shuttingDown();
+        UUID ticket = UUID.randomUUID();
+        PendingCreateDTO pending = PendingCreateDTO.pending(ticket);
+        outcomes.put(ticket, pending);
+        QueuedCreate create = new QueuedCreate(ticket, player);
+        if (!queue.offer(create)) {
+            outcomes.invalidate(ticket);
+            log.warn("Write-behind queue is full, rejecting player creation");
+            throw new RetryLaterException("Too many pending player creations", Duration.ofSeconds(1));
+        }
+        // Queued while stopping: if the last flush has not taken it, nothing will
+        if (!accepting && queue.remove(create)) {
+            outcomes.invalidate(ticket);
+            throw shuttingDown();
+        }
+        return pending;
+    }
+
+    private static RetryLaterException shuttingDown() {
+        return new RetryLaterException("Player creation queue is shutting down", Duration.ofSeconds(1));
+    }
+
+    /**
+     * Get the outcome of a queued creation.
+     *
+     * @param ticket the ticket returned by {@link #submit(PlayerDTO)}
+     * @return the outcome, or empty if the ticket is unknown or expired
+     */
+    public Optional<PendingCreateDTO> status(UUID ticket) {
+        return Optional.ofNullable(outcomes.getIfPresent(ticket));
+    }
+
+    /**
+     * Commit everything queued so far, one batch of at most {@code maxBatch} players per transaction,
+     * on the connections of the bulk workload.
+     */
+    void flush() {
+        WorkloadContext.run(WorkloadClass.BULK, () -> {
+            List<QueuedCreate> batch = new ArrayList<>(maxBatch);
+            while (queue.drainTo(batch, maxBatch) > 0) {
+                commit(batch);
+                batch.clear();
+            }
+        });
+    }
+
+    private void commit(List<QueuedCreate> batch) {
+        try {
+            List<PlayerDTO> created = playerService.createPlayers(batch.stream().map(QueuedCreate::player).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                UUID ticket = batch.get(i).ticket();
+                outcomes.put(ticket, PendingCreateDTO.created(ticket, created.get(i)));
+            }
+            log.debug("Group commit of {} players", batch.size());
+        } catch (Exception e) {
+            // One bad player rolls back the whole batch: retry one by one to isolate it
+            log.warn("Group commit of {} players failed ({}), retrying individually", batch.size(), e.getMessage());
+            batch.forEach(this::commitAlone);
+        }
+    }
+
+    private void commitAlone(QueuedCreate create) {
+        try {
+            PlayerDTO created = playerService.createPlayers(List.of(create.player())).get(0);
+            outcomes.put(create.ticket(), PendingCreateDTO.created(create.ticket(), created));
+        } catch (ResponseStatusException e) {
+            outcomes.put(create.ticket(), PendingCreateDTO.failed(create.ticket(), e.getReason()));
+        } catch (Exception e) {
+            log.error("Queued player creation {} failed", create.ticket(), e);
+            outcomes.put(create.ticket(), PendingCreateDTO.failed(create.ticket(), "Internal server error"));
+        }
+    }
+}
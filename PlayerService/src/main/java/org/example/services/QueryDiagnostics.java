@@ -0,0 +1,140 @@
+package org.example.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.dtos.EndpointQueryStatsDTO;
+import org.example.dtos.SlowQueryDTO;
+import org.example.utils.QueryTracker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Collects the database work of the service: the most recent slow statements, in a bounded ring
+ * buffer, and the statements, entity loads and database time per request of each endpoint.
+ * <p>
+ * A statement below the threshold costs one comparison here, so the slow-query log is
+ * effectively free while nothing is slow.
+ */
+@Slf4j
+@Component
+public class QueryDiagnostics {
+
+    /**
+     * Running totals of one endpoint
+     */
+    private static class EndpointStats {
+        private long requests;
+        private long statements;
+        private int maxStatements;
+        private long entityLoads;
+        private int maxEntityLoads;
+        private long databaseNanos;
+        private long maxDatabaseNanos;
+
+        synchronized void record(QueryTracker tracker) {
+            requests++;
+            statements += tracker.getStatements();
+            maxStatements = Math.max(maxStatements, tracker.getStatements());
+            entityLoads += tracker.getEntityLoads();
+            maxEntityLoads = Math.max(maxEntityLoads, tracker.getEntityLoads());
+            databaseNanos += tracker.getDatabaseNanos();
+            maxDatabaseNanos = Math.max(maxDatabaseNanos, tracker.getDatabaseNanos());
+        }
+
+        synchronized EndpointQueryStatsDTO toDTO(String endpoint) {
+            return new EndpointQueryStatsDTO(endpoint, requests,
+                    (double) statements / requests, maxStatements,
+                    (double) entityLoads / requests, maxEntityLoads,
+                    databaseNanos / 1e6 / requests, maxDatabaseNanos / 1e6);
+        }
+    }
+
+    private final long thresholdNanos;
+    private final int capacity;
+    private final Deque<SlowQueryDTO> slowQueries;
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    @Autowired
+    public QueryDiagnostics(@Value("${player.diagnostics.slow-query-threshold:PT0.1S}") Duration threshold,
+            @Value("${player.diagnostics.slow-query-buffer:200}") int capacity) {
+        this.thresholdNanos = threshold.toNanos();
+        this.capacity = capacity;
+        this.slowQueries = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Account for an executed statement, and log it if it was slow.
+     *
+     * @param sql          the SQL with its placeholders, computed only if the statement was slow
+     * @param parameters   shape of the bind parameters, computed only if the statement was slow
+     * @param elapsedNanos execution time
+     */
+    public void statementExecuted(Supplier<String> sql, Supplier<String> parameters, long elapsedNanos) {
+        QueryTracker.statementExecuted(elapsedNanos);
+        if (elapsedNanos < thresholdNanos)
+            return;
+
+        SlowQueryDTO slow = new SlowQueryDTO(new Date(), elapsedNanos / 1_000_000, sql.get(), parameters.get(),
+                QueryTracker.currentEndpoint());
+        log.warn("Slow query ({} ms) from {}: {} {}", slow.getElapsedMillis(), slow.getEndpoint(), slow.getSql(),
+                slow.getParameters());
+        synchronized (slowQueries) {
+            if (slowQueries.size() == capacity)
+                slowQueries.removeFirst();
+            slowQueries.addLast(slow);
+        }
+    }
+
+    /**
+     * Account for the database work of a finished request.
+     *
+     * @param endpoint the endpoint of the request
+     * @param tracker  the counters of the request
+     */
+    public void requestFinished(String endpoint, QueryTracker tracker) {
+        endpoints.computeIfAbsent(endpoint, e -> new EndpointStats()).record(tracker);
+    }
+
+    /**
+     * @return the recorded slow statements, most recent first
+     */
+    public List<SlowQueryDTO> getSlowQueries() {
+        synchronized (slowQueries) {
+            List<SlowQueryDTO> recent = new ArrayList<>(slowQueries);
+            Collections.reverse(recent);
+            return recent;
+        }
+    }
+
+    /**
+     * @return the database work per request of each endpoint, highest mean database time first
+     */
+    public List<EndpointQueryStatsDTO> getEndpointStatistics() {
+        return endpoints.entrySet().stream()
+                .map(entry -> entry.getValue().toDTO(entry.getKey()))
+                .sorted(Comparator.comparingDouble(EndpointQueryStatsDTO::getMeanDatabaseMillis).reversed())
+                .toList();
+    }
+
+    /**
+     * Forget the slow statements and the endpoint statistics.
+     */
+    public void reset() {
+        synchronized (slowQueries) {
+            slowQueries.clear();
+        }
+        endpoints.clear();
+    }
+}
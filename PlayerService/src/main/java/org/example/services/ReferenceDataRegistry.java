@@ -0,0 +1,152 @@
+package org.example.services;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.entities.NationalityEntity;
+import org.example.entities.PositionEntity;
+import org.example.repositories.NationalityRepository;
+import org.example.repositories.PositionRepository;
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.Positions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Registry of the nationality and position reference rows.
+ * Every {@link Nationality} and {@link Positions} row is seeded once at startup and then
+ * served from immutable enum maps, so writes resolve references without any query.
+ * <p>
+ * The registered entities are shared between threads and must never be modified.
+ * Hibernate only needs their identifier to write the join rows of a player.
+ */
+@Slf4j
+@Component
+public class ReferenceDataRegistry {
+
+    /**
+     * Times a reference table is reloaded and seeded again after a conflict
+     */
+    private static final int SEED_ATTEMPTS = 3;
+
+    private final NationalityRepository nationalityRepository;
+    private final PositionRepository positionRepository;
+
+    private Map<Nationality, NationalityEntity> nationalities;
+    private Map<Positions, PositionEntity> positions;
+
+    @Autowired
+    public ReferenceDataRegistry(NationalityRepository nationalityRepository,
+            PositionRepository positionRepository) {
+        this.nationalityRepository = nationalityRepository;
+        this.positionRepository = positionRepository;
+    }
+
+    /**
+     * Insert the reference rows missing from the database and build the registry.
+     * Runs before the web server starts accepting requests.
+     */
+    @PostConstruct
+    void seed() {
+        Map<Nationality, NationalityEntity> nationalityMap = new EnumMap<>(Nationality.class);
+        for (Nationality nationality : Nationality.values()) {
+            nationalityMap.put(nationality, new NationalityEntity(nationality));
+        }
+        Map<Positions, PositionEntity> positionMap = new EnumMap<>(Positions.class);
+        for (Positions position : Positions.values()) {
+            positionMap.put(position, new PositionEntity(position));
+        }
+
+        // Each table is seeded on its own, a conflict on one must not leave the other unseeded
+        int seededNationalities = seedTable("nationalities", nationalityRepository, nationalityMap,
+                NationalityEntity::getNationality);
+        int seededPositions = seedTable("positions", positionRepository, positionMap, PositionEntity::getPosition);
+
+        this.nationalities = Collections.unmodifiableMap(nationalityMap);
+        this.positions = Collections.unmodifiableMap(positionMap);
+        log.info("Reference data ready: seeded {} nationalities and {} positions",
+                seededNationalities, seededPositions);
+    }
+
+    /**
+     * Insert the rows of one reference table missing from the database. A conflict means another
+     * instance is seeding the same rows: the table is reloaded and the rows still missing are inserted.
+     *
+     * @param table      the table, for the logs
+     * @param repository the repository of the table
+     * @param entities   every row the table must hold, by identifier
+     * @param idOf       the identifier of a row
+     * @return the number of rows this instance inserted
+     * @throws DataIntegrityViolationException if the rows still conflict after {@value #SEED_ATTEMPTS} attempts
+     */
+    private static <E extends Enum<E>, T> int seedTable(String table, JpaRepository<T, E> repository,
+            Map<E, T> entities, Function<T, E> idOf) {
+        for (int attempt = 1; ; attempt++) {
+            Set<E> existing = repository.findAll().stream().map(idOf).collect(Collectors.toSet());
+            List<T> missing = entities.entrySet().stream()
+                    .filter(entry -> !existing.contains(entry.getKey()))
+                    .map(Map.Entry::getValue)
+                    .toList();
+            if (missing.isEmpty())
+                return 0;
+            try {
+                repository.saveAll(missing);
+                return missing.size();
+            } catch (DataIntegrityViolationException e) {
+                if (attempt == SEED_ATTEMPTS)
+                    throw e;
+                log.warn("Reference {} were seeded concurrently, reloading: {}", table, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Get the reference entity of a nationality.
+     *
+     * @param nationality the nationality
+     * @return the shared, read-only entity
+     */
+    public NationalityEntity nationality(Nationality nationality) {
+        return nationalities.get(nationality);
+    }
+
+    /**
+     * Get the reference entity of a position.
+     *
+     * @param position the position
+     * @return the shared, read-only entity
+     */
+    public PositionEntity position(Positions position) {
+        return positions.get(position);
+    }
+
+    /**
+     * Get the reference entities of a set of nationalities.
+     *
+     * @param values the nationalities
+     * @return a new mutable set of shared, read-only entities
+     */
+    public Set<NationalityEntity> nationalities(Collection<Nationality> values) {
+        return values.stream().map(this::nationality).collect(Collectors.toSet());
+    }
+
+    /**
+     * Get the reference entities of a set of positions.
+     *
+     * @param values the positions
+     * @return a new mutable set of shared, read-only entities
+     */
+    public Set<PositionEntity> positions(Collection<Positions> values) {
+        return values.stream().map(this::position).collect(Collectors.toSet());
+    }
+}
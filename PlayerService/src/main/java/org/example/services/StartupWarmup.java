@@ -0,0 +1,179 @@
+package org.example.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.dtos.PlayerDTO;
+import org.example.utils.WorkloadContext;
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.Positions;
+import org.example.utils.enums.SortBy;
+import org.example.utils.enums.WorkloadClass;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Exercises the hot read paths before the service reports itself ready, so that the first real
+ * requests after a deploy do not pay for query compilation, Hibernate query plans, Jackson
+ * serializers and JIT compilation.
+ * <p>
+ * Spring Boot only marks the application ready for traffic (readiness probe
+ * {@code /actuator/health/readiness}) once every {@link ApplicationRunner} has returned, so the
+ * rounds below run before the first request is routed here. Every round is read-only: list pages
+ * with varied filters and sorts, facets, player details, the change feed, and JSON serialization of
+ * the results. Rounds repeat until their latency settles or the time budget runs out, then the
+ * query cache filled by the warmup is dropped.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "player.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final String[] NAME_FRAGMENTS = {null, "a", "e", "an", "ar", "el", "in", "o", "ma", "ri"};
+
+    private final PlayerService playerService;
+    private final PlayerQueryCache queryCache;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnly;
+    private final Duration maxDuration;
+    private final int minRounds;
+    private final double tolerance;
+
+    private volatile double durationMs;
+    private volatile double speedup;
+
+    @Autowired
+    public StartupWarmup(PlayerService playerService, PlayerQueryCache queryCache, ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${player.warmup.max-duration:PT60S}") Duration maxDuration,
+            @Value("${player.warmup.min-rounds:20}") int minRounds,
+            @Value("${player.warmup.tolerance:0.1}") double tolerance) {
+        this.playerService = playerService;
+        this.queryCache = queryCache;
+        this.objectMapper = objectMapper;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.maxDuration = maxDuration;
+        this.minRounds = minRounds;
+        this.tolerance = tolerance;
+        Gauge.builder("players.warmup.duration", this, warmup -> warmup.durationMs)
+                .description("Time spent warming up before accepting traffic, in milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("players.warmup.speedup", this, warmup -> warmup.speedup)
+                .description("Latency of the first warmup round divided by that of the last")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        long deadline = start + maxDuration.toNanos();
+        long[] window = new long[5];
+        long first = 0;
+        long last = 0;
+        int round = 0;
+
+        try {
+            while (System.nanoTime() < deadline) {
+                int current = round;
+                long roundStart = System.nanoTime();
+                runRound(current);
+                last = System.nanoTime() - roundStart;
+                if (round == 0)
+                    first = last;
+                window[round % window.length] = last;
+                round++;
+                if (round >= minRounds && settled(window))
+                    break;
+            }
+        } catch (RuntimeException e) {
+            // A failed warmup must not keep the service from starting
+            log.warn("Warmup stopped after {} rounds: {}", round, e.getMessage());
+        } finally {
+            // Results cached while warming up are not worth their memory
+            queryCache.invalidateAll();
+        }
+
+        durationMs = (System.nanoTime() - start) / 1e6;
+        speedup = last == 0 ? 1 : (double) first / last;
+        log.info("Warmup finished in {} ms over {} rounds: round latency {} ms -> {} ms (x{})",
+                Math.round(durationMs), round, String.format("%.1f", first / 1e6), String.format("%.1f", last / 1e6),
+                String.format("%.1f", speedup));
+    }
+
+    /**
+     * One pass over the hot read paths, each workload class in a read-only transaction on its own pool.
+     * Starts from an empty query cache so that cache hits do not pass for settled latency.
+     */
+    private void runRound(int round) {
+        queryCache.invalidateAll();
+        WorkloadContext.run(WorkloadClass.LIST, () -> readOnly.executeWithoutResult(status -> warmLists(round)));
+        WorkloadContext.run(WorkloadClass.INTERACTIVE, () -> readOnly.executeWithoutResult(status -> warmDetails()));
+    }
+
+    /**
+     * The round number varies the filters, sorts and pages so that every query misses the query
+     * cache and several predicate shapes get compiled.
+     */
+    private void warmLists(int round) {
+        SortBy[] sorts = SortBy.values();
+        Nationality[] nationalities = Nationality.values();
+        Positions[] positions = Positions.values();
+
+        for (int i = 0; i < NAME_FRAGMENTS.length; i++) {
+            int variant = round * NAME_FRAGMENTS.length + i;
+            List<String> nationality = variant % 3 == 0
+                    ? List.of(nationalities[variant % nationalities.length].name())
+                    : null;
+            List<String> position = variant % 4 == 0
+                    ? List.of(positions[variant % positions.length].name())
+                    : null;
+            Page<PlayerDTO> page = playerService.getPlayers(NAME_FRAGMENTS[i], nationality,
+                    variant % 5 == 0 ? 18 : null, variant % 5 == 0 ? 35 : null, position,
+                    variant % 2 == 0 ? 1.6 : null, variant % 2 == 0 ? 2.0 : null,
+                    sorts[variant % sorts.length], variant % 2 == 0 ? "asc" : "desc", round % 10, 10);
+            serialize(page);
+        }
+        serialize(playerService.getPlayerFacets(NAME_FRAGMENTS[round % NAME_FRAGMENTS.length],
+                null, null, null, null, null, null));
+        serialize(playerService.getChanges(0, 100));
+    }
+
+    private void warmDetails() {
+        Page<PlayerDTO> sample = playerService.getPlayers(null, null, null, null, null, null, null,
+                SortBy.NAME, "asc", 0, 10);
+        for (PlayerDTO player : sample.getContent()) {
+            serialize(playerService.getPlayerById(player.getId()));
+        }
+    }
+
+    private void serialize(Object body) {
+        try {
+            objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + body.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Latency has settled when the slowest of the last rounds is within the tolerance of the fastest.
+     */
+    private boolean settled(long[] window) {
+        long min = Arrays.stream(window).min().orElse(0);
+        long max = Arrays.stream(window).max().orElse(0);
+        return min > 0 && max <= min * (1 + tolerance);
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptive concurrency limit using additive increase, multiplicative decrease (AIMD), as in TCP
+ * congestion control.
+ * <p>
+ * Requests that complete within the latency threshold while the limit is in use raise the
+ * limit by one per limit's worth of requests (one per round trip of a full window); a slow or
+ * failed request cuts it by the backoff ratio, at most once per threshold period so that one
+ * burst of slow responses counts as a single congestion signal. Requests above the limit are
+ * refused immediately rather than queued.
+ */
+public class AimdLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+    private double estimate;
+    private long lastDecrease;
+
+    /**
+     * @param initialLimit          the starting limit
+     * @param minLimit              the lowest the limit may fall to
+     * @param maxLimit              the highest the limit may grow to
+     * @param backoffRatio          the factor applied to the limit on congestion (0 to 1)
+     * @param latencyThresholdNanos the latency above which a request signals congestion
+     */
+    public AimdLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio, long latencyThresholdNanos) {
+        if (minLimit < 1 || maxLimit < minLimit || backoffRatio <= 0 || backoffRatio >= 1)
+            throw new IllegalArgumentException("Invalid AIMD limit settings");
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.estimate = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimate;
+        this.lastDecrease = System.nanoTime() - latencyThresholdNanos;
+    }
+
+    /**
+     * Take a slot if the limit allows it.
+     *
+     * @return the number of requests in flight including this one, or 0 if the request must be shed
+     */
+    public int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit)
+                return 0;
+            if (inFlight.compareAndSet(current, current + 1))
+                return current + 1;
+        }
+    }
+
+    /**
+     * Give a slot back and adjust the limit to the outcome of the request.
+     *
+     * @param inFlightAtStart the value returned by {@link #tryAcquire()}
+     * @param latencyNanos    how long the request took
+     * @param failed          whether the request failed in a way that signals overload
+     */
+    public void release(int inFlightAtStart, long latencyNanos, boolean failed) {
+        inFlight.decrementAndGet();
+        if (failed || latencyNanos > latencyThresholdNanos) {
+            synchronized (this) {
+                long now = System.nanoTime();
+                if (now - lastDecrease >= latencyThresholdNanos) {
+                    estimate = Math.max(minLimit, estimate * backoffRatio);
+                    limit = (int) estimate;
+                    lastDecrease = now;
+                }
+            }
+        } else if (inFlightAtStart * 2 >= limit) {
+            // Only grow when the limit is actually being used, not while idle
+            synchronized (this) {
+                estimate = Math.min(maxLimit, estimate + 1.0 / estimate);
+                limit = (int) estimate;
+            }
+        }
+    }
+
+    /**
+     * @return the current limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return the number of requests in flight
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
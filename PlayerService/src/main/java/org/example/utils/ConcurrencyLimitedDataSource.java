@@ -0,0 +1,142 @@
+package org.example.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource that lets at most a fixed number of callers hold a connection at once.
+ * <p>
+ * With virtual threads the number of concurrent requests is no longer bounded by the size of a
+ * thread pool, so every one of them can reach the database at the same time. Sized to the
+ * connection pool, the fair semaphore makes the excess wait in arrival order, without holding
+ * a carrier thread, and fail after a bounded time instead of stampeding the pool. Once the
+ * queue is full, further callers fail at once.
+ */
+@Slf4j
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final int maxWaiting;
+    private final Duration acquireTimeout;
+
+    /**
+     * @param target         the pooled DataSource to guard
+     * @param maxConcurrency the number of connections that may be held at once
+     * @param maxWaiting     the number of callers that may wait for a permit
+     * @param acquireTimeout how long a caller may wait for a permit
+     */
+    public ConcurrencyLimitedDataSource(DataSource target, int maxConcurrency, int maxWaiting,
+            Duration acquireTimeout) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.maxWaiting = maxWaiting;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the number of connections that may be held at once
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @return the number of permits not currently held
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * @return the (estimated) number of callers waiting for a permit
+     */
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            // A zero timeout, unlike tryAcquire(), does not barge ahead of the callers already waiting
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS))
+                return;
+            if (permits.getQueueLength() >= maxWaiting) {
+                log.warn("Rejecting database caller, {} already waiting for one of {} permits", maxWaiting,
+                        maxConcurrency);
+                throw new SQLTransientConnectionException("Too many callers waiting for a database permit");
+            }
+            if (!permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                log.warn("Timed out after {} waiting for one of {} database permits ({} waiting)",
+                        acquireTimeout, maxConcurrency, permits.getQueueLength());
+                throw new SQLTransientConnectionException(
+                        "Timed out waiting for a database permit after " + acquireTimeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", e);
+        }
+    }
+
+    /**
+     * Wrap a connection so that closing it (once) gives the permit back.
+     */
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                        try {
+                            connection.close();
+                        } finally {
+                            permits.release();
+                        }
+                        return null;
+                    }
+                    if ("equals".equals(method.getName()))
+                        return proxy == args[0];
+                    if ("hashCode".equals(method.getName()))
+                        return System.identityHashCode(proxy);
+                    if ("unwrap".equals(method.getName()) && ((Class<?>) args[0]).isInstance(proxy))
+                        return proxy;
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.utils;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Conversion between player versions and HTTP entity tags.
+ * A player's entity tag is its optimistic-locking version, quoted: {@code "3"}.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * Format a version as a strong entity tag.
+     *
+     * @param version the entity version
+     * @return the quoted entity tag
+     */
+    public static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Check whether an {@code If-None-Match} header matches the given version.
+     *
+     * @param ifNoneMatch the header value, may be null
+     * @param version     the current entity version
+     * @return true if the client copy is current
+     */
+    public static boolean matches(String ifNoneMatch, Long version) {
+        if (ifNoneMatch == null || version == null)
+            return false;
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.strip();
+            if (candidate.equals("*") || stripWeak(candidate).equals(of(version)))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Parse the version expected by an {@code If-Match} header.
+     * If-Match uses the strong comparison (RFC 9110, section 13.1.1): a weak tag never matches.
+     *
+     * @param ifMatch the header value, may be null
+     * @return the expected version, or null when the header is absent or {@code *}
+     * @throws ResponseStatusException 412 if the header is not a single strong version tag
+     */
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*"))
+            return null;
+        String tag = ifMatch.strip();
+        if (tag.startsWith("W/"))
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Weak entity tags never match If-Match");
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\""))
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Malformed If-Match header");
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Malformed If-Match header");
+        }
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
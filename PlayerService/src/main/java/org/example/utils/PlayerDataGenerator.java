@@ -0,0 +1,307 @@
+package org.example.utils;
+
+import org.example.dtos.PlayerDTO;
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.Positions;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Deterministic generator of realistic players for benchmarks, load tests and the {@code perf} profile.
+ * The same seed and reference date always produce the same players, in the same order.
+ * <p>
+ * Names follow a Zipf distribution over common football first and last names; nationalities are
+ * skewed towards the big football nations with a long tail over every country, and about one player
+ * in eight has a second one; four players in ten play a second position next to their main one, and
+ * some a third; heights depend on the main position, and ages cluster around 26. Players never share
+ * a natural key: a collision draws the name and date of birth again.
+ * <p>
+ * Run as a program to write a CSV file in the bulk upload format:
+ * {@code PlayerDataGenerator <players> [seed] [file, default standard output]}.
+ */
+public final class PlayerDataGenerator {
+
+    /**
+     * Header of the bulk upload CSV format
+     */
+    public static final String CSV_HEADER = "firstName,lastName,dateOfBirth,height,nationalities,positions";
+
+    private static final String[] FIRST_NAMES = {
+            "Luis", "David", "Daniel", "Carlos", "Mohamed", "Lucas", "Alex", "Marco", "Juan", "Thomas",
+            "Gabriel", "Kevin", "Jose", "Matteo", "Ahmed", "Joao", "Pedro", "Diego", "Andrea", "Martin",
+            "Leon", "Jonas", "Youssef", "Kofi", "Hugo", "Rafael", "Bruno", "Antoine", "Mateo", "Samuel",
+            "Victor", "Federico", "Nicolas", "Ivan", "Luka", "Sergio", "Christian", "Moussa", "Jamal", "Ryan",
+            "Paulo", "Emil", "Florian", "Takumi", "Min-jae", "Erling", "Virgil", "Kylian", "Jude", "Bukayo",
+            "Phil", "Jack", "Mason", "Declan", "Trent", "Harry", "Raheem", "Sadio", "Achraf", "Ousmane"};
+
+    private static final String[] LAST_NAMES = {
+            "Silva", "Santos", "Garcia", "Rodriguez", "Fernandez", "Martinez", "Lopez", "Gonzalez", "Muller",
+            "Schmidt", "Rossi", "Russo", "Ferrari", "Smith", "Jones", "Williams", "Brown", "Taylor", "Martin",
+            "Bernard", "Dubois", "Diallo", "Traore", "Kone", "Mensah", "Okafor", "Hassan", "Ali", "Yilmaz",
+            "Kaya", "Jansen", "De Jong", "Peeters", "Novak", "Horvat", "Kovacic", "Nielsen", "Hansen",
+            "Johansson", "Andersen", "Kowalski", "Nowak", "Petrovic", "Jovanovic", "Costa", "Pereira",
+            "Oliveira", "Sousa", "Alves", "Ramos", "Torres", "Moreno", "Romero", "Alvarez", "Diaz", "Herrera",
+            "Suzuki", "Tanaka", "Kim", "Park", "Lee", "Sanchez", "Perez", "Gomez", "Ruiz", "Navarro", "Bianchi",
+            "Romano", "Colombo", "Ricci", "Weber", "Wagner", "Becker", "Hoffmann", "Schulz", "Walker", "Wright",
+            "Evans", "Thomas", "Roberts"};
+
+    /**
+     * Share of the players of the big football nations, by nationality; the rest spreads over every country
+     */
+    private static final Map<Nationality, Double> NATIONALITY_WEIGHTS = weights(Nationality.class,
+            Nationality.BR, 9.0, Nationality.FR, 8.0, Nationality.ES, 7.5, Nationality.DE, 7.0,
+            Nationality.AR, 6.5, Nationality.GB, 6.5, Nationality.IT, 6.0, Nationality.PT, 4.5,
+            Nationality.NL, 4.0, Nationality.BE, 3.0, Nationality.UY, 2.5, Nationality.CO, 2.5,
+            Nationality.HR, 2.0, Nationality.NG, 2.0, Nationality.SN, 2.0, Nationality.MA, 2.0,
+            Nationality.US, 2.0, Nationality.MX, 2.0, Nationality.JP, 1.5, Nationality.KR, 1.5,
+            Nationality.DK, 1.5, Nationality.CH, 1.5, Nationality.PL, 1.5, Nationality.RS, 1.5,
+            Nationality.TR, 1.5, Nationality.GH, 1.5, Nationality.CM, 1.5, Nationality.SE, 1.0,
+            Nationality.NO, 1.0, Nationality.AT, 1.0, Nationality.EG, 1.0, Nationality.DZ, 1.0,
+            Nationality.EC, 1.0, Nationality.CL, 1.0);
+
+    private static final double TAIL_NATIONALITY_SHARE = 0.1;
+    private static final double SECOND_NATIONALITY_SHARE = 0.12;
+
+    private static final Map<Positions, Double> POSITION_WEIGHTS = weights(Positions.class,
+            Positions.CB, 16.0, Positions.CM, 12.0, Positions.ST, 11.0, Positions.CDM, 8.0,
+            Positions.CAM, 7.0, Positions.RB, 7.0, Positions.LB, 7.0, Positions.LW, 6.0,
+            Positions.RW, 6.0, Positions.RM, 4.0, Positions.LM, 4.0, Positions.CF, 4.0,
+            Positions.RWB, 3.0, Positions.LWB, 3.0, Positions.RF, 1.0, Positions.LF, 1.0);
+
+    /**
+     * Positions played next to a main position
+     */
+    private static final Map<Positions, Positions[]> NEIGHBOURS = new EnumMap<>(Map.ofEntries(
+            Map.entry(Positions.CB, new Positions[]{Positions.CDM, Positions.RB, Positions.LB}),
+            Map.entry(Positions.RB, new Positions[]{Positions.RWB, Positions.CB, Positions.RM}),
+            Map.entry(Positions.LB, new Positions[]{Positions.LWB, Positions.CB, Positions.LM}),
+            Map.entry(Positions.RWB, new Positions[]{Positions.RB, Positions.RM}),
+            Map.entry(Positions.LWB, new Positions[]{Positions.LB, Positions.LM}),
+            Map.entry(Positions.CDM, new Positions[]{Positions.CM, Positions.CB}),
+            Map.entry(Positions.CM, new Positions[]{Positions.CDM, Positions.CAM}),
+            Map.entry(Positions.CAM, new Positions[]{Positions.CM, Positions.CF, Positions.RW, Positions.LW}),
+            Map.entry(Positions.RM, new Positions[]{Positions.RW, Positions.RB}),
+            Map.entry(Positions.LM, new Positions[]{Positions.LW, Positions.LB}),
+            Map.entry(Positions.RF, new Positions[]{Positions.RW, Positions.ST}),
+            Map.entry(Positions.LF, new Positions[]{Positions.LW, Positions.ST}),
+            Map.entry(Positions.CF, new Positions[]{Positions.ST, Positions.CAM}),
+            Map.entry(Positions.ST, new Positions[]{Positions.CF, Positions.RW, Positions.LW}),
+            Map.entry(Positions.LW, new Positions[]{Positions.LM, Positions.RW, Positions.ST}),
+            Map.entry(Positions.RW, new Positions[]{Positions.RM, Positions.LW, Positions.ST})));
+
+    private static final double SECOND_POSITION_SHARE = 0.4;
+    private static final double THIRD_POSITION_SHARE = 0.1;
+
+    private static final double MIN_HEIGHT = 1.55;
+    private static final double MAX_HEIGHT = 2.10;
+    private static final double HEIGHT_DEVIATION = 0.06;
+
+    private static final int MIN_AGE = 16;
+    private static final int MAX_AGE = 40;
+    private static final double MEAN_AGE = 26;
+    private static final double AGE_DEVIATION = 4.5;
+
+    private final SplittableRandom random;
+    private final LocalDate referenceDate;
+    private final double[] firstNameCumulative = zipf(FIRST_NAMES.length);
+    private final double[] lastNameCumulative = zipf(LAST_NAMES.length);
+    private final Nationality[] nationalities;
+    private final double[] nationalityCumulative;
+    private final Positions[] positions;
+    private final double[] positionCumulative;
+    private final Set<Long> keys = new HashSet<>();
+
+    /**
+     * @param seed          seed of the random sequence
+     * @param referenceDate the date ages are computed against
+     */
+    public PlayerDataGenerator(long seed, LocalDate referenceDate) {
+        this.random = new SplittableRandom(seed);
+        this.referenceDate = referenceDate;
+        this.nationalities = NATIONALITY_WEIGHTS.keySet().toArray(Nationality[]::new);
+        this.nationalityCumulative = cumulative(NATIONALITY_WEIGHTS.values());
+        this.positions = POSITION_WEIGHTS.keySet().toArray(Positions[]::new);
+        this.positionCumulative = cumulative(POSITION_WEIGHTS.values());
+    }
+
+    /**
+     * @return the next player, without id or audit fields
+     */
+    public PlayerDTO next() {
+        // Names repeat, natural keys must not: draw again until the name and date of birth are new
+        int first;
+        int last;
+        LocalDate dateOfBirth;
+        do {
+            first = pick(firstNameCumulative);
+            last = pick(lastNameCumulative);
+            int age = (int) Math.round(Math.max(MIN_AGE,
+                    Math.min(MAX_AGE, MEAN_AGE + random.nextGaussian() * AGE_DEVIATION)));
+            dateOfBirth = referenceDate.minusYears(age + 1L).plusDays(1 + random.nextInt(365));
+        } while (!keys.add(((long) (first * LAST_NAMES.length + last) << 24) | dateOfBirth.toEpochDay()));
+
+        Set<Nationality> playerNationalities = EnumSet.of(nationality());
+        if (random.nextDouble() < SECOND_NATIONALITY_SHARE)
+            playerNationalities.add(nationality());
+
+        Positions main = positions[pick(positionCumulative)];
+        Set<Positions> playerPositions = EnumSet.of(main);
+        Positions[] neighbours = NEIGHBOURS.get(main);
+        if (random.nextDouble() < SECOND_POSITION_SHARE)
+            playerPositions.add(neighbours[random.nextInt(neighbours.length)]);
+        if (random.nextDouble() < THIRD_POSITION_SHARE)
+            playerPositions.add(neighbours[random.nextInt(neighbours.length)]);
+
+        double height = Math.max(MIN_HEIGHT,
+                Math.min(MAX_HEIGHT, meanHeight(main) + random.nextGaussian() * HEIGHT_DEVIATION));
+
+        PlayerDTO player = new PlayerDTO();
+        player.setFirstName(FIRST_NAMES[first]);
+        player.setLastName(LAST_NAMES[last]);
+        player.setDateOfBirth(dateOfBirth);
+        player.setNationalities(playerNationalities);
+        player.setPositions(playerPositions);
+        player.setHeight(Math.round(height * 100) / 100.0);
+        return player;
+    }
+
+    /**
+     * Generate players one after the other.
+     *
+     * @param count    how many players
+     * @param consumer receives every player
+     */
+    public void generate(long count, Consumer<PlayerDTO> consumer) {
+        for (long i = 0; i < count; i++)
+            consumer.accept(next());
+    }
+
+    /**
+     * Write players in the bulk upload CSV format, header included.
+     *
+     * @param count how many players
+     * @param out   the destination, buffered by the caller
+     */
+    public void writeCsv(long count, Writer out) throws IOException {
+        out.write(CSV_HEADER);
+        out.write('\n');
+        StringBuilder line = new StringBuilder(128);
+        for (long i = 0; i < count; i++) {
+            PlayerDTO player = next();
+            line.setLength(0);
+            line.append(player.getFirstName()).append(',')
+                    .append(player.getLastName()).append(',')
+                    .append(player.getDateOfBirth()).append(',')
+                    .append(player.getHeight()).append(',');
+            join(line, player.getNationalities());
+            line.append(',');
+            join(line, player.getPositions());
+            line.append('\n');
+            out.append(line);
+        }
+    }
+
+    private Nationality nationality() {
+        if (random.nextDouble() < TAIL_NATIONALITY_SHARE) {
+            Nationality[] all = Nationality.values();
+            return all[random.nextInt(all.length)];
+        }
+        return nationalities[pick(nationalityCumulative)];
+    }
+
+    private static double meanHeight(Positions position) {
+        return switch (position) {
+            case CB -> 1.87;
+            case ST, CF -> 1.83;
+            case CDM -> 1.82;
+            case CM, CAM -> 1.78;
+            case RB, LB, RWB, LWB -> 1.78;
+            case RM, LM, RF, LF, LW, RW -> 1.75;
+        };
+    }
+
+    private int pick(double[] cumulative) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble() * cumulative[cumulative.length - 1]);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static void join(StringBuilder line, Set<? extends Enum<?>> values) {
+        boolean first = true;
+        for (Enum<?> value : values) {
+            if (!first)
+                line.append('|');
+            line.append(value.name());
+            first = false;
+        }
+    }
+
+    /**
+     * Cumulative Zipf weights (exponent 1) of {@code n} ranks.
+     */
+    private static double[] zipf(int n) {
+        double[] cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 0; rank < n; rank++) {
+            sum += 1.0 / (rank + 1);
+            cumulative[rank] = sum;
+        }
+        return cumulative;
+    }
+
+    private static double[] cumulative(Collection<Double> weights) {
+        double[] cumulative = new double[weights.size()];
+        double sum = 0;
+        int i = 0;
+        for (double weight : weights)
+            cumulative[i++] = sum += weight;
+        return cumulative;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Enum<E>> Map<E, Double> weights(Class<E> type, Object... pairs) {
+        Map<E, Double> weights = new EnumMap<>(type);
+        for (int i = 0; i < pairs.length; i += 2)
+            weights.put((E) pairs[i], (Double) pairs[i + 1]);
+        return weights;
+    }
+
+    /**
+     * Write generated players as CSV.
+     *
+     * @param args number of players, optional seed (default 42), optional output file (default standard output)
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: PlayerDataGenerator <players> [seed] [file]");
+            System.exit(2);
+        }
+        long count = Long.parseLong(args[0]);
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42;
+        PlayerDataGenerator generator = new PlayerDataGenerator(seed, LocalDate.now().withDayOfYear(1));
+
+        long start = System.nanoTime();
+        try (Writer out = args.length > 2
+                ? Files.newBufferedWriter(Path.of(args[2]), StandardCharsets.UTF_8)
+                : new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16)) {
+            generator.writeCsv(count, out);
+        }
+        if (args.length > 2)
+            System.err.printf("Wrote %,d players to %s in %.1f s%n", count, args[2], (System.nanoTime() - start) / 1e9);
+    }
+}
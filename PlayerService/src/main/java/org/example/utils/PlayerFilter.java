@@ -0,0 +1,239 @@
+package org.example.utils;
+
+import lombok.Value;
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.Positions;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Normalized player filter criteria shared by the list and facet queries.
+ * Two requests asking for the same players always produce equal filters.
+ */
+@Value
+public class PlayerFilter {
+
+    /**
+     * Filter that matches every player
+     */
+    public static final PlayerFilter NONE = new PlayerFilter(null, EnumSet.noneOf(Nationality.class), null, null,
+            EnumSet.noneOf(Positions.class), null, null);
+
+    /**
+     * Lower-cased, stripped full name fragment (null if not filtered)
+     */
+    String name;
+
+    /**
+     * Nationalities the player must all have (empty if not filtered)
+     */
+    Set<Nationality> nationalities;
+
+    /**
+     * Minimum age, inclusive (null if not filtered)
+     */
+    Integer minAge;
+
+    /**
+     * Maximum age, inclusive (null if not filtered)
+     */
+    Integer maxAge;
+
+    /**
+     * Positions the player must all have (empty if not filtered)
+     */
+    Set<Positions> positions;
+
+    /**
+     * Minimum height, inclusive (null if not filtered)
+     */
+    Double minHeight;
+
+    /**
+     * Maximum height, inclusive (null if not filtered)
+     */
+    Double maxHeight;
+
+    private PlayerFilter(String name, Set<Nationality> nationalities, Integer minAge, Integer maxAge,
+            Set<Positions> positions, Double minHeight, Double maxHeight) {
+        this.name = name;
+        this.nationalities = Collections.unmodifiableSet(nationalities);
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+        this.positions = Collections.unmodifiableSet(positions);
+        this.minHeight = minHeight;
+        this.maxHeight = maxHeight;
+    }
+
+    /**
+     * Build a filter from raw request parameters.
+     *
+     * @param name          filter by full name (contains, case-insensitive)
+     * @param nationalities nationality codes or country names the player must all have
+     * @param minAge        minimum age (inclusive)
+     * @param maxAge        maximum age (inclusive)
+     * @param positions     position codes the player must all have
+     * @param minHeight     minimum height (inclusive)
+     * @param maxHeight     maximum height (inclusive)
+     * @return the normalized filter
+     * @throws IllegalArgumentException if a nationality or position is unknown
+     */
+    public static PlayerFilter of(String name, List<String> nationalities, Integer minAge, Integer maxAge,
+            List<String> positions, Double minHeight, Double maxHeight) {
+        Set<Nationality> nationalitySet = EnumSet.noneOf(Nationality.class);
+        if (nationalities != null) {
+            for (String nat : nationalities) {
+                Nationality nationality = Nationality.lookup(nat);
+                if (nationality == null)
+                    throw new IllegalArgumentException("Unknown nationality: " + nat);
+                nationalitySet.add(nationality);
+            }
+        }
+
+        Set<Positions> positionSet = EnumSet.noneOf(Positions.class);
+        if (positions != null) {
+            for (String pos : positions) {
+                Positions position = Positions.byCode(pos);
+                if (position == null)
+                    throw new IllegalArgumentException("Unknown position: " + pos);
+                positionSet.add(position);
+            }
+        }
+
+        String normalizedName = name == null || name.isBlank() ? null : name.strip().toLowerCase(Locale.ROOT);
+        return new PlayerFilter(normalizedName, nationalitySet, minAge, maxAge, positionSet, minHeight, maxHeight);
+    }
+
+    /**
+     * Names of the criteria this filter sets, joined by '+' (e.g. {@code name+age}), or "none".
+     * Never includes the values, so it stays low-cardinality for metrics and profiling events.
+     *
+     * @return the filter shape
+     */
+    public String shape() {
+        StringJoiner shape = new StringJoiner("+");
+        shape.setEmptyValue("none");
+        if (name != null)
+            shape.add("name");
+        if (!nationalities.isEmpty())
+            shape.add("nationalities");
+        if (minAge != null || maxAge != null)
+            shape.add("age");
+        if (!positions.isEmpty())
+            shape.add("positions");
+        if (minHeight != null || maxHeight != null)
+            shape.add("height");
+        return shape.toString();
+    }
+
+    /**
+     * @return this filter without its nationalities criterion
+     */
+    public PlayerFilter withoutNationalities() {
+        return new PlayerFilter(name, EnumSet.noneOf(Nationality.class), minAge, maxAge, positions, minHeight, maxHeight);
+    }
+
+    /**
+     * @return this filter without its positions criterion
+     */
+    public PlayerFilter withoutPositions() {
+        return new PlayerFilter(name, nationalities, minAge, maxAge, EnumSet.noneOf(Positions.class), minHeight, maxHeight);
+    }
+
+    /**
+     * @return this filter without its age range
+     */
+    public PlayerFilter withoutAge() {
+        return new PlayerFilter(name, nationalities, null, null, positions, minHeight, maxHeight);
+    }
+
+    /**
+     * @return this filter without its height range
+     */
+    public PlayerFilter withoutHeight() {
+        return new PlayerFilter(name, nationalities, minAge, maxAge, positions, null, null);
+    }
+
+    /**
+     * Latest date of birth a player may have to satisfy the minimum age.
+     *
+     * @param today the reference date
+     * @return the bound, or null if there is no minimum age
+     */
+    public LocalDate latestDateOfBirth(LocalDate today) {
+        return minAge == null ? null : today.minusYears(minAge);
+    }
+
+    /**
+     * Earliest date of birth a player may have to satisfy the maximum age.
+     *
+     * @param today the reference date
+     * @return the bound, or null if there is no maximum age
+     */
+    public LocalDate earliestDateOfBirth(LocalDate today) {
+        return maxAge == null ? null : today.minusYears(maxAge + 1L).plusDays(1);
+    }
+
+    /**
+     * Check the full name filter against a player's names.
+     *
+     * @param firstName the player's first name
+     * @param lastName  the player's last name
+     * @return true if the player passes the name filter
+     */
+    public boolean matchesName(String firstName, String lastName) {
+        return name == null
+                || (firstName.toLowerCase(Locale.ROOT) + " " + lastName.toLowerCase(Locale.ROOT)).contains(name);
+    }
+
+    /**
+     * Check the nationalities filter against a player's nationalities.
+     *
+     * @param playerNationalities the player's nationalities
+     * @return true if the player has every requested nationality
+     */
+    public boolean matchesNationalities(Collection<Nationality> playerNationalities) {
+        return playerNationalities.containsAll(nationalities);
+    }
+
+    /**
+     * Check the positions filter against a player's positions.
+     *
+     * @param playerPositions the player's positions
+     * @return true if the player plays every requested position
+     */
+    public boolean matchesPositions(Collection<Positions> playerPositions) {
+        return playerPositions.containsAll(positions);
+    }
+
+    /**
+     * Check the age range against a player's date of birth.
+     *
+     * @param dateOfBirth the player's date of birth
+     * @param today       the reference date
+     * @return true if the player's age is within the range
+     */
+    public boolean matchesDateOfBirth(LocalDate dateOfBirth, LocalDate today) {
+        LocalDate latest = latestDateOfBirth(today);
+        LocalDate earliest = earliestDateOfBirth(today);
+        return (latest == null || !dateOfBirth.isAfter(latest))
+                && (earliest == null || !dateOfBirth.isBefore(earliest));
+    }
+
+    /**
+     * Check the height range against a player's height.
+     *
+     * @param height the player's height in meters
+     * @return true if the height is within the range
+     */
+    public boolean matchesHeight(double height) {
+        return (minHeight == null || height >= minHeight) && (maxHeight == null || height <= maxHeight);
+    }
+}
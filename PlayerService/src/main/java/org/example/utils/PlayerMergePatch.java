@@ -0,0 +1,63 @@
+package org.example.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.example.dtos.UpdatePlayerDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Conversion of a JSON Merge Patch (RFC 7396) document into an {@link UpdatePlayerDTO}.
+ * Absent members leave the field unchanged, arrays replace the whole set.
+ * Every player field is required, so removing one with {@code null} is rejected.
+ * Members are read with the application's {@link ObjectMapper}, unknown ones are rejected.
+ */
+@Component
+public class PlayerMergePatch {
+
+    /**
+     * Media type of JSON Merge Patch documents
+     */
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private final ObjectReader reader;
+
+    @Autowired
+    public PlayerMergePatch(ObjectMapper objectMapper) {
+        this.reader = objectMapper.readerFor(UpdatePlayerDTO.class)
+                .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    /**
+     * Convert a merge patch document into the equivalent partial update.
+     *
+     * @param patch the merge patch document
+     * @return the partial update, with null for every untouched field
+     * @throws ResponseStatusException 400 if the document is not an object, removes a field or is malformed
+     */
+    public UpdatePlayerDTO toUpdate(JsonNode patch) {
+        if (patch == null || !patch.isObject())
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Merge patch must be a JSON object");
+
+        for (Iterator<Map.Entry<String, JsonNode>> it = patch.fields(); it.hasNext();) {
+            Map.Entry<String, JsonNode> member = it.next();
+            if (member.getValue().isNull())
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Field " + member.getKey() + " cannot be removed");
+        }
+
+        try {
+            return reader.treeToValue(patch, UpdatePlayerDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Illegal merge patch: " + e.getOriginalMessage());
+        }
+    }
+}
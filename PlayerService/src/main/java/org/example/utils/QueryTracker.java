@@ -0,0 +1,79 @@
+package org.example.utils;
+
+import lombok.Getter;
+
+import java.util.function.Supplier;
+
+/**
+ * Counts the database work of the request running on the current thread: statements executed,
+ * time spent in them and entities loaded. Work outside of a tracked request is not counted.
+ */
+@Getter
+public final class QueryTracker {
+
+    private static final ThreadLocal<QueryTracker> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Resolves the endpoint of the request once it has been matched to a handler
+     */
+    private final Supplier<String> endpoint;
+
+    private int statements;
+    private long databaseNanos;
+    private int entityLoads;
+
+    private QueryTracker(Supplier<String> endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Start tracking the current thread.
+     *
+     * @param endpoint resolves the endpoint of the tracked request
+     * @return the new tracker
+     */
+    public static QueryTracker start(Supplier<String> endpoint) {
+        QueryTracker tracker = new QueryTracker(endpoint);
+        CURRENT.set(tracker);
+        return tracker;
+    }
+
+    /**
+     * Stop tracking the current thread.
+     */
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return the endpoint of the tracked request, or the workload class of untracked work
+     */
+    public static String currentEndpoint() {
+        QueryTracker tracker = CURRENT.get();
+        if (tracker != null)
+            return tracker.endpoint.get();
+        return "background " + (WorkloadContext.current() == null ? "-" : WorkloadContext.current());
+    }
+
+    /**
+     * Count a statement executed by the current thread.
+     *
+     * @param elapsedNanos execution time of the statement
+     */
+    public static void statementExecuted(long elapsedNanos) {
+        QueryTracker tracker = CURRENT.get();
+        if (tracker != null) {
+            tracker.statements++;
+            tracker.databaseNanos += elapsedNanos;
+        }
+    }
+
+    /**
+     * Count an entity loaded by the current thread.
+     */
+    public static void entityLoaded() {
+        QueryTracker tracker = CURRENT.get();
+        if (tracker != null)
+            tracker.entityLoads++;
+    }
+}
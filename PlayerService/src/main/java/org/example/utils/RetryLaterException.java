@@ -0,0 +1,30 @@
+package org.example.utils;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+/**
+ * 503 Service Unavailable carrying a {@code Retry-After} header, used to push back on clients
+ * when the service is saturated.
+ */
+public class RetryLaterException extends ResponseStatusException {
+
+    private final HttpHeaders headers = new HttpHeaders();
+
+    /**
+     * @param reason     the reason sent to the client
+     * @param retryAfter how long the client should wait before retrying
+     */
+    public RetryLaterException(String reason, Duration retryAfter) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, reason);
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+}
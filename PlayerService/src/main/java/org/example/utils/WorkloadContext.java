@@ -0,0 +1,61 @@
+package org.example.utils;
+
+import org.example.utils.enums.WorkloadClass;
+
+/**
+ * Holds the workload class of the work running on the current thread, so that the
+ * database connection it needs comes from the pool of its class.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<WorkloadClass> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    /**
+     * @return the workload class of the current thread, or null if none was set
+     */
+    public static WorkloadClass current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Set the workload class of the current thread.
+     *
+     * @param workload the workload class
+     * @return the previous workload class, to pass to {@link #exit(WorkloadClass)}
+     */
+    public static WorkloadClass enter(WorkloadClass workload) {
+        WorkloadClass previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    /**
+     * Restore the workload class that was current before {@link #enter(WorkloadClass)}.
+     *
+     * @param previous the value returned by {@code enter}
+     */
+    public static void exit(WorkloadClass previous) {
+        if (previous == null)
+            CURRENT.remove();
+        else
+            CURRENT.set(previous);
+    }
+
+    /**
+     * Run a task as the given workload class.
+     *
+     * @param workload the workload class
+     * @param task     the task
+     */
+    public static void run(WorkloadClass workload, Runnable task) {
+        WorkloadClass previous = enter(workload);
+        try {
+            task.run();
+        } finally {
+            exit(previous);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+
+/**
+ * DataSource handing out connections from the pool of the current {@link WorkloadContext}.
+ * Work without a workload class (start-up, schema management) uses the default pool.
+ * Closeable rather than only AutoCloseable, so that wrapping DataSources (such as the
+ * statement timing proxy) pass the shutdown on.
+ */
+@Slf4j
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current();
+    }
+
+    /**
+     * Close the pools behind every workload class.
+     */
+    @Override
+    public void close() {
+        for (DataSource dataSource : getResolvedDataSources().values()) {
+            DataSource pool = dataSource instanceof DelegatingDataSource delegating
+                    ? delegating.getTargetDataSource()
+                    : dataSource;
+            if (pool instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close connection pool", e);
+                }
+            }
+        }
+    }
+}
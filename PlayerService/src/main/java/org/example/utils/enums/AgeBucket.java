@@ -0,0 +1,50 @@
+package org.example.utils.enums;
+
+/**
+ * Enum representing the age ranges used for faceted player counts.
+ */
+public enum AgeBucket {
+    UNDER_20(null, 19),
+    FROM_20_TO_24(20, 24),
+    FROM_25_TO_29(25, 29),
+    FROM_30_TO_34(30, 34),
+    FROM_35(35, null);
+
+    /**
+     * Minimum age, inclusive (null if unbounded)
+     */
+    private final Integer minAge;
+
+    /**
+     * Maximum age, inclusive (null if unbounded)
+     */
+    private final Integer maxAge;
+
+    AgeBucket(Integer minAge, Integer maxAge) {
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+    }
+
+    public Integer getMinAge() {
+        return minAge;
+    }
+
+    public Integer getMaxAge() {
+        return maxAge;
+    }
+
+    /**
+     * Get the bucket containing the given age
+     */
+    public static AgeBucket of(int age) {
+        if (age < 20)
+            return UNDER_20;
+        if (age < 25)
+            return FROM_20_TO_24;
+        if (age < 30)
+            return FROM_25_TO_29;
+        if (age < 35)
+            return FROM_30_TO_34;
+        return FROM_35;
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.utils.enums;
+
+/**
+ * Lookup of enum constants by code and by name that neither throws nor allocates, used on the
+ * request and CSV import paths instead of {@code valueOf}, which fills in a stack trace on every miss.
+ * <p>
+ * Codes are one to {@code maxCodeLength} ASCII letters, matched case-insensitively after trimming:
+ * each letter is a base-27 digit of an index into an array of the constants. Names are matched on
+ * their letters and digits only, lower-cased and without accents ("C&ocirc;te", "cote" and "COTE"
+ * are the same key), in an open-addressing hash table.
+ *
+ * @param <E> the enum type
+ */
+final class EnumLookup<E extends Enum<E>> {
+
+    private static final int RADIX = 27;
+
+    /**
+     * Folding of U+00C0 to U+00FF: accented letters to their base letter, 0 for the characters skipped
+     */
+    private static final String LATIN1_FOLD =
+            "aaaaaa\0ceeeeiiiidnooooo\0ouuuuy\0s" + "aaaaaa\0ceeeeiiiidnooooo\0ouuuuy\0y";
+
+    private final int maxCodeLength;
+    private final Object[] byCode;
+    private final String[] nameKeys;
+    private final Object[] nameValues;
+    private final int mask;
+
+    /**
+     * @param constants     the constants, looked up by their name as code
+     * @param maxCodeLength the length of the longest code
+     * @param maxNames      how many names and aliases will be added
+     */
+    EnumLookup(E[] constants, int maxCodeLength, int maxNames) {
+        this.maxCodeLength = maxCodeLength;
+        this.byCode = new Object[(int) Math.pow(RADIX, maxCodeLength)];
+        for (E constant : constants)
+            byCode[codeIndex(constant.name())] = constant;
+        int capacity = Integer.highestOneBit(Math.max(1, maxNames) * 4 - 1) << 1;
+        this.nameKeys = new String[capacity];
+        this.nameValues = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Map a name to a constant.
+     *
+     * @param name     the name, normalized here
+     * @param constant the constant
+     * @param replace  whether to replace a constant already mapped to the same name
+     */
+    void addName(String name, E constant, boolean replace) {
+        StringBuilder key = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = fold(name.charAt(i));
+            if (c != 0)
+                key.append(c);
+        }
+        if (key.isEmpty())
+            return;
+        int slot = slot(key);
+        if (nameKeys[slot] != null && !replace)
+            return;
+        nameKeys[slot] = key.toString();
+        nameValues[slot] = constant;
+    }
+
+    /**
+     * @param code the code, surrounding whitespace and case ignored
+     * @return the constant, or null if there is none with that code
+     */
+    @SuppressWarnings("unchecked")
+    E byCode(CharSequence code) {
+        int index = code == null ? -1 : codeIndex(code);
+        return index < 0 ? null : (E) byCode[index];
+    }
+
+    /**
+     * @param name the name, only its letters and digits count
+     * @return the constant, or null if no name matches
+     */
+    @SuppressWarnings("unchecked")
+    E byName(CharSequence name) {
+        if (name == null)
+            return null;
+        int slot = slot(name);
+        return nameKeys[slot] == null ? null : (E) nameValues[slot];
+    }
+
+    /**
+     * Index of a code in {@code byCode}, or -1 if it is not 1 to {@code maxCodeLength} letters.
+     */
+    private int codeIndex(CharSequence code) {
+        int start = 0;
+        int end = code.length();
+        while (start < end && Character.isWhitespace(code.charAt(start)))
+            start++;
+        while (end > start && Character.isWhitespace(code.charAt(end - 1)))
+            end--;
+        if (end == start || end - start > maxCodeLength)
+            return -1;
+        int index = 0;
+        for (int i = start; i < end; i++) {
+            char c = code.charAt(i);
+            int digit = c >= 'A' && c <= 'Z' ? c - 'A' + 1 : c >= 'a' && c <= 'z' ? c - 'a' + 1 : -1;
+            if (digit < 0)
+                return -1;
+            index = index * RADIX + digit;
+        }
+        return index;
+    }
+
+    /**
+     * Slot holding the name, or the empty slot where it would go (linear probing).
+     */
+    private int slot(CharSequence name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = fold(name.charAt(i));
+            if (c != 0)
+                hash = 31 * hash + c;
+        }
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (nameKeys[slot] != null && !matches(nameKeys[slot], name))
+            slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    private static boolean matches(String key, CharSequence name) {
+        int k = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = fold(name.charAt(i));
+            if (c == 0)
+                continue;
+            if (k == key.length() || key.charAt(k) != c)
+                return false;
+            k++;
+        }
+        return k == key.length();
+    }
+
+    /**
+     * @return the lower-case, unaccented form of a letter or digit, 0 for anything else
+     */
+    private static char fold(char c) {
+        if (c >= 'a' && c <= 'z' || c >= '0' && c <= '9')
+            return c;
+        if (c >= 'A' && c <= 'Z')
+            return (char) (c + ('a' - 'A'));
+        if (c >= '\u00C0' && c <= '\u00FF')
+            return LATIN1_FOLD.charAt(c - '\u00C0');
+        return 0;
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.utils.enums;
+
+/**
+ * Enum representing the height ranges (in meters) used for faceted player counts.
+ * Each range includes its lower bound and excludes its upper bound.
+ */
+public enum HeightBucket {
+    UNDER_1_70(null, 1.70),
+    FROM_1_70_TO_1_80(1.70, 1.80),
+    FROM_1_80_TO_1_90(1.80, 1.90),
+    FROM_1_90(1.90, null);
+
+    /**
+     * Lower bound, inclusive (null if unbounded)
+     */
+    private final Double minHeight;
+
+    /**
+     * Upper bound, exclusive (null if unbounded)
+     */
+    private final Double maxHeight;
+
+    HeightBucket(Double minHeight, Double maxHeight) {
+        this.minHeight = minHeight;
+        this.maxHeight = maxHeight;
+    }
+
+    public Double getMinHeight() {
+        return minHeight;
+    }
+
+    public Double getMaxHeight() {
+        return maxHeight;
+    }
+
+    /**
+     * Get the bucket containing the given height
+     */
+    public static HeightBucket of(double height) {
+        if (height < 1.70)
+            return UNDER_1_70;
+        if (height < 1.80)
+            return FROM_1_70_TO_1_80;
+        if (height < 1.90)
+            return FROM_1_80_TO_1_90;
+        return FROM_1_90;
+    }
+}
@@ -1,324 +1,406 @@
 package org.example.utils.enums;
 
+import java.util.Map;
+
 /**
- * Enum representing all countries with their ISO codes.
+ * Enum representing all countries with their ISO codes and English names.
  * Matches the frontend countries list for consistency across the application.
  */
 public enum Nationality {
     // A
-    AF, // Afghanistan
-    AL, // Albania
-    DZ, // Algeria
-    AS, // American Samoa
-    AD, // Andorra
-    AO, // Angola
-    AI, // Anguilla
-    AQ, // Antarctica
-    AG, // Antigua and Barbuda
-    AR, // Argentina
-    AM, // Armenia
-    AW, // Aruba
-    AU, // Australia
-    AT, // Austria
-    AZ, // Azerbaijan
+    AF("Afghanistan"),
+    AL("Albania"),
+    DZ("Algeria"),
+    AS("American Samoa"),
+    AD("Andorra"),
+    AO("Angola"),
+    AI("Anguilla"),
+    AQ("Antarctica"),
+    AG("Antigua and Barbuda"),
+    AR("Argentina"),
+    AM("Armenia"),
+    AW("Aruba"),
+    AU("Australia"),
+    AT("Austria"),
+    AZ("Azerbaijan"),
 
     // B
-    BS, // Bahamas
-    BH, // Bahrain
-    BD, // Bangladesh
-    BB, // Barbados
-    BY, // Belarus
-    BE, // Belgium
-    BZ, // Belize
-    BJ, // Benin
-    BM, // Bermuda
-    BT, // Bhutan
-    BO, // Bolivia
-    BQ, // Bonaire, Sint Eustatius and Saba
-    BA, // Bosnia and Herzegovina
-    BW, // Botswana
-    BV, // Bouvet Island
-    BR, // Brazil
-    IO, // British Indian Ocean Territory
-    BN, // Brunei Darussalam
-    BG, // Bulgaria
-    BF, // Burkina Faso
-    BI, // Burundi
+    BS("Bahamas"),
+    BH("Bahrain"),
+    BD("Bangladesh"),
+    BB("Barbados"),
+    BY("Belarus"),
+    BE("Belgium"),
+    BZ("Belize"),
+    BJ("Benin"),
+    BM("Bermuda"),
+    BT("Bhutan"),
+    BO("Bolivia"),
+    BQ("Bonaire, Sint Eustatius and Saba"),
+    BA("Bosnia and Herzegovina"),
+    BW("Botswana"),
+    BV("Bouvet Island"),
+    BR("Brazil"),
+    IO("British Indian Ocean Territory"),
+    BN("Brunei Darussalam"),
+    BG("Bulgaria"),
+    BF("Burkina Faso"),
+    BI("Burundi"),
 
     // C
-    CV, // Cabo Verde
-    KH, // Cambodia
-    CM, // Cameroon
-    CA, // Canada
-    KY, // Cayman Islands
-    CF, // Central African Republic
-    TD, // Chad
-    CL, // Chile
-    CN, // China
-    CX, // Christmas Island
-    CC, // Cocos (Keeling) Islands
-    CO, // Colombia
-    KM, // Comoros
-    CG, // Congo
-    CD, // Congo, Democratic Republic of the
-    CK, // Cook Islands
-    CR, // Costa Rica
-    HR, // Croatia
-    CU, // Cuba
-    CW, // Curaçao
-    CY, // Cyprus
-    CZ, // Czechia
+    CV("Cabo Verde"),
+    KH("Cambodia"),
+    CM("Cameroon"),
+    CA("Canada"),
+    KY("Cayman Islands"),
+    CF("Central African Republic"),
+    TD("Chad"),
+    CL("Chile"),
+    CN("China"),
+    CX("Christmas Island"),
+    CC("Cocos (Keeling) Islands"),
+    CO("Colombia"),
+    KM("Comoros"),
+    CG("Congo"),
+    CD("Congo, Democratic Republic of the"),
+    CK("Cook Islands"),
+    CR("Costa Rica"),
+    HR("Croatia"),
+    CU("Cuba"),
+    CW("Curaçao"),
+    CY("Cyprus"),
+    CZ("Czechia"),
 
     // D
-    DK, // Denmark
-    DJ, // Djibouti
-    DM, // Dominica
-    DO, // Dominican Republic
+    DK("Denmark"),
+    DJ("Djibouti"),
+    DM("Dominica"),
+    DO("Dominican Republic"),
 
     // E
-    EC, // Ecuador
-    EG, // Egypt
-    SV, // El Salvador
-    GQ, // Equatorial Guinea
-    ER, // Eritrea
-    EE, // Estonia
-    SZ, // Eswatini
-    ET, // Ethiopia
+    EC("Ecuador"),
+    EG("Egypt"),
+    SV("El Salvador"),
+    GQ("Equatorial Guinea"),
+    ER("Eritrea"),
+    EE("Estonia"),
+    SZ("Eswatini"),
+    ET("Ethiopia"),
 
     // F
-    FK, // Falkland Islands (Malvinas)
-    FO, // Faroe Islands
-    FJ, // Fiji
-    FI, // Finland
-    FR, // France
-    GF, // French Guiana
-    PF, // French Polynesia
-    TF, // French Southern Territories
+    FK("Falkland Islands (Malvinas)"),
+    FO("Faroe Islands"),
+    FJ("Fiji"),
+    FI("Finland"),
+    FR("France"),
+    GF("French Guiana"),
+    PF("French Polynesia"),
+    TF("French Southern Territories"),
 
     // G
-    GA, // Gabon
-    GM, // Gambia
-    GE, // Georgia
-    DE, // Germany
-    GH, // Ghana
-    GI, // Gibraltar
-    GR, // Greece
-    GL, // Greenland
-    GD, // Grenada
-    GP, // Guadeloupe
-    GU, // Guam
-    GT, // Guatemala
-    GG, // Guernsey
-    GN, // Guinea
-    GW, // Guinea-Bissau
-    GY, // Guyana
+    GA("Gabon"),
+    GM("Gambia"),
+    GE("Georgia"),
+    DE("Germany"),
+    GH("Ghana"),
+    GI("Gibraltar"),
+    GR("Greece"),
+    GL("Greenland"),
+    GD("Grenada"),
+    GP("Guadeloupe"),
+    GU("Guam"),
+    GT("Guatemala"),
+    GG("Guernsey"),
+    GN("Guinea"),
+    GW("Guinea-Bissau"),
+    GY("Guyana"),
 
     // H
-    HT, // Haiti
-    HN, // Honduras
-    HK, // Hong Kong
-    HU, // Hungary
+    HT("Haiti"),
+    HN("Honduras"),
+    HK("Hong Kong"),
+    HU("Hungary"),
 
     // I
-    IS, // Iceland
-    IN, // India
-    ID, // Indonesia
-    IR, // Iran (Islamic Republic of)
-    IQ, // Iraq
-    IE, // Ireland
-    IM, // Isle of Man
-    IL, // Israel
-    IT, // Italy
+    IS("Iceland"),
+    IN("India"),
+    ID("Indonesia"),
+    IR("Iran (Islamic Republic of)"),
+    IQ("Iraq"),
+    IE("Ireland"),
+    IM("Isle of Man"),
+    IL("Israel"),
+    IT("Italy"),
 
     // J
-    JM, // Jamaica
-    JP, // Japan
-    JE, // Jersey
-    JO, // Jordan
+    JM("Jamaica"),
+    JP("Japan"),
+    JE("Jersey"),
+    JO("Jordan"),
 
     // K
-    KZ, // Kazakhstan
-    KE, // Kenya
-    KI, // Kiribati
-    KP, // Korea (Democratic People's Republic of)
-    KR, // South Korea
-    KW, // Kuwait
-    KG, // Kyrgyzstan
+    KZ("Kazakhstan"),
+    KE("Kenya"),
+    KI("Kiribati"),
+    KP("Korea (Democratic People's Republic of)"),
+    KR("South Korea"),
+    KW("Kuwait"),
+    KG("Kyrgyzstan"),
 
     // L
-    LA, // Lao People's Democratic Republic
-    LV, // Latvia
-    LB, // Lebanon
-    LS, // Lesotho
-    LR, // Liberia
-    LY, // Libya
-    LI, // Liechtenstein
-    LT, // Lithuania
-    LU, // Luxembourg
+    LA("Lao People's Democratic Republic"),
+    LV("Latvia"),
+    LB("Lebanon"),
+    LS("Lesotho"),
+    LR("Liberia"),
+    LY("Libya"),
+    LI("Liechtenstein"),
+    LT("Lithuania"),
+    LU("Luxembourg"),
 
     // M
-    MO, // Macao
-    MG, // Madagascar
-    MW, // Malawi
-    MY, // Malaysia
-    MV, // Maldives
-    ML, // Mali
-    MT, // Malta
-    MH, // Marshall Islands
-    MQ, // Martinique
-    MR, // Mauritania
-    MU, // Mauritius
-    YT, // Mayotte
-    MX, // Mexico
-    FM, // Micronesia (Federated States of)
-    MD, // Moldova (Republic of)
-    MC, // Monaco
-    MN, // Mongolia
-    ME, // Montenegro
-    MS, // Montserrat
-    MA, // Morocco
-    MZ, // Mozambique
-    MM, // Myanmar
+    MO("Macao"),
+    MG("Madagascar"),
+    MW("Malawi"),
+    MY("Malaysia"),
+    MV("Maldives"),
+    ML("Mali"),
+    MT("Malta"),
+    MH("Marshall Islands"),
+    MQ("Martinique"),
+    MR("Mauritania"),
+    MU("Mauritius"),
+    YT("Mayotte"),
+    MX("Mexico"),
+    FM("Micronesia (Federated States of)"),
+    MD("Moldova (Republic of)"),
+    MC("Monaco"),
+    MN("Mongolia"),
+    ME("Montenegro"),
+    MS("Montserrat"),
+    MA("Morocco"),
+    MZ("Mozambique"),
+    MM("Myanmar"),
 
     // N
-    NA, // Namibia
-    NR, // Nauru
-    NP, // Nepal
-    NL, // Netherlands
-    NC, // New Caledonia
-    NZ, // New Zealand
-    NI, // Nicaragua
-    NE, // Niger
-    NG, // Nigeria
-    NU, // Niue
-    NF, // Norfolk Island
-    MK, // North Macedonia
-    MP, // Northern Mariana Islands
-    NO, // Norway
+    NA("Namibia"),
+    NR("Nauru"),
+    NP("Nepal"),
+    NL("Netherlands"),
+    NC("New Caledonia"),
+    NZ("New Zealand"),
+    NI("Nicaragua"),
+    NE("Niger"),
+    NG("Nigeria"),
+    NU("Niue"),
+    NF("Norfolk Island"),
+    MK("North Macedonia"),
+    MP("Northern Mariana Islands"),
+    NO("Norway"),
 
     // O
-    OM, // Oman
+    OM("Oman"),
 
     // P
-    PK, // Pakistan
-    PW, // Palau
-    PA, // Panama
-    PG, // Papua New Guinea
-    PY, // Paraguay
-    PE, // Peru
-    PH, // Philippines
-    PN, // Pitcairn
-    PL, // Poland
-    PT, // Portugal
-    PR, // Puerto Rico
+    PK("Pakistan"),
+    PW("Palau"),
+    PA("Panama"),
+    PG("Papua New Guinea"),
+    PY("Paraguay"),
+    PE("Peru"),
+    PH("Philippines"),
+    PN("Pitcairn"),
+    PL("Poland"),
+    PT("Portugal"),
+    PR("Puerto Rico"),
 
     // Q
-    QA, // Qatar
+    QA("Qatar"),
 
     // R
-    RE, // Réunion
-    RO, // Romania
-    RU, // Russian Federation
-    RW, // Rwanda
+    RE("Réunion"),
+    RO("Romania"),
+    RU("Russian Federation"),
+    RW("Rwanda"),
 
     // S
-    BL, // Saint Barthélemy
-    SH, // Saint Helena, Ascension and Tristan da Cunha
-    KN, // Saint Kitts and Nevis
-    LC, // Saint Lucia
-    MF, // Saint Martin (French part)
-    PM, // Saint Pierre and Miquelon
-    VC, // Saint Vincent and the Grenadines
-    WS, // Samoa
-    SM, // San Marino
-    ST, // Sao Tome and Principe
-    SA, // Saudi Arabia
-    SN, // Senegal
-    RS, // Serbia
-    SC, // Seychelles
-    SL, // Sierra Leone
-    SG, // Singapore
-    SX, // Sint Maarten (Dutch part)
-    SK, // Slovakia
-    SI, // Slovenia
-    SB, // Solomon Islands
-    SO, // Somalia
-    ZA, // South Africa
-    GS, // South Georgia and the South Sandwich Islands
-    SS, // South Sudan
-    ES, // Spain
-    LK, // Sri Lanka
-    SD, // Sudan
-    SR, // Suriname
-    SJ, // Svalbard and Jan Mayen
-    SE, // Sweden
-    CH, // Switzerland
-    SY, // Syrian Arab Republic
+    BL("Saint Barthélemy"),
+    SH("Saint Helena, Ascension and Tristan da Cunha"),
+    KN("Saint Kitts and Nevis"),
+    LC("Saint Lucia"),
+    MF("Saint Martin (French part)"),
+    PM("Saint Pierre and Miquelon"),
+    VC("Saint Vincent and the Grenadines"),
+    WS("Samoa"),
+    SM("San Marino"),
+    ST("Sao Tome and Principe"),
+    SA("Saudi Arabia"),
+    SN("Senegal"),
+    RS("Serbia"),
+    SC("Seychelles"),
+    SL("Sierra Leone"),
+    SG("Singapore"),
+    SX("Sint Maarten (Dutch part)"),
+    SK("Slovakia"),
+    SI("Slovenia"),
+    SB("Solomon Islands"),
+    SO("Somalia"),
+    ZA("South Africa"),
+    GS("South Georgia and the South Sandwich Islands"),
+    SS("South Sudan"),
+    ES("Spain"),
+    LK("Sri Lanka"),
+    SD("Sudan"),
+    SR("Suriname"),
+    SJ("Svalbard and Jan Mayen"),
+    SE("Sweden"),
+    CH("Switzerland"),
+    SY("Syrian Arab Republic"),
 
     // T
-    TW, // Taiwan, Province of China
-    TJ, // Tajikistan
-    TZ, // Tanzania, United Republic of
-    TH, // Thailand
-    TL, // Timor-Leste
-    TG, // Togo
-    TK, // Tokelau
-    TO, // Tonga
-    TT, // Trinidad and Tobago
-    TN, // Tunisia
-    TR, // Turkey
-    TM, // Turkmenistan
-    TC, // Turks and Caicos Islands
-    TV, // Tuvalu
+    TW("Taiwan, Province of China"),
+    TJ("Tajikistan"),
+    TZ("Tanzania, United Republic of"),
+    TH("Thailand"),
+    TL("Timor-Leste"),
+    TG("Togo"),
+    TK("Tokelau"),
+    TO("Tonga"),
+    TT("Trinidad and Tobago"),
+    TN("Tunisia"),
+    TR("Turkey"),
+    TM("Turkmenistan"),
+    TC("Turks and Caicos Islands"),
+    TV("Tuvalu"),
 
     // U
-    UG, // Uganda
-    UA, // Ukraine
-    AE, // United Arab Emirates
-    GB, // United Kingdom of Great Britain and Northern Ireland
-    US, // United States of America
-    UY, // Uruguay
-    UZ, // Uzbekistan
+    UG("Uganda"),
+    UA("Ukraine"),
+    AE("United Arab Emirates"),
+    GB("United Kingdom of Great Britain and Northern Ireland"),
+    US("United States of America"),
+    UY("Uruguay"),
+    UZ("Uzbekistan"),
 
     // V
-    VU, // Vanuatu
-    VE, // Venezuela (Bolivarian Republic of)
-    VN, // Viet Nam
+    VU("Vanuatu"),
+    VE("Venezuela (Bolivarian Republic of)"),
+    VN("Viet Nam"),
 
     // W
-    WF, // Wallis and Futuna
-    EH, // Western Sahara
+    WF("Wallis and Futuna"),
+    EH("Western Sahara"),
 
     // Y
-    YE, // Yemen
+    YE("Yemen"),
 
     // Z
-    ZM, // Zambia
-    ZW, // Zimbabwe
+    ZM("Zambia"),
+    ZW("Zimbabwe"),
 
     // Special
-    AX; // Åland Islands
+    AX("Åland Islands");
+
+    /**
+     * Other names in use for countries: short, former and football names.
+     * They win over the short forms derived from the official names.
+     */
+    private static final Map<String, Nationality> ALIASES = Map.ofEntries(
+            Map.entry("USA", US), Map.entry("United States", US),
+            Map.entry("UK", GB), Map.entry("United Kingdom", GB), Map.entry("Great Britain", GB),
+            Map.entry("Britain", GB), Map.entry("England", GB), Map.entry("Scotland", GB),
+            Map.entry("Wales", GB), Map.entry("Northern Ireland", GB),
+            Map.entry("Korea", KR), Map.entry("Korea Republic", KR), Map.entry("Republic of Korea", KR),
+            Map.entry("North Korea", KP), Map.entry("Korea DPR", KP),
+            Map.entry("Russia", RU), Map.entry("Vietnam", VN), Map.entry("Syria", SY), Map.entry("Laos", LA),
+            Map.entry("Brunei", BN), Map.entry("Burma", MM), Map.entry("East Timor", TL),
+            Map.entry("Swaziland", SZ), Map.entry("Cape Verde", CV), Map.entry("Czech Republic", CZ),
+            Map.entry("Holland", NL), Map.entry("Türkiye", TR), Map.entry("Macedonia", MK),
+            Map.entry("UAE", AE), Map.entry("Chinese Taipei", TW), Map.entry("Republic of Ireland", IE),
+            Map.entry("DR Congo", CD), Map.entry("Congo DR", CD), Map.entry("Democratic Republic of the Congo", CD),
+            Map.entry("Republic of the Congo", CG));
+
+    /**
+     * ISO codes, official names, their short forms (before a comma or parenthesis) and aliases
+     */
+    private static final EnumLookup<Nationality> LOOKUP = lookup();
+
+    private final String displayName;
+
+    Nationality(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * @return the English name of the country
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
 
     /**
      * Get country by ISO code
+     *
+     * @throws IllegalArgumentException if no country has this code
      */
     public static Nationality fromCode(String code) {
-        try {
-            return valueOf(code);
-        } catch (IllegalArgumentException e) {
+        Nationality nationality = LOOKUP.byCode(code);
+        if (nationality == null)
             throw new IllegalArgumentException("Unknown country code: " + code);
-        }
+        return nationality;
     }
 
     /**
      * Check if a country code exists
      */
     public static boolean isValidCode(String code) {
-        try {
-            valueOf(code);
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
+        return LOOKUP.byCode(code) != null;
+    }
+
+    /**
+     * Get country by ISO code, in constant time and without throwing.
+     *
+     * @param code the code, surrounding whitespace and case ignored
+     * @return the country, or null if no country has this code
+     */
+    public static Nationality byCode(CharSequence code) {
+        return LOOKUP.byCode(code);
+    }
+
+    /**
+     * Get country by name (e.g. "South Korea", "Iran", "Curacao" or "USA"), without throwing.
+     *
+     * @param name the name, case, accents, spaces and punctuation ignored
+     * @return the country, or null if no name matches
+     */
+    public static Nationality byName(CharSequence name) {
+        return LOOKUP.byName(name);
+    }
+
+    /**
+     * Get country by ISO code or, failing that, by name, without throwing.
+     *
+     * @param value an ISO code or a country name
+     * @return the country, or null if neither matches
+     */
+    public static Nationality lookup(CharSequence value) {
+        Nationality nationality = LOOKUP.byCode(value);
+        return nationality != null ? nationality : LOOKUP.byName(value);
+    }
+
+    private static EnumLookup<Nationality> lookup() {
+        Nationality[] values = values();
+        EnumLookup<Nationality> lookup = new EnumLookup<>(values, 2, values.length * 2 + ALIASES.size());
+        for (Nationality nationality : values)
+            lookup.addName(nationality.displayName, nationality, false);
+        for (Nationality nationality : values) {
+            int cut = nationality.displayName.indexOf(" (");
+            if (cut < 0)
+                cut = nationality.displayName.indexOf(", ");
+            if (cut > 0)
+                lookup.addName(nationality.displayName.substring(0, cut), nationality, false);
         }
+        ALIASES.forEach((alias, nationality) -> lookup.addName(alias, nationality, true));
+        return lookup;
     }
-}
\ No newline at end of file
+}
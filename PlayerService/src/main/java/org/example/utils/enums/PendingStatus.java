@@ -0,0 +1,10 @@
+package org.example.utils.enums;
+
+/**
+ * Enum representing the state of a queued player creation.
+ */
+public enum PendingStatus {
+    PENDING,
+    CREATED,
+    FAILED;
+}
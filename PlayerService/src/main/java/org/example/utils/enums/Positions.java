@@ -22,5 +22,17 @@ public enum Positions {
     CF,
     ST,
     LW,
-    RW,
+    RW;
+
+    private static final EnumLookup<Positions> LOOKUP = new EnumLookup<>(values(), 3, 0);
+
+    /**
+     * Get position by code, in constant time and without throwing.
+     *
+     * @param code the code, surrounding whitespace and case ignored
+     * @return the position, or null if no position has this code
+     */
+    public static Positions byCode(CharSequence code) {
+        return LOOKUP.byCode(code);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package org.example.utils.enums;
+
+/**
+ * Enum representing the classes of API work that are limited and isolated separately.
+ */
+public enum WorkloadClass {
+    /**
+     * Single-player reads and writes
+     */
+    INTERACTIVE,
+    /**
+     * Filtered list, facet and change feed queries
+     */
+    LIST,
+    /**
+     * CSV imports, full exports and deleting every player
+     */
+    BULK;
+
+    private static final String PLAYERS_PATH = "/api/players";
+
+    /**
+     * Classify a player API request.
+     *
+     * @param method the HTTP method
+     * @param path   the request path, without the context path
+     * @return the workload class, or null if the request is not a limited API call
+     * (long-lived change streams, actuator, API docs)
+     */
+    public static WorkloadClass of(String method, String path) {
+        if (!path.startsWith(PLAYERS_PATH))
+            return null;
+        String resource = path.substring(PLAYERS_PATH.length());
+        if (resource.equals("/stream"))
+            return null;
+        if (resource.equals("/bulk-upload") || resource.equals("/all"))
+            return BULK;
+        if ("GET".equals(method) && (resource.isEmpty() || resource.equals("/") || resource.equals("/facets")
+                || resource.equals("/changes")))
+            return LIST;
+        return INTERACTIVE;
+    }
+}
@@ -2,9 +2,18 @@ package org.example.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.dtos.PendingCreateDTO;
+import org.example.dtos.PlayerChangeDTO;
+import org.example.dtos.PlayerChangesDTO;
 import org.example.dtos.PlayerDTO;
+import org.example.dtos.PlayerFacetsDTO;
 import org.example.dtos.UpdatePlayerDTO;
+import org.example.events.PlayerChangedEvent;
+import org.example.services.PlayerChangeBroadcaster;
 import org.example.services.PlayerService;
+import org.example.services.PlayerWriteBehindQueue;
+import org.example.utils.PlayerMergePatch;
+import org.example.utils.RetryLaterException;
 import org.example.utils.TestSecurityConfig;
 import org.example.utils.enums.*;
 import org.junit.jupiter.api.AfterEach;
@@ -14,28 +23,37 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +64,18 @@ class PlayerControllerTest {
     @Mock
     private PlayerService playerService;
 
+    @Mock
+    private ObjectProvider<PlayerWriteBehindQueue> writeBehind;
+
+    @Mock
+    private PlayerWriteBehindQueue writeBehindQueue;
+
+    @Mock
+    private PlayerChangeBroadcaster changeBroadcaster;
+
+    @Spy
+    private PlayerMergePatch mergePatch = new PlayerMergePatch(Jackson2ObjectMapperBuilder.json().build());
+
     @InjectMocks
     private PlayerController playerController;
 
@@ -76,7 +106,8 @@ class PlayerControllerTest {
                 new HashSet<>(List.of(Positions.ST, Positions.CAM)),
                 1.70,
                 new Date(),
-                new Date());
+                new Date(),
+                3L);
     }
 
     private UpdatePlayerDTO createSampleUpdatePlayerDTO() {
@@ -122,6 +153,50 @@ class PlayerControllerTest {
         verify(playerService, times(1)).createPlayer(any(PlayerDTO.class));
     }
 
+    @Test
+    @DisplayName("Should queue the player and return 202 when the client prefers an async response")
+    void createPlayer_PreferRespondAsync_ReturnsAccepted() throws Exception {
+        // Arrange
+        PlayerDTO inputPlayer = createSamplePlayerDTO();
+        inputPlayer.setId(null);
+        UUID ticket = UUID.randomUUID();
+
+        when(writeBehind.getIfAvailable()).thenReturn(writeBehindQueue);
+        when(writeBehindQueue.submit(any(PlayerDTO.class))).thenReturn(PendingCreateDTO.pending(ticket));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/players")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(inputPlayer)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/api/players/pending/" + ticket))
+                .andExpect(jsonPath("$.ticket").value(ticket.toString()))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        verify(playerService, never()).createPlayer(any(PlayerDTO.class));
+    }
+
+    @Test
+    @DisplayName("Should return 503 with Retry-After when the write-behind queue is full")
+    void createPlayer_WriteBehindQueueFull_ReturnsServiceUnavailable() throws Exception {
+        // Arrange
+        PlayerDTO inputPlayer = createSamplePlayerDTO();
+        inputPlayer.setId(null);
+
+        when(writeBehind.getIfAvailable()).thenReturn(writeBehindQueue);
+        when(writeBehindQueue.submit(any(PlayerDTO.class)))
+                .thenThrow(new RetryLaterException("Too many pending player creations", Duration.ofSeconds(1)));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/players")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(inputPlayer)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
     @Test
     @DisplayName("Should return 400 when creating player with invalid data")
     void createPlayer_InvalidData_ReturnsBadRequest() throws Exception {
@@ -148,7 +223,7 @@ class PlayerControllerTest {
         updatedPlayer.setFirstName("Cristiano");
         updatedPlayer.setLastName("Ronaldo");
 
-        when(playerService.updatePlayer(eq(playerId), any(UpdatePlayerDTO.class)))
+        when(playerService.updatePlayer(eq(playerId), any(UpdatePlayerDTO.class), isNull()))
                 .thenReturn(updatedPlayer);
 
         // Act & Assert
@@ -156,10 +231,93 @@ class PlayerControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updateDTO)))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
                 .andExpect(jsonPath("$.firstName").value("Cristiano"))
                 .andExpect(jsonPath("$.lastName").value("Ronaldo"));
 
-        verify(playerService, times(1)).updatePlayer(eq(playerId), any(UpdatePlayerDTO.class));
+        verify(playerService, times(1)).updatePlayer(eq(playerId), any(UpdatePlayerDTO.class), isNull());
+    }
+
+    @Test
+    @DisplayName("Should pass the If-Match version to the service and return 412 when stale")
+    void updatePlayer_StaleIfMatch_ReturnsPreconditionFailed() throws Exception {
+        // Arrange
+        Long playerId = 1L;
+        UpdatePlayerDTO updateDTO = createSampleUpdatePlayerDTO();
+
+        doThrow(new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Player was modified by another request"))
+                .when(playerService).updatePlayer(eq(playerId), any(UpdatePlayerDTO.class), eq(2L));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/players/{id}", playerId)
+                        .header(HttpHeaders.IF_MATCH, "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(playerService, times(1)).updatePlayer(eq(playerId), any(UpdatePlayerDTO.class), eq(2L));
+    }
+
+    @Test
+    @DisplayName("Should return 412 for a weak If-Match tag without calling the service")
+    void updatePlayer_WeakIfMatch_ReturnsPreconditionFailed() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/api/players/{id}", 1L)
+                        .header(HttpHeaders.IF_MATCH, "W/\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createSampleUpdatePlayerDTO())))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(playerService, never()).updatePlayer(anyLong(), any(UpdatePlayerDTO.class), any());
+    }
+
+    @Test
+    @DisplayName("Should apply a merge patch with only the members it contains")
+    void patchPlayer_MergePatch_Success() throws Exception {
+        // Arrange
+        Long playerId = 1L;
+        PlayerDTO patchedPlayer = createSamplePlayerDTO();
+        patchedPlayer.setHeight(1.72);
+
+        UpdatePlayerDTO expectedUpdate = new UpdatePlayerDTO();
+        expectedUpdate.setHeight(1.72);
+        expectedUpdate.setPositions(Set.of(Positions.ST));
+        when(playerService.updatePlayer(eq(playerId), eq(expectedUpdate), eq(3L))).thenReturn(patchedPlayer);
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/players/{id}", playerId)
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"height\": 1.72, \"positions\": [\"ST\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(jsonPath("$.height").value(1.72));
+
+        verify(playerService, times(1)).updatePlayer(eq(playerId), eq(expectedUpdate), eq(3L));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when a merge patch removes a required field")
+    void patchPlayer_NullMember_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(patch("/api/players/{id}", 1L)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"firstName\": null}"))
+                .andExpect(status().isBadRequest());
+
+        verify(playerService, never()).updatePlayer(anyLong(), any(UpdatePlayerDTO.class), any());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when a merge patch has an unknown member")
+    void patchPlayer_UnknownMember_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(patch("/api/players/{id}", 1L)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"height\": 1.72, \"shirtNumber\": 10}"))
+                .andExpect(status().isBadRequest());
+
+        verify(playerService, never()).updatePlayer(anyLong(), any(UpdatePlayerDTO.class), any());
     }
 
     @Test
@@ -172,7 +330,7 @@ class PlayerControllerTest {
 
         // Mock the service to throw the same exception as the real implementation
         doThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Player is not valid after changes"))
-                .when(playerService).updatePlayer(eq(playerId), any(UpdatePlayerDTO.class));
+                .when(playerService).updatePlayer(eq(playerId), any(UpdatePlayerDTO.class), isNull());
 
         // Act & Assert
         mockMvc.perform(put("/api/players/{id}", playerId)
@@ -180,7 +338,7 @@ class PlayerControllerTest {
                         .content(objectMapper.writeValueAsString(invalidUpdate)))
                 .andExpect(status().isBadRequest());
 
-        verify(playerService, times(1)).updatePlayer(eq(playerId), any(UpdatePlayerDTO.class));
+        verify(playerService, times(1)).updatePlayer(eq(playerId), any(UpdatePlayerDTO.class), isNull());
     }
 
     @Test
@@ -209,6 +367,7 @@ class PlayerControllerTest {
         // Act & Assert
         mockMvc.perform(get("/api/players/{id}", playerId))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.firstName").value("Lionel"))
                 .andExpect(jsonPath("$.lastName").value("Messi"));
@@ -216,6 +375,21 @@ class PlayerControllerTest {
         verify(playerService, times(1)).getPlayerById(playerId);
     }
 
+    @Test
+    @DisplayName("Should return 304 when the client copy of the player is current")
+    void getPlayerById_IfNoneMatchCurrent_ReturnsNotModified() throws Exception {
+        // Arrange
+        Long playerId = 1L;
+        when(playerService.getPlayerById(playerId)).thenReturn(createSamplePlayerDTO());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/players/{id}", playerId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(content().string(""));
+    }
+
     @Test
     @DisplayName("Should get players with pagination and filtering successfully")
     void getPlayers_WithFilters_Success() throws Exception {
@@ -278,6 +452,72 @@ class PlayerControllerTest {
                 eq("asc"), eq(0), eq(10));
     }
 
+    @Test
+    @DisplayName("Should return the change feed after the given sequence")
+    void getChanges_Success() throws Exception {
+        // Arrange
+        PlayerChangeDTO change = new PlayerChangeDTO(8L, PlayerChangedEvent.Type.UPDATED, 1L,
+                createSamplePlayerDTO(), new Date());
+        when(playerService.getChanges(7L, 50)).thenReturn(new PlayerChangesDTO(List.of(change), 8L, false));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/players/changes")
+                        .param("since", "7")
+                        .param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].sequence").value(8))
+                .andExpect(jsonPath("$.changes[0].type").value("UPDATED"))
+                .andExpect(jsonPath("$.changes[0].player.firstName").value("Lionel"))
+                .andExpect(jsonPath("$.nextSince").value(8))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @DisplayName("Should open the change stream resuming from Last-Event-ID")
+    void streamChanges_ResumesFromLastEventId() throws Exception {
+        // Arrange
+        when(changeBroadcaster.subscribe(7L)).thenReturn(new SseEmitter());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/players/stream")
+                        .header("Last-Event-ID", "7")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        verify(changeBroadcaster).subscribe(7L);
+    }
+
+    @Test
+    @DisplayName("Should get player facets with filters successfully")
+    void getPlayerFacets_WithFilters_Success() throws Exception {
+        // Arrange
+        PlayerFacetsDTO facets = new PlayerFacetsDTO(
+                1L,
+                Map.of(Nationality.AR, 1L),
+                Map.of(Positions.ST, 1L, Positions.CAM, 1L),
+                Map.of(AgeBucket.FROM_35, 1L),
+                Map.of(HeightBucket.FROM_1_70_TO_1_80, 1L));
+
+        when(playerService.getPlayerFacets(
+                isNull(), eq(List.of("AR")), isNull(), isNull(),
+                eq(List.of(Positions.ST.name())), isNull(), isNull()))
+                .thenReturn(facets);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/players/facets")
+                        .param("nationalities", "AR")
+                        .param("positions", Positions.ST.name()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.nationalities.AR").value(1))
+                .andExpect(jsonPath("$.positions.CAM").value(1))
+                .andExpect(jsonPath("$.ageBuckets.FROM_35").value(1));
+
+        verify(playerService, times(1)).getPlayerFacets(
+                isNull(), eq(List.of("AR")), isNull(), isNull(),
+                eq(List.of(Positions.ST.name())), isNull(), isNull());
+    }
+
     @Test
     @DisplayName("Should handle bulk upload successfully with real CSV file")
     void bulkUpload_Success() throws Exception {
@@ -0,0 +1,142 @@
+package org.example.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dtos.PlayerDTO;
+import org.example.dtos.UpdatePlayerDTO;
+import org.example.services.PlayerQueryCache;
+import org.example.services.PlayerService;
+import org.example.utils.SqlStatementCounter;
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.Positions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.example.utils.SqlStatementCounter.assertStatementBudget;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets of the player endpoints, on the full context against in-memory H2.
+ * A budget that fails means an endpoint started issuing more SQL, typically one query per player
+ * (N+1) while mapping entities to DTOs. Raise a budget only for a change that needs the statements.
+ * <p>
+ * Every write also records its change in the change log: locking the sequence row, inserting the
+ * entry and bumping the sequence account for three statements of each write budget.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+@Import(SqlStatementCounter.Config.class)
+@DisplayName("Player endpoint statement budgets")
+class PlayerStatementBudgetTest {
+
+    private static final int PAGE = 50;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerQueryCache queryCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private List<PlayerDTO> players;
+
+    @BeforeEach
+    void setUp() {
+        playerService.deleteAll();
+        players = playerService.createPlayers(IntStream.range(0, PAGE + 10)
+                .mapToObj(i -> player("Budget" + i, LocalDate.of(1990, 1, 1).plusDays(i)))
+                .toList());
+        // Cached pages would hide the queries being measured
+        queryCache.invalidateAll();
+    }
+
+    @Test
+    @DisplayName("a page of 50 players: page, count, one query per collection")
+    void getPlayersPage() throws Exception {
+        assertStatementBudget("GET /api/players?size=50", 4, () -> mockMvc
+                .perform(get("/api/players").param("size", String.valueOf(PAGE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(PAGE)));
+    }
+
+    @Test
+    @DisplayName("one player: the player and its two collections")
+    void getPlayerById() throws Exception {
+        assertStatementBudget("GET /api/players/{id}", 3, () -> mockMvc
+                .perform(get("/api/players/{id}", players.get(0).getId()))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("facets: one grouped query per facet, the total with the age ranges")
+    void getFacets() throws Exception {
+        assertStatementBudget("GET /api/players/facets", 4, () -> mockMvc
+                .perform(get("/api/players/facets"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("change feed: a single query")
+    void getChanges() throws Exception {
+        assertStatementBudget("GET /api/players/changes", 1, () -> mockMvc
+                .perform(get("/api/players/changes").param("limit", "100"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("create: the player, its two join rows and the change log")
+    void createPlayer() throws Exception {
+        String body = objectMapper.writeValueAsString(player("Created", LocalDate.of(1985, 5, 5)));
+        assertStatementBudget("POST /api/players", 6, () -> mockMvc
+                .perform(post("/api/players").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated()));
+    }
+
+    @Test
+    @DisplayName("update of a name: load with collections, one UPDATE and the change log")
+    void updatePlayer() throws Exception {
+        UpdatePlayerDTO update = new UpdatePlayerDTO();
+        update.setFirstName("Renamed");
+        String body = objectMapper.writeValueAsString(update);
+        assertStatementBudget("PUT /api/players/{id}", 7, () -> mockMvc
+                .perform(put("/api/players/{id}", players.get(0).getId())
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("delete: load with collections, the join rows, the player and the change log")
+    void deletePlayer() throws Exception {
+        assertStatementBudget("DELETE /api/players/{id}", 9, () -> mockMvc
+                .perform(delete("/api/players/{id}", players.get(0).getId()))
+                .andExpect(status().isOk()));
+    }
+
+    private static PlayerDTO player(String firstName, LocalDate dateOfBirth) {
+        return new PlayerDTO(null, firstName, "Budget", Set.of(Nationality.BR), dateOfBirth, Set.of(Positions.ST),
+                1.80, null, null, null);
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.etc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.EndpointId;
+import org.springframework.boot.actuate.endpoint.web.PathMappedEndpoints;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Actuator endpoints mapped on the application port by default, on the full context against in-memory H2.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@DisplayName("Actuator exposure")
+class ActuatorExposureTest {
+
+    @Autowired
+    private PathMappedEndpoints endpoints;
+
+    @Test
+    @DisplayName("Does not expose the Flight Recorder endpoint without the profiling profile")
+    void flightRecorderIsNotExposed() {
+        assertThat(endpoints.getPath(EndpointId.of("jfr"))).isNull();
+        assertThat(endpoints.getPath(EndpointId.of("health"))).isEqualTo("/actuator/health");
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.etc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConcurrencyLimitFilter")
+class ConcurrencyLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment().withProperty("player.concurrency-limit.backoff-ratio", "0.5");
+        // Converts the Duration properties as Spring Boot does
+        environment.setConversionService(new ApplicationConversionService());
+        for (String workload : new String[]{"interactive", "list", "bulk"}) {
+            String prefix = "player.concurrency-limit." + workload + ".";
+            environment.withProperty(prefix + "initial", "10")
+                    .withProperty(prefix + "min", "1")
+                    .withProperty(prefix + "max", "20")
+                    .withProperty(prefix + "latency-threshold", "PT1H");
+        }
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitFilter(environment, meterRegistry);
+    }
+
+    private double interactiveLimit() {
+        return meterRegistry.get("players.concurrency.limit").tag("workload", "interactive").gauge().value();
+    }
+
+    private void call(FilterChain chain) throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/players/1"), new MockHttpServletResponse(), chain);
+    }
+
+    @Test
+    @DisplayName("A server error cuts the limit")
+    void serverErrorCutsLimit() throws Exception {
+        call((request, response) -> ((MockHttpServletResponse) response).setStatus(500));
+
+        assertThat(interactiveLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("The service's own 503 with Retry-After leaves the limit alone")
+    void ownLoadSheddingIsNotAFailure() throws Exception {
+        call((request, response) -> {
+            MockHttpServletResponse servletResponse = (MockHttpServletResponse) response;
+            servletResponse.setStatus(503);
+            servletResponse.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        });
+
+        assertThat(interactiveLimit()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.etc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.utils.ConcurrencyLimitedDataSource;
+import org.example.utils.WorkloadRoutingDataSource;
+import org.example.utils.enums.WorkloadClass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Connection pools built with and without partitioning, on in-memory H2.
+ */
+@DisplayName("DataSourceConfig")
+class DataSourceConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+            .withUserConfiguration(DataSourceConfig.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:h2:mem:datasource-config",
+                    "spring.datasource.hikari.connection-timeout=1234",
+                    "spring.datasource.hikari.maximum-pool-size=50");
+
+    @Test
+    @DisplayName("Applies the Hikari settings to every partitioned pool, sized per workload")
+    void partitionedPoolsKeepHikariSettings() {
+        contextRunner.withPropertyValues(
+                        "player.db.interactive.pool-size=3", "player.db.interactive.queue=10",
+                        "player.db.list.pool-size=2", "player.db.list.queue=10",
+                        "player.db.bulk.pool-size=1", "player.db.bulk.queue=10")
+                .run(context -> {
+                    Map<Object, DataSource> pools = context.getBean(WorkloadRoutingDataSource.class)
+                            .getResolvedDataSources();
+                    assertThat(pools).hasSize(WorkloadClass.values().length);
+                    for (Map.Entry<Object, DataSource> entry : pools.entrySet()) {
+                        ConcurrencyLimitedDataSource limited = (ConcurrencyLimitedDataSource) entry.getValue();
+                        HikariDataSource pool = (HikariDataSource) limited.getTargetDataSource();
+                        assertThat(pool.getConnectionTimeout()).isEqualTo(1234);
+                        assertThat(pool.getMaximumPoolSize()).isEqualTo(limited.getMaxConcurrency());
+                    }
+                    assertThat(((ConcurrencyLimitedDataSource) pools.get(WorkloadClass.INTERACTIVE))
+                            .getMaxConcurrency()).isEqualTo(3);
+                });
+    }
+
+    @Test
+    @DisplayName("Still caps the single pool when partitioning is off")
+    void singlePoolIsLimited() {
+        contextRunner.withPropertyValues("player.db.partitioned-pools.enabled=false", "player.db.max-concurrency=4")
+                .run(context -> {
+                    DataSource dataSource = context.getBean(DataSource.class);
+                    assertThat(dataSource).isInstanceOf(ConcurrencyLimitedDataSource.class);
+                    assertThat(((ConcurrencyLimitedDataSource) dataSource).getMaxConcurrency()).isEqualTo(4);
+                });
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.etc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Migration of a player table created before the natural key, on in-memory H2.
+ */
+@DisplayName("NaturalKeyMigration")
+class NaturalKeyMigrationTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        jdbc = new JdbcTemplate(dataSource);
+    }
+
+    private void createLegacySchema() {
+        jdbc.execute("CREATE TABLE player_entity (id BIGINT PRIMARY KEY, first_name VARCHAR(255) NOT NULL, "
+                + "last_name VARCHAR(255) NOT NULL, date_of_birth DATE NOT NULL, height DOUBLE NOT NULL)");
+        jdbc.execute("CREATE TABLE player_nationalities (player_id BIGINT NOT NULL, nationality VARCHAR(255) NOT NULL)");
+        jdbc.execute("CREATE TABLE player_positions (player_id BIGINT NOT NULL, position VARCHAR(255) NOT NULL)");
+        insertPlayer(1, "Lionel", "Messi");
+        insertPlayer(2, " lionel ", "MESSI");
+        insertPlayer(3, "Luka", "Modric");
+    }
+
+    private void insertPlayer(long id, String firstName, String lastName) {
+        jdbc.update("INSERT INTO player_entity (id, first_name, last_name, date_of_birth, height) "
+                + "VALUES (?, ?, ?, DATE '1987-06-24', 1.70)", id, firstName, lastName);
+        jdbc.update("INSERT INTO player_nationalities VALUES (?, 'AR')", id);
+        jdbc.update("INSERT INTO player_positions VALUES (?, 'RW')", id);
+    }
+
+    @Test
+    @DisplayName("Leaves a fresh database untouched")
+    void freshDatabase() {
+        new NaturalKeyMigration(dataSource, false).migrate();
+
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = 'PLAYER_ENTITY'",
+                Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("Stops on duplicates without deleting anything unless allowed")
+    void refusesDuplicatesByDefault() {
+        createLegacySchema();
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> new NaturalKeyMigration(dataSource, false).migrate());
+
+        assertThat(e.getMessage()).startsWith("1 groups of players share a natural key");
+        assertThat(jdbc.queryForList("SELECT id FROM player_entity ORDER BY id", Long.class))
+                .containsExactly(1L, 2L, 3L);
+        assertThat(jdbc.queryForList("SELECT player_id FROM player_nationalities ORDER BY player_id", Long.class))
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Recomputes the keys of players fixed by hand after a stop")
+    void resumesAfterManualFix() {
+        createLegacySchema();
+        assertThrows(IllegalStateException.class, () -> new NaturalKeyMigration(dataSource, false).migrate());
+        jdbc.update("UPDATE player_entity SET first_name = 'Lionel Andres' WHERE id = 2");
+
+        new NaturalKeyMigration(dataSource, false).migrate();
+
+        assertThat(jdbc.queryForList("SELECT natural_key FROM player_entity ORDER BY id", String.class))
+                .containsExactly("lionel|messi|1987-06-24", "lionel andres|messi|1987-06-24", "luka|modric|1987-06-24");
+    }
+
+    @Test
+    @DisplayName("Computes the keys, keeps the first of each duplicate if allowed and adds the unique constraint")
+    void migratesLegacyTable() {
+        createLegacySchema();
+
+        new NaturalKeyMigration(dataSource, true).migrate();
+
+        assertThat(jdbc.queryForList("SELECT natural_key FROM player_entity ORDER BY id", String.class))
+                .containsExactly("lionel|messi|1987-06-24", "luka|modric|1987-06-24");
+        assertThat(jdbc.queryForList("SELECT player_id FROM player_nationalities ORDER BY player_id", Long.class))
+                .containsExactly(1L, 3L);
+        assertThat(jdbc.queryForList("SELECT player_id FROM player_positions ORDER BY player_id", Long.class))
+                .containsExactly(1L, 3L);
+        assertThrows(DataIntegrityViolationException.class, () -> jdbc.update(
+                "INSERT INTO player_entity VALUES (4, 'Lionel', 'Messi', DATE '1987-06-24', 1.70, 'lionel|messi|1987-06-24')"));
+        assertThrows(DataIntegrityViolationException.class, () -> jdbc.update(
+                "INSERT INTO player_entity VALUES (5, 'Nobody', 'Else', DATE '1990-01-01', 1.80, NULL)"));
+    }
+
+    @Test
+    @DisplayName("Fills blank keys and logs the removed duplicates in the change log")
+    void fillsBlankKeysAndLogsDeletions() {
+        createLegacySchema();
+        jdbc.execute("ALTER TABLE player_entity ADD COLUMN natural_key VARCHAR(255) DEFAULT '' NOT NULL");
+        jdbc.execute("CREATE TABLE change_sequence_entity (name VARCHAR(255) PRIMARY KEY, last_value BIGINT NOT NULL)");
+        jdbc.execute("CREATE TABLE player_change (sequence BIGINT PRIMARY KEY, type VARCHAR(255) NOT NULL, "
+                + "player_id BIGINT, player JSON, changed_at TIMESTAMP NOT NULL)");
+        jdbc.update("INSERT INTO change_sequence_entity VALUES ('player_change', 7)");
+
+        new NaturalKeyMigration(dataSource, true).migrate();
+
+        assertThat(jdbc.queryForList("SELECT natural_key FROM player_entity ORDER BY id", String.class))
+                .containsExactly("lionel|messi|1987-06-24", "luka|modric|1987-06-24");
+        assertThat(jdbc.queryForMap("SELECT sequence, type, player_id FROM player_change"))
+                .containsEntry("SEQUENCE", 8L)
+                .containsEntry("TYPE", "DELETED")
+                .containsEntry("PLAYER_ID", 2L);
+        assertThat(jdbc.queryForObject("SELECT last_value FROM change_sequence_entity", Long.class)).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("Does nothing on an already migrated table")
+    void idempotent() {
+        createLegacySchema();
+        new NaturalKeyMigration(dataSource, true).migrate();
+        jdbc.update("INSERT INTO player_entity VALUES (4, 'Erling', 'Haaland', DATE '2000-07-21', 1.95, "
+                + "'erling|haaland|2000-07-21')");
+
+        new NaturalKeyMigration(dataSource, true).migrate();
+
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM player_entity", Long.class)).isEqualTo(3L);
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.etc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The profiling profile combined with dev, on the full context against in-memory H2 and a random
+ * management port.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "management.server.port=0",
+        "player.jfr.password=secret",
+        "spring.datasource.url=jdbc:h2:mem:profiling;DB_CLOSE_DELAY=-1",
+        "logging.file.name="})
+@ActiveProfiles({"dev", "profiling", "h2"})
+@DisplayName("Profiling profile")
+class ProfilingProfileTest {
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private String actuator(String path) {
+        return "http://localhost:" + managementPort + "/actuator/" + path;
+    }
+
+    @Test
+    @DisplayName("Moves the actuator to a port no profile serves the application on")
+    void managementPortDiffers() throws IOException {
+        String managementPort = load("application-profiling.properties").getProperty("management.server.port");
+
+        for (String profile : new String[]{"dev", "prod"})
+            assertThat(load("application-" + profile + ".properties").getProperty("server.port"))
+                    .as(profile).isNotEqualTo(managementPort);
+        assertThat(load("application.properties").getProperty("server.port")).isNotEqualTo(managementPort);
+    }
+
+    @Test
+    @DisplayName("Keeps health reachable without credentials")
+    void healthIsOpen() {
+        assertThat(restTemplate.getForEntity(actuator("health"), String.class).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    @DisplayName("Requires the configured credentials for the Flight Recorder endpoint")
+    void flightRecorderNeedsCredentials() {
+        assertThat(restTemplate.getForEntity(actuator("jfr"), String.class).getStatusCode())
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(restTemplate.withBasicAuth("jfr", "wrong").getForEntity(actuator("jfr"), String.class)
+                .getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(restTemplate.withBasicAuth("jfr", "secret").getForEntity(actuator("jfr"), String.class)
+                .getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    private static Properties load(String name) throws IOException {
+        return PropertiesLoaderUtils.loadProperties(new ClassPathResource(name));
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.repositories;
+
+import org.example.dtos.PlayerDTO;
+import org.example.dtos.PlayerFacetsDTO;
+import org.example.services.PlayerService;
+import org.example.utils.PlayerFilter;
+import org.example.utils.enums.AgeBucket;
+import org.example.utils.enums.HeightBucket;
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.Positions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Grouped facet queries, on the full context against in-memory H2.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@DisplayName("PlayerFacetRepository")
+class PlayerFacetRepositoryTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @BeforeEach
+    void setUp() {
+        playerService.deleteAll();
+        playerService.createPlayers(List.of(
+                player("One", Set.of(Nationality.AR), TODAY.minusYears(26), Set.of(Positions.ST, Positions.CAM), 1.75),
+                player("Two", Set.of(Nationality.BR), TODAY.minusYears(18), Set.of(Positions.ST), 1.85),
+                player("Three", Set.of(Nationality.AR), TODAY.minusYears(26), Set.of(Positions.CB), 1.92)));
+    }
+
+    @Test
+    @DisplayName("Counts each facet without its own filter")
+    void countsEachFacetWithoutItsOwnFilter() {
+        PlayerFacetsDTO result = playerRepository.countFacets(
+                PlayerFilter.of(null, List.of("AR"), null, null, List.of("ST"), null, null), TODAY);
+
+        assertThat(result.getTotal()).isEqualTo(1);
+        // Nationality facet ignores the nationality filter: players One and Two play ST
+        assertThat(result.getNationalities()).containsOnly(Map.entry(Nationality.AR, 1L), Map.entry(Nationality.BR, 1L));
+        // Position facet ignores the position filter: players One and Three are AR
+        assertThat(result.getPositions()).containsOnly(Map.entry(Positions.ST, 1L), Map.entry(Positions.CAM, 1L),
+                Map.entry(Positions.CB, 1L));
+        assertThat(result.getAgeBuckets()).containsOnly(Map.entry(AgeBucket.FROM_25_TO_29, 1L));
+        assertThat(result.getHeightBuckets()).containsOnly(Map.entry(HeightBucket.FROM_1_70_TO_1_80, 1L));
+    }
+
+    @Test
+    @DisplayName("Applies the name and the ranges to the other facets")
+    void appliesNameAndRanges() {
+        PlayerFacetsDTO all = playerRepository.countFacets(PlayerFilter.NONE, TODAY);
+        assertThat(all.getTotal()).isEqualTo(3);
+        assertThat(all.getAgeBuckets()).containsOnly(Map.entry(AgeBucket.UNDER_20, 1L),
+                Map.entry(AgeBucket.FROM_25_TO_29, 2L));
+        assertThat(all.getHeightBuckets()).containsOnly(Map.entry(HeightBucket.FROM_1_70_TO_1_80, 1L),
+                Map.entry(HeightBucket.FROM_1_80_TO_1_90, 1L), Map.entry(HeightBucket.FROM_1_90, 1L));
+
+        // Two and Three match the name; only Three is 20 or older, only Two is 1.90 or shorter
+        PlayerFacetsDTO result = playerRepository.countFacets(
+                PlayerFilter.of("facet t", List.of(), 20, null, List.of(), null, 1.90), TODAY);
+        assertThat(result.getTotal()).isZero();
+        assertThat(result.getAgeBuckets()).containsOnly(Map.entry(AgeBucket.UNDER_20, 1L));
+        assertThat(result.getHeightBuckets()).containsOnly(Map.entry(HeightBucket.FROM_1_90, 1L));
+        assertThat(result.getNationalities()).isEmpty();
+        assertThat(result.getPositions()).isEmpty();
+    }
+
+    private static PlayerDTO player(String lastName, Set<Nationality> nationalities, LocalDate dateOfBirth,
+            Set<Positions> positions, double height) {
+        return new PlayerDTO(null, "Facet", lastName, nationalities, dateOfBirth, positions, height, null, null, null);
+    }
+}
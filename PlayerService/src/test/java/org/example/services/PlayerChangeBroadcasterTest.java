@@ -0,0 +1,87 @@
+package org.example.services;
+
+import org.example.entities.ChangeSequenceEntity;
+import org.example.entities.PlayerChangeEntity;
+import org.example.events.PlayerChangeRecordedEvent;
+import org.example.events.PlayerChangedEvent;
+import org.example.repositories.ChangeSequenceRepository;
+import org.example.repositories.PlayerChangeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlayerChangeBroadcaster")
+class PlayerChangeBroadcasterTest {
+
+    @Mock
+    private PlayerChangeRepository changeRepository;
+
+    @Mock
+    private ChangeSequenceRepository sequenceRepository;
+
+    private PlayerChangeBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        // Never started: no heartbeats
+        broadcaster = new PlayerChangeBroadcaster(changeRepository, sequenceRepository, 16, 10, 100,
+                Duration.ofMinutes(1), Duration.ofMinutes(1), 1);
+        when(sequenceRepository.findById(PlayerChangeLog.SEQUENCE_NAME))
+                .thenReturn(Optional.of(new ChangeSequenceEntity(PlayerChangeLog.SEQUENCE_NAME, 5)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.stop();
+    }
+
+    @Test
+    @DisplayName("Reads a change whose commit callback is late from the change log")
+    void readsLateChangeFromLog() {
+        when(changeRepository.findBySequenceGreaterThanOrderBySequenceAsc(eq(5L), any()))
+                .thenReturn(List.of(logged(6), logged(7)));
+        broadcaster.subscribe(null);
+
+        broadcaster.onChangeRecorded(recorded(7));
+        verify(changeRepository, timeout(1000)).findBySequenceGreaterThanOrderBySequenceAsc(eq(5L), any());
+
+        // Already sent from the log: skipped without another read
+        broadcaster.onChangeRecorded(recorded(6));
+        verify(changeRepository, after(200).times(1)).findBySequenceGreaterThanOrderBySequenceAsc(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Sends changes arriving in order without reading the change log")
+    void inOrderChangesNeedNoRead() {
+        broadcaster.subscribe(null);
+
+        broadcaster.onChangeRecorded(recorded(6));
+        broadcaster.onChangeRecorded(recorded(7));
+
+        verify(changeRepository, after(200).never()).findBySequenceGreaterThanOrderBySequenceAsc(anyLong(), any());
+    }
+
+    private static PlayerChangeRecordedEvent recorded(long sequence) {
+        return PlayerChangeRecordedEvent.of(sequence, PlayerChangedEvent.of(PlayerChangedEvent.Type.DELETED, sequence,
+                null, null));
+    }
+
+    private static PlayerChangeEntity logged(long sequence) {
+        return new PlayerChangeEntity(sequence, PlayerChangedEvent.Type.DELETED, sequence, null, null, new Date());
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.dtos.PlayerDTO;
+import org.example.entities.ChangeSequenceEntity;
+import org.example.entities.PlayerChangeEntity;
+import org.example.events.PlayerChangedEvent;
+import org.example.repositories.ChangeSequenceRepository;
+import org.example.repositories.PlayerChangeRepository;
+import org.example.utils.PlayerFilter;
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.Positions;
+import org.example.utils.enums.SortBy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlayerQueryCacheSync")
+class PlayerQueryCacheSyncTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+
+    @Mock
+    private PlayerChangeRepository changeRepository;
+
+    @Mock
+    private ChangeSequenceRepository sequenceRepository;
+
+    private PlayerQueryCache queryCache;
+    private PlayerQueryCacheSync sync;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        queryCache = new PlayerQueryCache(1_000, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        // Polls only once the interval has passed: the tests call sync() themselves
+        sync = new PlayerQueryCacheSync(queryCache, changeRepository, sequenceRepository, Duration.ofMinutes(1), 2);
+        lastSequence(5);
+        sync.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sync.stop();
+    }
+
+    @Test
+    @DisplayName("Drops the pages matching a change committed by another instance, before or after it")
+    void invalidatesMatchingPages() {
+        get(nationality("AR"));
+        get(nationality("BR"));
+        get(nationality("FR"));
+        logged(logEntry(6, PlayerChangedEvent.Type.UPDATED, player(Nationality.BR), player(Nationality.AR)));
+
+        assertThat(sync.sync()).isEqualTo(6);
+
+        int loaded = loads.get();
+        get(nationality("AR"));
+        get(nationality("BR"));
+        get(nationality("FR"));
+        assertThat(loads.get() - loaded).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Drops the whole cache on a backlog longer than a batch")
+    void dropsCacheOnBacklog() {
+        get(nationality("FR"));
+        logged(logEntry(6, PlayerChangedEvent.Type.CREATED, player(Nationality.AR), null),
+                logEntry(7, PlayerChangedEvent.Type.CREATED, player(Nationality.AR), null),
+                logEntry(8, PlayerChangedEvent.Type.CREATED, player(Nationality.AR), null));
+        lastSequence(9);
+
+        assertThat(sync.sync()).isEqualTo(9);
+
+        int loaded = loads.get();
+        get(nationality("FR"));
+        assertThat(loads.get() - loaded).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Drops the whole cache on an update logged without the prior state")
+    void dropsCacheWithoutPreviousState() {
+        get(nationality("FR"));
+        logged(logEntry(6, PlayerChangedEvent.Type.UPDATED, player(Nationality.AR), null));
+
+        sync.sync();
+
+        int loaded = loads.get();
+        get(nationality("FR"));
+        assertThat(loads.get() - loaded).isEqualTo(1);
+    }
+
+    private void lastSequence(long sequence) {
+        when(sequenceRepository.findById(PlayerChangeLog.SEQUENCE_NAME))
+                .thenReturn(Optional.of(new ChangeSequenceEntity(PlayerChangeLog.SEQUENCE_NAME, sequence)));
+    }
+
+    private void logged(PlayerChangeEntity... changes) {
+        when(changeRepository.findBySequenceGreaterThanOrderBySequenceAsc(eq(5L), any()))
+                .thenReturn(List.of(changes));
+    }
+
+    private void get(PlayerFilter filter) {
+        queryCache.get(PlayerQueryCache.Key.of(filter, SortBy.NAME, "asc", 0, 10, TODAY), () -> {
+            loads.incrementAndGet();
+            return Page.empty();
+        });
+    }
+
+    private static PlayerFilter nationality(String code) {
+        return PlayerFilter.of(null, List.of(code), null, null, null, null, null);
+    }
+
+    private static PlayerChangeEntity logEntry(long sequence, PlayerChangedEvent.Type type, PlayerDTO player,
+            PlayerDTO previous) {
+        return new PlayerChangeEntity(sequence, type, 1L, player, previous, new Date());
+    }
+
+    private static PlayerDTO player(Nationality nationality) {
+        return new PlayerDTO(1L, "Lionel", "Messi", Set.of(nationality), LocalDate.of(1987, 6, 24),
+                Set.of(Positions.ST), 1.70, new Date(), new Date(), 1L);
+    }
+}
@@ -1,18 +1,25 @@
 package org.example.services;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
+import org.example.dtos.PlayerChangeDTO;
+import org.example.dtos.PlayerChangesDTO;
 import org.example.dtos.PlayerDTO;
+import org.example.dtos.PlayerFacetsDTO;
 import org.example.dtos.UpdatePlayerDTO;
 import org.example.entities.NationalityEntity;
+import org.example.entities.PlayerChangeEntity;
 import org.example.entities.PlayerEntity;
 import org.example.entities.PositionEntity;
-import org.example.repositories.NationalityRepository;
+import org.example.events.PlayerChangedEvent;
+import org.example.repositories.PlayerChangeRepository;
 import org.example.repositories.PlayerRepository;
-import org.example.repositories.PositionRepository;
+import org.example.utils.PlayerFilter;
 import org.example.utils.enums.Nationality;
 import org.example.utils.enums.Positions;
 import org.example.utils.enums.SortBy;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,18 +27,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
 
@@ -47,13 +61,23 @@ class PlayerServiceImplTest {
     @Mock
     private PlayerRepository playerRepository;
     @Mock
-    private NationalityRepository nationalityRepository;
+    private ReferenceDataRegistry referenceData;
     @Mock
-    private PositionRepository positionRepository;
+    private PlayerChangeRepository changeRepository;
     @Mock
     private Validator validator;
     @Mock
     private MultipartFile multipartFile;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Spy
+    private PlayerQueryCache queryCache = new PlayerQueryCache(1_000, Duration.ofMinutes(1),
+            new SimpleMeterRegistry());
+    private final SimpleMeterRegistry importRegistry = new SimpleMeterRegistry();
+    @Spy
+    private PlayerImportMetrics importMetrics = new PlayerImportMetrics(importRegistry);
 
     @InjectMocks
     private PlayerServiceImpl playerService;
@@ -73,17 +97,19 @@ class PlayerServiceImplTest {
                 Set.of(Positions.ST, Positions.CAM),
                 1.70,
                 new Date(),
-                new Date());
+                new Date(),
+                0L);
         validPlayerEntity = new PlayerEntity(
                 1L,
                 "Lionel",
                 "Messi",
-                new HashSet<>(Set.of(new NationalityEntity(Nationality.AR, null))),
-                new HashSet<>(Set.of(new PositionEntity(Positions.ST, null))),
+                new HashSet<>(Set.of(new NationalityEntity(Nationality.AR))),
+                new HashSet<>(Set.of(new PositionEntity(Positions.ST))),
                 LocalDate.of(1987, 6, 24),
                 1.70,
                 new Date(),
                 new Date());
+        validPlayerEntity.setVersion(0L);
         validUpdatePlayerDTO = new UpdatePlayerDTO(
                 "Leo",
                 "Messi",
@@ -100,10 +126,10 @@ class PlayerServiceImplTest {
         void createsPlayerSuccessfully() {
 
             when(playerRepository.save(any(PlayerEntity.class))).thenReturn(validPlayerEntity);
-            when(nationalityRepository.findOrCreate(any(Nationality.class)))
-                    .thenReturn(new NationalityEntity(Nationality.AR, null));
-            when(positionRepository.findOrCreate(any(Positions.class)))
-                    .thenReturn(new PositionEntity(Positions.ST, null));
+            when(referenceData.nationalities(any()))
+                    .thenReturn(new HashSet<>(Set.of(new NationalityEntity(Nationality.AR))));
+            when(referenceData.positions(any()))
+                    .thenReturn(new HashSet<>(Set.of(new PositionEntity(Positions.ST))));
 
             PlayerDTO result = playerService.createPlayer(validPlayerDTO);
             assertThat(result.getFirstName()).isEqualTo("Lionel");
@@ -112,19 +138,43 @@ class PlayerServiceImplTest {
 
         @Test
         void throwsIfDuplicatePlayer() {
-            when(playerRepository.existsByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndDateOfBirth(any(), any(), any()))
-                    .thenReturn(true);
+            when(referenceData.nationalities(any()))
+                    .thenReturn(new HashSet<>(Set.of(new NationalityEntity(Nationality.AR))));
+            when(referenceData.positions(any()))
+                    .thenReturn(new HashSet<>(Set.of(new PositionEntity(Positions.ST))));
+            when(playerRepository.save(any(PlayerEntity.class))).thenThrow(new DataIntegrityViolationException(
+                    "Duplicate entry",
+                    new ConstraintViolationException("Duplicate entry", new SQLException(),
+                            "player_entity." + PlayerEntity.NATURAL_KEY_CONSTRAINT)));
             ResponseStatusException ex = assertThrows(ResponseStatusException.class,
                     () -> playerService.createPlayer(validPlayerDTO));
             assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
         }
 
+        @Test
+        void createsBatchInOneTransaction() {
+            when(referenceData.nationalities(any()))
+                    .thenReturn(new HashSet<>(Set.of(new NationalityEntity(Nationality.AR))));
+            when(referenceData.positions(any()))
+                    .thenReturn(new HashSet<>(Set.of(new PositionEntity(Positions.ST))));
+            PlayerDTO other = new PlayerDTO(null, "Angel", "Di Maria", Set.of(Nationality.AR),
+                    LocalDate.of(1988, 2, 14), Set.of(Positions.ST), 1.78, null, null, null);
+
+            List<PlayerDTO> created = playerService.createPlayers(List.of(validPlayerDTO, other));
+
+            assertThat(created).extracting(PlayerDTO::getLastName).containsExactly("Messi", "Di Maria");
+            verify(playerRepository).saveAll(anyList());
+            verify(playerRepository).flush();
+            verify(playerRepository, never()).save(any(PlayerEntity.class));
+            verify(eventPublisher, times(2)).publishEvent(any(PlayerChangedEvent.class));
+        }
+
         @Test
         void throwsIfDateOfBirthInvalid() {
             PlayerDTO dto = new PlayerDTO(validPlayerDTO.getId(), validPlayerDTO.getFirstName(),
                     validPlayerDTO.getLastName(), validPlayerDTO.getNationalities(),
                     validPlayerDTO.getDateOfBirth(), validPlayerDTO.getPositions(),
-                    validPlayerDTO.getHeight(), null, null);
+                    validPlayerDTO.getHeight(), null, null, null);
 
             dto.setDateOfBirth(LocalDate.now().plusDays(1));
             ResponseStatusException ex = assertThrows(ResponseStatusException.class,
@@ -137,10 +187,8 @@ class PlayerServiceImplTest {
             PlayerDTO dto = new PlayerDTO(validPlayerDTO.getId(), validPlayerDTO.getFirstName(),
                     validPlayerDTO.getLastName(), validPlayerDTO.getNationalities(),
                     validPlayerDTO.getDateOfBirth(), validPlayerDTO.getPositions(),
-                    validPlayerDTO.getHeight(), null, null);
+                    validPlayerDTO.getHeight(), null, null, null);
             dto.setHeight(null);
-            when(playerRepository.existsByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndDateOfBirth(any(), any(), any()))
-                    .thenReturn(false);
             ResponseStatusException ex = assertThrows(ResponseStatusException.class,
                     () -> playerService.createPlayer(dto));
             assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
@@ -151,10 +199,8 @@ class PlayerServiceImplTest {
             PlayerDTO dto = new PlayerDTO(validPlayerDTO.getId(), validPlayerDTO.getFirstName(),
                     validPlayerDTO.getLastName(), validPlayerDTO.getNationalities(),
                     validPlayerDTO.getDateOfBirth(), validPlayerDTO.getPositions(),
-                    validPlayerDTO.getHeight(), null, null);
+                    validPlayerDTO.getHeight(), null, null, null);
             dto.setNationalities(null);
-            when(playerRepository.existsByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndDateOfBirth(any(), any(), any()))
-                    .thenReturn(false);
             ResponseStatusException ex = assertThrows(ResponseStatusException.class,
                     () -> playerService.createPlayer(dto));
             assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
@@ -165,10 +211,8 @@ class PlayerServiceImplTest {
             PlayerDTO dto = new PlayerDTO(validPlayerDTO.getId(), validPlayerDTO.getFirstName(),
                     validPlayerDTO.getLastName(), validPlayerDTO.getNationalities(),
                     validPlayerDTO.getDateOfBirth(), validPlayerDTO.getPositions(),
-                    validPlayerDTO.getHeight(), null, null);
+                    validPlayerDTO.getHeight(), null, null, null);
             dto.setPositions(null);
-            when(playerRepository.existsByFirstNameIgnoreCaseAndLastNameIgnoreCaseAndDateOfBirth(any(), any(), any()))
-                    .thenReturn(false);
             ResponseStatusException ex = assertThrows(ResponseStatusException.class,
                     () -> playerService.createPlayer(dto));
             assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
@@ -181,36 +225,90 @@ class PlayerServiceImplTest {
         @Test
         void updatesPlayerSuccessfully() {
             when(playerRepository.findById(anyLong())).thenReturn(Optional.of(validPlayerEntity));
-            when(playerRepository.saveAndFlush(any(PlayerEntity.class))).thenReturn(validPlayerEntity);
             when(validator.validate(any(PlayerDTO.class))).thenReturn(Collections.emptySet());
-            when(nationalityRepository.findOrCreate(any(Nationality.class)))
-                    .thenReturn(new NationalityEntity(Nationality.AR, null));
-            when(positionRepository.findOrCreate(any(Positions.class)))
-                    .thenReturn(new PositionEntity(Positions.ST, null));
+            when(referenceData.nationalities(any()))
+                    .thenReturn(new HashSet<>(Set.of(new NationalityEntity(Nationality.AR))));
+            when(referenceData.positions(any()))
+                    .thenReturn(new HashSet<>(Set.of(new PositionEntity(Positions.ST))));
 
-            PlayerDTO result = playerService.updatePlayer(1L, validUpdatePlayerDTO);
+            PlayerDTO result = playerService.updatePlayer(1L, validUpdatePlayerDTO, null);
             assertThat(result.getFirstName()).isEqualTo("Leo");
-            verify(playerRepository).saveAndFlush(any(PlayerEntity.class));
+            verify(playerRepository).flush();
+        }
+
+        @Test
+        void diffsCollectionsInPlace() {
+            PositionEntity striker = validPlayerEntity.getPositions().iterator().next();
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(validPlayerEntity));
+            when(validator.validate(any(PlayerDTO.class))).thenReturn(Collections.emptySet());
+            when(referenceData.positions(any())).thenReturn(
+                    new HashSet<>(Set.of(new PositionEntity(Positions.ST), new PositionEntity(Positions.CAM))));
+
+            UpdatePlayerDTO patch = new UpdatePlayerDTO();
+            patch.setPositions(Set.of(Positions.ST, Positions.CAM));
+            PlayerDTO result = playerService.updatePlayer(1L, patch, null);
+
+            assertThat(result.getPositions()).containsExactlyInAnyOrder(Positions.ST, Positions.CAM);
+            // The element already linked is kept, so no join row is deleted and re-inserted for it
+            assertThat(validPlayerEntity.getPositions()).anyMatch(position -> position == striker);
+            verify(referenceData, never()).nationalities(any());
+        }
+
+        @Test
+        void skipsEventWhenNothingChanges() {
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(validPlayerEntity));
+            when(validator.validate(any(PlayerDTO.class))).thenReturn(Collections.emptySet());
+
+            UpdatePlayerDTO patch = new UpdatePlayerDTO();
+            patch.setHeight(validPlayerEntity.getHeight());
+            playerService.updatePlayer(1L, patch, null);
+
+            verify(eventPublisher, never()).publishEvent(any(PlayerChangedEvent.class));
         }
 
         @Test
         void throwsIfPlayerNotFound() {
             when(playerRepository.findById(anyLong())).thenReturn(Optional.empty());
             ResponseStatusException ex = assertThrows(ResponseStatusException.class,
-                    () -> playerService.updatePlayer(1L, validUpdatePlayerDTO));
+                    () -> playerService.updatePlayer(1L, validUpdatePlayerDTO, null));
             assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
         }
 
+        @Test
+        void throwsIfVersionIsStale() {
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(validPlayerEntity));
+            ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                    () -> playerService.updatePlayer(1L, validUpdatePlayerDTO, 5L));
+            assertEquals(HttpStatus.PRECONDITION_FAILED, ex.getStatusCode());
+            verify(playerRepository, never()).flush();
+        }
+
+        @Test
+        void throwsIfConcurrentUpdateWinsOnFlush() {
+            when(playerRepository.findById(anyLong())).thenReturn(Optional.of(validPlayerEntity));
+            when(validator.validate(any(PlayerDTO.class))).thenReturn(Collections.emptySet());
+            when(referenceData.nationalities(any()))
+                    .thenReturn(new HashSet<>(Set.of(new NationalityEntity(Nationality.AR))));
+            when(referenceData.positions(any()))
+                    .thenReturn(new HashSet<>(Set.of(new PositionEntity(Positions.ST))));
+            doThrow(new ObjectOptimisticLockingFailureException(PlayerEntity.class, 1L))
+                    .when(playerRepository).flush();
+            ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                    () -> playerService.updatePlayer(1L, validUpdatePlayerDTO, 0L));
+            assertEquals(HttpStatus.PRECONDITION_FAILED, ex.getStatusCode());
+            verify(eventPublisher, never()).publishEvent(any(PlayerChangedEvent.class));
+        }
+
         @Test
         void throwsIfValidationFails() {
             when(playerRepository.findById(anyLong())).thenReturn(Optional.of(validPlayerEntity));
             when(validator.validate(any(PlayerDTO.class))).thenReturn(Set.of(mock(ConstraintViolation.class)));
-            when(nationalityRepository.findOrCreate(any(Nationality.class)))
-                    .thenReturn(new NationalityEntity(Nationality.AR, null));
-            when(positionRepository.findOrCreate(any(Positions.class)))
-                    .thenReturn(new PositionEntity(Positions.ST, null));
+            when(referenceData.nationalities(any()))
+                    .thenReturn(new HashSet<>(Set.of(new NationalityEntity(Nationality.AR))));
+            when(referenceData.positions(any()))
+                    .thenReturn(new HashSet<>(Set.of(new PositionEntity(Positions.ST))));
             ResponseStatusException ex = assertThrows(ResponseStatusException.class,
-                    () -> playerService.updatePlayer(1L, validUpdatePlayerDTO));
+                    () -> playerService.updatePlayer(1L, validUpdatePlayerDTO, null));
             assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
         }
     }
@@ -220,9 +318,10 @@ class PlayerServiceImplTest {
     class DeletePlayer {
         @Test
         void deletesPlayerSuccessfully() {
-            doNothing().when(playerRepository).deleteById(1L);
+            when(playerRepository.findById(1L)).thenReturn(Optional.of(validPlayerEntity));
             playerService.deletePlayer(1L);
-            verify(playerRepository).deleteById(1L);
+            verify(playerRepository).delete(validPlayerEntity);
+            verify(eventPublisher).publishEvent(any(PlayerChangedEvent.class));
         }
     }
 
@@ -253,10 +352,121 @@ class PlayerServiceImplTest {
             List<PlayerEntity> entities = List.of(validPlayerEntity);
             Page<PlayerEntity> page = new PageImpl<>(entities, PageRequest.of(0, 10), 1);
             when(playerRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
-            Page<PlayerDTO> result = playerService.getPlayers("Leo", List.of("Argentina"), 20, 40, List.of("ST"), 1.6,
+            Page<PlayerDTO> result = playerService.getPlayers("Leo", List.of("AR"), 20, 40, List.of("ST"), 1.6,
                     1.8, SortBy.NAME, "asc", 0, 10);
             assertThat(result.getContent()).hasSize(1);
         }
+
+        @Test
+        void servesRepeatedQueryFromCache() {
+            Page<PlayerEntity> page = new PageImpl<>(List.of(validPlayerEntity), PageRequest.of(0, 10), 1);
+            when(playerRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
+
+            playerService.getPlayers(null, null, null, null, null, null, null, SortBy.NAME, "asc", 0, 10);
+            Page<PlayerDTO> result = playerService.getPlayers(null, null, null, null, null, null, null,
+                    SortBy.NAME, "ASC", 0, 10);
+
+            assertThat(result.getContent()).hasSize(1);
+            verify(playerRepository, times(1)).findAll(any(Specification.class), any(Pageable.class));
+        }
+
+        @Test
+        void reloadsOnlyPagesAffectedByChange() {
+            Page<PlayerEntity> page = new PageImpl<>(List.of(validPlayerEntity), PageRequest.of(0, 10), 1);
+            when(playerRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
+
+            playerService.getPlayers(null, List.of("AR"), null, null, null, null, null, SortBy.NAME, "asc", 0, 10);
+            playerService.getPlayers(null, List.of("BR"), null, null, null, null, null, SortBy.NAME, "asc", 0, 10);
+
+            // A new Argentinian player only affects the AR page
+            queryCache.onPlayerChanged(PlayerChangedEvent.created(validPlayerDTO));
+
+            playerService.getPlayers(null, List.of("AR"), null, null, null, null, null, SortBy.NAME, "asc", 0, 10);
+            playerService.getPlayers(null, List.of("BR"), null, null, null, null, null, SortBy.NAME, "asc", 0, 10);
+
+            verify(playerRepository, times(3)).findAll(any(Specification.class), any(Pageable.class));
+        }
+
+        @Test
+        void throwsIfNationalityUnknown() {
+            ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                    () -> playerService.getPlayers(null, List.of("XX"), null, null, null, null, null,
+                            SortBy.NAME, "asc", 0, 10));
+            assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        }
+
+        @Test
+        void throwsIfNationalityNameUnknown() {
+            ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                    () -> playerService.getPlayers(null, List.of("Japan", "Atlantis"), null, null, null, null, null,
+                            SortBy.NAME, "asc", 0, 10));
+            assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+            verifyNoInteractions(playerRepository);
+        }
+
+        @Test
+        void throwsIfPositionUnknown() {
+            ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                    () -> playerService.getPlayers(null, null, null, null, List.of("Striker"), null, null,
+                            SortBy.NAME, "asc", 0, 10));
+            assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("getPlayerFacets")
+    class GetPlayerFacets {
+        @Test
+        void countsFacetsOfTheNormalizedFilter() {
+            PlayerFacetsDTO facets = new PlayerFacetsDTO();
+            when(playerRepository.countFacets(any(PlayerFilter.class), any(LocalDate.class))).thenReturn(facets);
+
+            PlayerFacetsDTO result = playerService.getPlayerFacets(" Messi ", List.of("ar"), null, null,
+                    List.of("ST"), null, null);
+
+            assertThat(result).isSameAs(facets);
+            verify(playerRepository).countFacets(eq(PlayerFilter.of(" Messi ", List.of("ar"), null, null,
+                    List.of("ST"), null, null)), any(LocalDate.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("getChanges")
+    class GetChanges {
+        @Test
+        void returnsChangesAfterSequenceWithResumePoint() {
+            PlayerDTO before = validPlayerDTO;
+            when(changeRepository.findBySequenceGreaterThanOrderBySequenceAsc(eq(10L), any(Pageable.class)))
+                    .thenReturn(List.of(
+                            new PlayerChangeEntity(11L, PlayerChangedEvent.Type.CREATED, 1L, before, null, new Date()),
+                            new PlayerChangeEntity(12L, PlayerChangedEvent.Type.DELETED, 1L, null, null, new Date()),
+                            new PlayerChangeEntity(13L, PlayerChangedEvent.Type.CLEARED, null, null, null, new Date())));
+
+            PlayerChangesDTO result = playerService.getChanges(10L, 2);
+
+            assertThat(result.getChanges()).extracting(PlayerChangeDTO::getSequence).containsExactly(11L, 12L);
+            assertThat(result.getNextSince()).isEqualTo(12L);
+            assertThat(result.isHasMore()).isTrue();
+        }
+
+        @Test
+        void keepsPositionWhenNothingChanged() {
+            when(changeRepository.findBySequenceGreaterThanOrderBySequenceAsc(eq(42L), any(Pageable.class)))
+                    .thenReturn(List.of());
+
+            PlayerChangesDTO result = playerService.getChanges(42L, 100);
+
+            assertThat(result.getChanges()).isEmpty();
+            assertThat(result.getNextSince()).isEqualTo(42L);
+            assertThat(result.isHasMore()).isFalse();
+        }
+
+        @Test
+        void throwsIfSinceNegative() {
+            ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                    () -> playerService.getChanges(-1L, 100));
+            assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        }
     }
 
     @Nested
@@ -278,6 +488,7 @@ class PlayerServiceImplTest {
             doNothing().when(playerRepository).deleteAll();
             playerService.deleteAll();
             verify(playerRepository).deleteAll();
+            verify(eventPublisher).publishEvent(PlayerChangedEvent.cleared());
         }
     }
 
@@ -300,5 +511,68 @@ class PlayerServiceImplTest {
                     () -> playerService.bulkUploadPlayers(multipartFile));
             assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
         }
+
+        @Test
+        void createsEachRowInItsOwnTransaction() throws IOException {
+            String csv = "firstName,lastName,dateOfBirth,height,nationalities,positions\n"
+                    + "John,Doe,1990-01-01,1.80,BR,ST\n"
+                    + "Jane,Doe,1991-01-01,1.70,AR,CB\n";
+            when(multipartFile.isEmpty()).thenReturn(false);
+            when(multipartFile.getInputStream()).thenReturn(new ByteArrayInputStream(csv.getBytes()));
+            when(playerRepository.save(any(PlayerEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            Map<String, Object> result = playerService.bulkUploadPlayers(multipartFile);
+
+            assertThat(result.get("successfully_created")).isEqualTo(List.of(2, 3));
+            // The insert and the change log entry written by the event listener share each transaction
+            verify(transactionManager, times(2)).getTransaction(any());
+            verify(transactionManager, times(2)).commit(any());
+        }
+
+        @Test
+        void countsFailedRows() throws IOException {
+            String csv = "firstName,lastName,dateOfBirth,height,nationalities,positions\n"
+                    + "John,Doe,not-a-date,1.80,BR,ST\n";
+            when(multipartFile.isEmpty()).thenReturn(false);
+            when(multipartFile.getInputStream()).thenReturn(new ByteArrayInputStream(csv.getBytes()));
+
+            Map<String, Object> result = playerService.bulkUploadPlayers(multipartFile);
+
+            assertThat(result.get("failed_to_create")).isEqualTo(List.of(2));
+            assertThat(importRegistry.get("players.import.rows").tag("outcome", "failed").counter().count())
+                    .isEqualTo(1.0);
+            assertThat(importRegistry.get("players.import.rows").tag("outcome", "created").counter().count())
+                    .isZero();
+            assertThat(importRegistry.get("players.import").timer().count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("parseCSVRow")
+    class ParseCSVRow {
+        private final String[] columns = "firstName,lastName,dateOfBirth,height,nationalities,positions".split(",");
+
+        @Test
+        void acceptsNationalityNames() {
+            PlayerDTO dto = PlayerServiceImpl.parseCSVRow("Son,Heung-min,1992-07-08,1.83,Japan|South Korea,st/LW",
+                    columns);
+
+            assertThat(dto.getNationalities()).containsExactlyInAnyOrder(Nationality.JP, Nationality.KR);
+            assertThat(dto.getPositions()).containsExactlyInAnyOrder(Positions.ST, Positions.LW);
+        }
+
+        @Test
+        void mixesCodesAndAccentFoldedNames() {
+            PlayerDTO dto = PlayerServiceImpl.parseCSVRow("Leandro,Bacuna,1991-08-21,1.87, nl ;Curacao,CM",
+                    columns);
+
+            assertThat(dto.getNationalities()).containsExactlyInAnyOrder(Nationality.NL, Nationality.CW);
+        }
+
+        @Test
+        void rejectsUnknownNationalityName() {
+            assertThat(PlayerServiceImpl.parseCSVRow("John,Doe,1990-01-01,1.80,Japan|Atlantis,ST", columns))
+                    .isNull();
+        }
     }
 }
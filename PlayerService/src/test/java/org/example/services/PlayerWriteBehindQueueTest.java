@@ -0,0 +1,69 @@
+package org.example.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.dtos.PendingCreateDTO;
+import org.example.dtos.PlayerDTO;
+import org.example.utils.RetryLaterException;
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.PendingStatus;
+import org.example.utils.enums.Positions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlayerWriteBehindQueue")
+class PlayerWriteBehindQueueTest {
+
+    @Mock
+    private PlayerService playerService;
+
+    private PlayerWriteBehindQueue queue;
+    private PlayerDTO player;
+
+    @BeforeEach
+    void setUp() {
+        // Never started: nothing is flushed until stop()
+        queue = new PlayerWriteBehindQueue(playerService, 10, 500, Duration.ofSeconds(1), Duration.ofMinutes(10),
+                new SimpleMeterRegistry());
+        player = new PlayerDTO(null, "Lionel", "Messi", Set.of(Nationality.AR), LocalDate.of(1987, 6, 24),
+                Set.of(Positions.ST), 1.70, null, null, null);
+    }
+
+    @Test
+    @DisplayName("Commits the creates queued before shutdown")
+    void stopFlushesQueuedCreates() throws Exception {
+        PlayerDTO created = new PlayerDTO(1L, "Lionel", "Messi", Set.of(Nationality.AR), LocalDate.of(1987, 6, 24),
+                Set.of(Positions.ST), 1.70, null, null, 0L);
+        when(playerService.createPlayers(List.of(player))).thenReturn(List.of(created));
+        PendingCreateDTO pending = queue.submit(player);
+
+        queue.stop();
+
+        assertThat(queue.status(pending.getTicket()).orElseThrow().getStatus()).isEqualTo(PendingStatus.CREATED);
+    }
+
+    @Test
+    @DisplayName("Refuses creates after shutdown with 503 instead of losing them")
+    void submitAfterStopIsRefused() throws Exception {
+        queue.stop();
+
+        RetryLaterException e = assertThrows(RetryLaterException.class, () -> queue.submit(player));
+
+        assertThat(e.getStatusCode().value()).isEqualTo(503);
+        verify(playerService, never()).createPlayers(anyList());
+    }
+}
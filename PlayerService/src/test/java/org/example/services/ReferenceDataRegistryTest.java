@@ -0,0 +1,70 @@
+package org.example.services;
+
+import org.example.entities.NationalityEntity;
+import org.example.entities.PositionEntity;
+import org.example.repositories.NationalityRepository;
+import org.example.repositories.PositionRepository;
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.Positions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReferenceDataRegistry")
+class ReferenceDataRegistryTest {
+
+    @Mock
+    private NationalityRepository nationalityRepository;
+
+    @Mock
+    private PositionRepository positionRepository;
+
+    @InjectMocks
+    private ReferenceDataRegistry registry;
+
+    @Test
+    @DisplayName("A nationality conflict reloads the nationalities and still seeds the positions")
+    void conflictOnOneTableSeedsTheOther() {
+        List<NationalityEntity> allNationalities = Arrays.stream(Nationality.values())
+                .map(NationalityEntity::new)
+                .toList();
+        when(nationalityRepository.findAll()).thenReturn(List.of(), allNationalities);
+        when(nationalityRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(positionRepository.findAll()).thenReturn(List.of());
+
+        registry.seed();
+
+        verify(nationalityRepository, times(2)).findAll();
+        verify(nationalityRepository, times(1)).saveAll(anyList());
+        verify(positionRepository).saveAll(argThat(rows -> ((List<?>) rows).size() == Positions.values().length));
+        assertThat(registry.nationality(Nationality.IL).getNationality()).isEqualTo(Nationality.IL);
+        assertThat(registry.position(Positions.ST)).isEqualTo(new PositionEntity(Positions.ST));
+    }
+
+    @Test
+    @DisplayName("Rows still missing after a conflict are inserted on the next attempt")
+    void retriesRowsStillMissing() {
+        when(nationalityRepository.findAll()).thenReturn(List.of(), List.of(new NationalityEntity(Nationality.IL)));
+        when(nationalityRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(positionRepository.findAll()).thenReturn(Arrays.stream(Positions.values()).map(PositionEntity::new).toList());
+
+        registry.seed();
+
+        verify(nationalityRepository).saveAll(argThat(rows -> ((List<?>) rows).size() == Nationality.values().length - 1));
+        verify(positionRepository, never()).saveAll(anyList());
+    }
+}
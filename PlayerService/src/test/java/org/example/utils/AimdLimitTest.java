@@ -0,0 +1,90 @@
+package org.example.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("AimdLimit")
+class AimdLimitTest {
+
+    private static final long THRESHOLD = Duration.ofHours(1).toNanos();
+    private static final long FAST = Duration.ofMillis(1).toNanos();
+
+    @Test
+    @DisplayName("Grows by one after a full window of fast requests")
+    void growsByOnePerWindow() {
+        AimdLimit limit = new AimdLimit(4, 1, 10, 0.5, THRESHOLD);
+
+        // 4 + 1/4 + 1/4.25 + 1/4.49 + 1/4.71 is just under 5
+        for (int i = 0; i < 4; i++) {
+            limit.release(limit.tryAcquire() + 3, FAST, false);
+        }
+        assertThat(limit.getLimit()).isEqualTo(4);
+
+        limit.release(limit.tryAcquire() + 3, FAST, false);
+        assertThat(limit.getLimit()).isEqualTo(5);
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Does not grow while mostly idle nor beyond the maximum")
+    void growthIsBounded() {
+        AimdLimit idle = new AimdLimit(4, 1, 10, 0.5, THRESHOLD);
+        for (int i = 0; i < 100; i++) {
+            idle.release(idle.tryAcquire(), FAST, false);
+        }
+        assertThat(idle.getLimit()).isEqualTo(4);
+
+        AimdLimit busy = new AimdLimit(4, 1, 5, 0.5, THRESHOLD);
+        for (int i = 0; i < 100; i++) {
+            busy.release(5, FAST, false);
+        }
+        assertThat(busy.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Cuts by the backoff ratio once per threshold period")
+    void decreasesOncePerPeriod() {
+        AimdLimit limit = new AimdLimit(8, 3, 10, 0.5, THRESHOLD);
+
+        limit.release(limit.tryAcquire(), FAST, true);
+        assertThat(limit.getLimit()).isEqualTo(4);
+
+        // Same burst: neither a failure nor a slow request cuts again within the period
+        limit.release(limit.tryAcquire(), FAST, true);
+        limit.release(limit.tryAcquire(), THRESHOLD + 1, false);
+        assertThat(limit.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Never falls below the minimum")
+    void decreaseIsBounded() {
+        AimdLimit limit = new AimdLimit(4, 3, 10, 0.5, 0);
+
+        limit.release(limit.tryAcquire(), FAST, true);
+
+        assertThat(limit.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Sheds requests beyond the limit")
+    void shedsAboveLimit() {
+        AimdLimit limit = new AimdLimit(2, 1, 10, 0.5, THRESHOLD);
+
+        assertThat(limit.tryAcquire()).isEqualTo(1);
+        assertThat(limit.tryAcquire()).isEqualTo(2);
+        assertThat(limit.tryAcquire()).isZero();
+        assertThat(limit.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Rejects inconsistent settings")
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimit(4, 5, 4, 0.5, THRESHOLD));
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimit(4, 1, 10, 1.0, THRESHOLD));
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.utils;
+
+import org.example.utils.enums.Nationality;
+import org.example.utils.enums.Positions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("PlayerFilter")
+class PlayerFilterTest {
+
+    @Test
+    @DisplayName("Accepts nationality codes and names, and position codes in any case")
+    void normalizesValues() {
+        PlayerFilter filter = PlayerFilter.of("  Leo ", List.of("Japan", " kr "), null, null, List.of("st", "CAM"),
+                null, null);
+
+        assertThat(filter.getName()).isEqualTo("leo");
+        assertThat(filter.getNationalities()).containsExactlyInAnyOrder(Nationality.JP, Nationality.KR);
+        assertThat(filter.getPositions()).containsExactlyInAnyOrder(Positions.ST, Positions.CAM);
+    }
+
+    @Test
+    @DisplayName("Rejects unknown nationalities and positions")
+    void rejectsUnknownValues() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PlayerFilter.of(null, List.of("Atlantis"), null, null, null, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> PlayerFilter.of(null, List.of("JP"), null, null, List.of("Striker"), null, null));
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.utils;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the SQL statements an operation executes on the current thread, by type, so tests can
+ * hold each endpoint to a statement budget and fail when N+1 loading creeps back in.
+ * <p>
+ * Import {@link Config} into a Spring test context to route its DataSource through the counting proxy.
+ */
+public final class SqlStatementCounter {
+
+    static final String DATA_SOURCE_NAME = "sql-statement-counter";
+
+    private SqlStatementCounter() {
+    }
+
+    /**
+     * An operation under test, such as a MockMvc request.
+     */
+    @FunctionalInterface
+    public interface Operation {
+        void run() throws Exception;
+    }
+
+    /**
+     * Statements executed by an operation.
+     */
+    public record Counts(long selects, long inserts, long updates, long deletes, long other) {
+
+        public long total() {
+            return selects + inserts + updates + deletes + other;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d statements (%d selects, %d inserts, %d updates, %d deletes, %d other)",
+                    total(), selects, inserts, updates, deletes, other);
+        }
+    }
+
+    /**
+     * Wraps the DataSource of the test context in a proxy counting statements per thread.
+     */
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        static BeanPostProcessor sqlStatementCountingProxy() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource)
+                        return ProxyDataSourceBuilder.create(dataSource).name(DATA_SOURCE_NAME).countQuery().build();
+                    return bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * Run an operation and count the statements it executed on the current thread.
+     *
+     * @param operation the operation
+     * @return the statement counts
+     */
+    public static Counts count(Operation operation) throws Exception {
+        QueryCountHolder.clear();
+        try {
+            operation.run();
+            QueryCount count = QueryCountHolder.get(DATA_SOURCE_NAME);
+            return count == null
+                    ? new Counts(0, 0, 0, 0, 0)
+                    : new Counts(count.getSelect(), count.getInsert(), count.getUpdate(), count.getDelete(),
+                    count.getOther());
+        } finally {
+            QueryCountHolder.clear();
+        }
+    }
+
+    /**
+     * Run an operation and fail if it executed more statements than its budget.
+     *
+     * @param description what the operation is, for the failure message
+     * @param budget      the most statements the operation may execute
+     * @param operation   the operation
+     * @return the statement counts
+     */
+    public static Counts assertStatementBudget(String description, long budget, Operation operation) throws Exception {
+        Counts counts = count(operation);
+        assertThat(counts.total())
+                .as("%s executed %s, budget is %d", description, counts, budget)
+                .isLessThanOrEqualTo(budget);
+        return counts;
+    }
+}
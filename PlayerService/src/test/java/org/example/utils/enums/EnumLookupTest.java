@@ -0,0 +1,73 @@
+package org.example.utils.enums;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EnumLookup")
+class EnumLookupTest {
+
+    private EnumLookup<Positions> lookup;
+
+    @BeforeEach
+    void setUp() {
+        lookup = new EnumLookup<>(Positions.values(), 3, 8);
+    }
+
+    @Test
+    @DisplayName("Finds codes regardless of case and surrounding whitespace")
+    void byCode() {
+        assertThat(lookup.byCode("ST")).isEqualTo(Positions.ST);
+        assertThat(lookup.byCode("cam")).isEqualTo(Positions.CAM);
+        assertThat(lookup.byCode(" \tLwB \n")).isEqualTo(Positions.LWB);
+    }
+
+    @Test
+    @DisplayName("Returns null for codes that are unknown, too long or not letters")
+    void byCodeMisses() {
+        assertThat(lookup.byCode("XY")).isNull();
+        assertThat(lookup.byCode("STRK")).isNull();
+        assertThat(lookup.byCode("S T")).isNull();
+        assertThat(lookup.byCode("C1")).isNull();
+        assertThat(lookup.byCode("É")).isNull();
+        assertThat(lookup.byCode("  ")).isNull();
+        assertThat(lookup.byCode(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Matches names on their letters and digits only, without case or accents")
+    void byName() {
+        lookup.addName("Centre-Forward", Positions.CF, false);
+        lookup.addName("Défenseur Central", Positions.CB, false);
+
+        assertThat(lookup.byName("centre forward")).isEqualTo(Positions.CF);
+        assertThat(lookup.byName("CENTREFORWARD!")).isEqualTo(Positions.CF);
+        assertThat(lookup.byName("defenseur central")).isEqualTo(Positions.CB);
+        assertThat(lookup.byName("DÉFENSEUR-CENTRAL")).isEqualTo(Positions.CB);
+        assertThat(lookup.byName("centre")).isNull();
+        assertThat(lookup.byName("")).isNull();
+        assertThat(lookup.byName(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Keeps the first constant of a name unless asked to replace it")
+    void addNameReplace() {
+        lookup.addName("Winger", Positions.LW, false);
+        lookup.addName("winger", Positions.RW, false);
+        assertThat(lookup.byName("Winger")).isEqualTo(Positions.LW);
+
+        lookup.addName("WINGER", Positions.RW, true);
+        assertThat(lookup.byName("Winger")).isEqualTo(Positions.RW);
+    }
+
+    @Test
+    @DisplayName("Ignores names without letters or digits")
+    void addNameWithoutLetters() {
+        lookup.addName(" - ", Positions.ST, false);
+
+        assertThat(lookup.byName("")).isNull();
+        assertThat(lookup.byName("--")).isNull();
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.utils.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Nationality")
+class NationalityTest {
+
+    @Test
+    @DisplayName("Looks up countries by name")
+    void lookupByName() {
+        assertThat(Nationality.lookup("Japan")).isEqualTo(Nationality.JP);
+        assertThat(Nationality.lookup("South Korea")).isEqualTo(Nationality.KR);
+        assertThat(Nationality.lookup("south korea")).isEqualTo(Nationality.KR);
+        assertThat(Nationality.lookup("Korea Republic")).isEqualTo(Nationality.KR);
+        assertThat(Nationality.lookup("North Korea")).isEqualTo(Nationality.KP);
+        assertThat(Nationality.lookup("USA")).isEqualTo(Nationality.US);
+    }
+
+    @Test
+    @DisplayName("Looks up codes regardless of case and surrounding whitespace")
+    void lookupByCode() {
+        assertThat(Nationality.lookup("jp")).isEqualTo(Nationality.JP);
+        assertThat(Nationality.lookup(" KR ")).isEqualTo(Nationality.KR);
+        assertThat(Nationality.lookup("\tkR")).isEqualTo(Nationality.KR);
+    }
+
+    @Test
+    @DisplayName("Folds accents in names, both ways")
+    void lookupFoldsAccents() {
+        assertThat(Nationality.lookup("Curaçao")).isEqualTo(Nationality.CW);
+        assertThat(Nationality.lookup("Curacao")).isEqualTo(Nationality.CW);
+        assertThat(Nationality.lookup("REUNION")).isEqualTo(Nationality.RE);
+        assertThat(Nationality.lookup("Aland Islands")).isEqualTo(Nationality.AX);
+        assertThat(Nationality.lookup("Türkiye")).isEqualTo(Nationality.TR);
+        assertThat(Nationality.lookup("Turkiye")).isEqualTo(Nationality.TR);
+    }
+
+    @Test
+    @DisplayName("Returns null for unknown values")
+    void lookupMisses() {
+        assertThat(Nationality.lookup("XX")).isNull();
+        assertThat(Nationality.lookup("Atlantis")).isNull();
+        assertThat(Nationality.lookup("Korea South Republic")).isNull();
+        assertThat(Nationality.lookup("")).isNull();
+        assertThat(Nationality.lookup(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Still rejects unknown codes in fromCode")
+    void fromCodeThrows() {
+        assertThat(Nationality.fromCode("JP")).isEqualTo(Nationality.JP);
+        assertThrows(IllegalArgumentException.class, () -> Nationality.fromCode("Japan"));
+    }
+}
@@ -3,6 +3,8 @@ import PlayerDTO from "../dtos/PlayerDTO";
 import UpdatePlayerDTO from "../dtos/UpdatePlayerDTO";
 import PaginatedResponse from "../utils/interfaces/paginated-response";
 import CsvUploadResponse from "../utils/interfaces/csv-upload-response";
+import PlayerFacets from "../utils/interfaces/player-facets";
+import PlayerChanges from "../utils/interfaces/player-changes";
 import getEnvVariables from "../etc/load-env-variables";
 
 const { playerServiceURL } = getEnvVariables();
@@ -79,14 +81,44 @@ const playerService = {
    * Updates an existing player by ID.
    * @param id The player ID to update.
    * @param player The updated player data.
+   * @param version Optional version the update is based on; the backend answers 412 if the player changed since.
    * @returns Promise that resolves to the updated player.
    */
   updatePlayer: async (
     id: number,
-    player: UpdatePlayerDTO
+    player: UpdatePlayerDTO,
+    version?: number
   ): Promise<PlayerDTO> => {
     return requestWrapper(async () => {
-      const response = await axios.put(`${playerServiceURL}/${id}`, player);
+      const headers =
+        version !== undefined ? { "If-Match": `"${version}"` } : undefined;
+      const response = await axios.put(`${playerServiceURL}/${id}`, player, {
+        headers,
+      });
+      return response.data as PlayerDTO;
+    });
+  },
+
+  /**
+   * Partially updates a player with a JSON Merge Patch: only the given fields change.
+   * @param id The player ID to update.
+   * @param patch The fields to change; arrays replace the whole set.
+   * @param version Optional version the patch is based on; the backend answers 412 if the player changed since.
+   * @returns Promise that resolves to the updated player.
+   */
+  patchPlayer: async (
+    id: number,
+    patch: Partial<UpdatePlayerDTO>,
+    version?: number
+  ): Promise<PlayerDTO> => {
+    return requestWrapper(async () => {
+      const headers: Record<string, string> = {
+        "Content-Type": "application/merge-patch+json",
+      };
+      if (version !== undefined) headers["If-Match"] = `"${version}"`;
+      const response = await axios.patch(`${playerServiceURL}/${id}`, patch, {
+        headers,
+      });
       return response.data as PlayerDTO;
     });
   },
@@ -141,6 +173,47 @@ const playerService = {
     });
   },
 
+  /**
+   * Retrieves the player changes recorded after a sequence number, oldest first.
+   * Keep the returned nextSince and pass it back to sync incrementally.
+   * @param since The last sequence number seen (0 for the whole feed).
+   * @param limit Optional maximum number of changes to return.
+   * @returns Promise that resolves to the changes and the sequence to resume from.
+   */
+  getChanges: async (since: number, limit?: number): Promise<PlayerChanges> => {
+    return requestWrapper(async () => {
+      const response = await axios.get(`${playerServiceURL}/changes`, {
+        params: { since, limit },
+        paramsSerializer,
+      });
+      return response.data as PlayerChanges;
+    });
+  },
+
+  /**
+   * Retrieves player counts per nationality, position, age range and height range.
+   * Accepts the same filters as getPlayers; each facet ignores its own filter.
+   * @param params Query parameters for filtering.
+   * @returns Promise that resolves to the facet counts.
+   */
+  getPlayerFacets: async (params: {
+    name?: string;
+    nationalities?: string[];
+    minAge?: number;
+    maxAge?: number;
+    positions?: string[];
+    minHeight?: number;
+    maxHeight?: number;
+  }): Promise<PlayerFacets> => {
+    return requestWrapper(async () => {
+      const response = await axios.get(`${playerServiceURL}/facets`, {
+        params,
+        paramsSerializer,
+      });
+      return response.data as PlayerFacets;
+    });
+  },
+
   /**
    * Uploads a CSV file for bulk player creation.
    * @param file The CSV file to upload.
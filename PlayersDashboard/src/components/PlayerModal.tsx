@@ -140,7 +140,13 @@ const PlayerModal: React.FC<PlayerModalProps> = ({
       dateOfBirth: form.dateOfBirth,
       height: form.height,
     };
-    const result = await handleUpdatePlayer(playerId, update, setAlert);
+    const result = await handleUpdatePlayer(
+      playerId,
+      update,
+      setAlert,
+      undefined,
+      form.version
+    );
     setLoading(false);
     if (result) {
       onSuccess?.(result);
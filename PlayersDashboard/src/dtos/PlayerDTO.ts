@@ -31,4 +31,7 @@ export default interface PlayerDTO {
 
   /** Last modified date (optional on POST request) - ISO date string (Date) */
   lastModifiedDate?: string;
+
+  /** Version of the player, sent back as If-Match on update (set by the backend) */
+  version?: number;
 }
@@ -0,0 +1,31 @@
+import { useEffect, useRef } from "react";
+import getEnvVariables from "../etc/load-env-variables";
+import type { PlayerChangeNotification } from "../utils/interfaces/player-changes";
+
+const { playerServiceURL } = getEnvVariables();
+
+/**
+ * Custom hook that subscribes to the server's player change stream (Server-Sent Events).
+ *
+ * The browser reconnects on its own after a dropped connection, sending the ID of the last
+ * change it received so the server replays the changes that were missed. When too many were
+ * missed the server asks for a full reload instead, reported as a change of `null`.
+ *
+ * @param onChange Called with every pushed change, or `null` when everything should be reloaded.
+ */
+export default function usePlayerChanges(
+  onChange: (change: PlayerChangeNotification | null) => void
+): void {
+  // Keep the latest callback without reopening the stream on every render
+  const callback = useRef(onChange);
+  callback.current = onChange;
+
+  useEffect(() => {
+    const source = new EventSource(`${playerServiceURL}/stream`);
+    source.addEventListener("player-change", (event) => {
+      callback.current(JSON.parse((event as MessageEvent).data));
+    });
+    source.addEventListener("resync", () => callback.current(null));
+    return () => source.close();
+  }, []);
+}
@@ -1,10 +1,11 @@
-import React, { useState, useEffect } from "react";
+import React, { useState, useEffect, useRef } from "react";
 import { Box, Typography } from "@mui/material";
 import type { GridPaginationModel, GridRowParams } from "@mui/x-data-grid";
 import PlayerDTO from "../dtos/PlayerDTO";
 import ThemeModeSwitcher from "../components/ThemeModeSwitcher";
 import FilterComponentDrawer from "../components/FilterComponentDrawer";
 import useAlert from "../hooks/useAlert";
+import usePlayerChanges from "../hooks/usePlayerChanges";
 import PlayerModal from "../components/PlayerModal";
 import AddIcon from "@mui/icons-material/Add";
 import Button from "@mui/material/Button";
@@ -20,6 +21,56 @@ import PlayerTable from "../components/player/PlayerTable";
 import UploadCSVButton from "../components/player/UploadCSVButton";
 import DashboardHeader from "../components/player/DashboardHeader";
 import { getPlayerColumns } from "../components/playerColumns";
+import type { Filters } from "../utils/interfaces/filters";
+import type { PlayerChangeNotification } from "../utils/interfaces/player-changes";
+
+/**
+ * Player fields each active filter reads, plus the first name the list is
+ * sorted by. A change to any of them may move a player across pages.
+ * @param filters The current filter state.
+ * @returns The fields deciding which players the current page shows.
+ */
+const fieldsAffectingPage = (filters: Filters): (keyof PlayerDTO)[] => {
+  const fields: (keyof PlayerDTO)[] = ["firstName"];
+  if (filters.name) fields.push("lastName");
+  if (filters.nationality.length > 0) fields.push("nationalities");
+  if (filters.minAge || filters.maxAge) fields.push("dateOfBirth");
+  if (filters.minHeight || filters.maxHeight) fields.push("height");
+  if (filters.positions.length > 0) fields.push("positions");
+  return fields;
+};
+
+/**
+ * Checks a player against the filters the same way the backend does.
+ * @param player The player.
+ * @param filters The current filter state.
+ * @returns Whether the player belongs to the filtered list.
+ */
+const matchesFilters = (player: PlayerDTO, filters: Filters): boolean => {
+  const fullName = `${player.firstName} ${player.lastName}`.toLowerCase();
+  if (filters.name && !fullName.includes(filters.name.trim().toLowerCase()))
+    return false;
+  if (!filters.nationality.every((code) => player.nationalities.includes(code)))
+    return false;
+  if (!filters.positions.every((code) => player.positions.includes(code)))
+    return false;
+  const today = new Date();
+  const birth = new Date(player.dateOfBirth);
+  const age =
+    today.getFullYear() -
+    birth.getFullYear() -
+    (today.getMonth() < birth.getMonth() ||
+    (today.getMonth() === birth.getMonth() && today.getDate() < birth.getDate())
+      ? 1
+      : 0);
+  if (filters.minAge && age < Number(filters.minAge)) return false;
+  if (filters.maxAge && age > Number(filters.maxAge)) return false;
+  if (filters.minHeight && player.height < Number(filters.minHeight))
+    return false;
+  if (filters.maxHeight && player.height > Number(filters.maxHeight))
+    return false;
+  return true;
+};
 
 /**
  * Main page component for the Player Dashboard application.
@@ -130,6 +181,67 @@ const MainPage: React.FC = () => {
     // eslint-disable-next-line react-hooks/exhaustive-deps
   }, []);
 
+  // Refetch the current page, coalescing bursts of changes into one request
+  const refreshTimer = useRef<ReturnType<typeof setTimeout> | undefined>(undefined);
+  const scheduleRefresh = () => {
+    clearTimeout(refreshTimer.current);
+    refreshTimer.current = setTimeout(() => fetchPlayers(), 300);
+  };
+  useEffect(() => () => clearTimeout(refreshTimer.current), []);
+
+  /**
+   * Applies a change made elsewhere to the visible page. Only refetches when
+   * the change can alter which players the page shows: a row would move or
+   * leave the filtered list, or a player created or deleted at or before this
+   * page shifts the pagination.
+   * @param change The pushed change, or `null` to reload everything.
+   */
+  const applyChange = (change: PlayerChangeNotification | null) => {
+    if (change === null) {
+      scheduleRefresh();
+      return;
+    }
+    const visible = players.some((player) => player.id === change.playerId);
+    switch (change.type) {
+      case "CLEARED":
+        clearTimeout(refreshTimer.current);
+        setPlayers([]);
+        setTotalPlayers(0);
+        break;
+      case "UPDATED": {
+        const moves = fieldsAffectingPage(filters).some(
+          (field) => field in change.fields
+        );
+        if (moves) scheduleRefresh();
+        else if (visible)
+          setPlayers((rows) =>
+            rows.map((row) =>
+              row.id === change.playerId ? { ...row, ...change.fields } : row
+            )
+          );
+        break;
+      }
+      case "CREATED": {
+        const created = change.fields as PlayerDTO;
+        if (!matchesFilters(created, filters)) break;
+        const last = players[players.length - 1];
+        const afterPage =
+          players.length === filters.rowsPerPage &&
+          created.firstName.localeCompare(last.firstName, undefined, {
+            sensitivity: "base",
+          }) > 0;
+        if (afterPage) setTotalPlayers((total) => total + 1);
+        else scheduleRefresh();
+        break;
+      }
+      case "DELETED":
+        // Deletions carry no fields: one on an earlier page may shift this one
+        if (visible || page > 0) scheduleRefresh();
+        break;
+    }
+  };
+  usePlayerChanges(applyChange);
+
   /**
    * Handles pagination changes and fetches new data.
    * @param model The new pagination model from the data grid.
@@ -11,6 +11,7 @@ import React from "react";
  * @param data The updated player data.
  * @param setAlert Function to display alert messages to the user.
  * @param onSuccess Optional callback to execute on successful update.
+ * @param version Optional version of the player the update is based on.
  * @returns Promise that resolves to the updated player or null if failed.
  */
 export async function handleUpdatePlayer(
@@ -22,17 +23,21 @@ export async function handleUpdatePlayer(
       severity: "error" | "warning" | "info" | "success";
     } | null
   ) => void,
-  onSuccess?: (player: PlayerDTO) => void
+  onSuccess?: (player: PlayerDTO) => void,
+  version?: number
 ): Promise<PlayerDTO | null> {
   try {
-    const result = await playerService.updatePlayer(id, data);
+    const result = await playerService.updatePlayer(id, data, version);
     setAlert({ message: "Player updated successfully!", severity: "success" });
     if (onSuccess) onSuccess(result);
     return result;
   } catch (e: unknown) {
     if (isAxiosError(e)) {
       let errorMessage = "Failed to submit player.";
-      if (e.response?.data) {
+      if (e.response?.status === 412) {
+        errorMessage =
+          "This player was changed by someone else. Reopen it to see the latest version.";
+      } else if (e.response?.data) {
         if (typeof e.response.data === "object") {
           // Handle validation error object
           const errorObj = e.response.data as Record<string, string>;
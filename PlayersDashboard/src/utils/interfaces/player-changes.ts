@@ -0,0 +1,43 @@
+import PlayerDTO from "../../dtos/PlayerDTO";
+
+/**
+ * Interface for one entry of the player change feed.
+ */
+export interface PlayerChange {
+  /** Position of the change in the feed. */
+  sequence: number;
+  /** Kind of change. */
+  type: "CREATED" | "UPDATED" | "DELETED" | "CLEARED";
+  /** ID of the changed player (null when every player was removed). */
+  playerId: number | null;
+  /** Player state after the change (null for deletions). */
+  player: PlayerDTO | null;
+  /** Date when the change was recorded. */
+  changedAt: string;
+}
+
+/**
+ * Interface for a page of the player change feed.
+ */
+export default interface PlayerChanges {
+  /** Changes after the requested sequence, oldest first. */
+  changes: PlayerChange[];
+  /** Sequence to pass as `since` for the next page. */
+  nextSince: number;
+  /** Whether more changes are already available. */
+  hasMore: boolean;
+}
+
+/**
+ * Interface for a change pushed over the player change stream.
+ */
+export interface PlayerChangeNotification {
+  /** Position of the change in the feed, also the event ID. */
+  sequence: number;
+  /** Kind of change. */
+  type: PlayerChange["type"];
+  /** ID of the changed player (null when every player was removed). */
+  playerId: number | null;
+  /** New value of every changed field (empty for deletions). */
+  fields: Partial<PlayerDTO>;
+}
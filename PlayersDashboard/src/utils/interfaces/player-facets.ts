@@ -0,0 +1,16 @@
+/**
+ * Interface for faceted player counts returned by the facets endpoint.
+ * Each facet counts the players matching every filter except its own.
+ */
+export default interface PlayerFacets {
+  /** Number of players matching all filters. */
+  total: number;
+  /** Player count per nationality code. */
+  nationalities: Record<string, number>;
+  /** Player count per position. */
+  positions: Record<string, number>;
+  /** Player count per age range (e.g. "FROM_20_TO_24"). */
+  ageBuckets: Record<string, number>;
+  /** Player count per height range (e.g. "FROM_1_80_TO_1_90"). */
+  heightBuckets: Record<string, number>;
+}